@@ -0,0 +1,111 @@
+package com.github.nonsugertea7821.iris.src.common.auth.model;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.github.benmanes.caffeine.cache.Scheduler;
+import com.github.nonsugertea7821.iris.src.common.audit.AuditLog;
+import com.github.nonsugertea7821.iris.src.common.auth.dto.User;
+import com.github.nonsugertea7821.iris.src.common.metrics.AuthMetrics;
+import com.github.nonsugertea7821.iris.src.common.properties.AuditProperties;
+import com.github.nonsugertea7821.iris.src.common.properties.AuthProperties;
+import com.github.nonsugertea7821.iris.src.common.properties.CacheProperties;
+import com.github.nonsugertea7821.iris.src.common.properties.MetricsProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+
+/**
+ * 認証/リクエストフィルターベンチマーク<br>
+ * 認証済みリクエスト1件あたりのフィルター処理コストを、検証済みトークンキャッシュの有無別に計測する。
+ *
+ * @author nonsugertea7821
+ * @version 0.1.1
+ * @since 2026/10/17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "benchmark-secret-benchmark-secret-benchmark-secret-0123456789";
+
+    /**
+     * 検証済みトークンキャッシュの有効化
+     */
+    @Param({"true", "false"})
+    public boolean tokenCacheEnabled;
+
+    private JwtAuthenticationFilter filter;
+    private String authorization;
+
+    @Setup
+    public void setup() throws Exception {
+        AuthProperties authProperties = new AuthProperties();
+        authProperties.setJwtSecret(SECRET);
+        authProperties.setAccessTokenExpireSeconds(3600);
+        authProperties.setRefreshTokenExpireSeconds(3600);
+        authProperties.setTokenCacheEnabled(tokenCacheEnabled);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AuthMetrics authMetrics = new AuthMetrics(meterRegistry, new MetricsProperties());
+        RefreshTokenStore refreshTokenStore = new InMemoryRefreshTokenStore(Scheduler.systemScheduler());
+        VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(authProperties, new CacheProperties(), meterRegistry);
+        verifiedTokenCache.init();
+        SigningKeyRing signingKeyRing = new SigningKeyRing(authProperties, new DefaultResourceLoader(), null, null,
+                verifiedTokenCache);
+        signingKeyRing.init();
+        JwtProcessor jwtProcessor = new JwtProcessor(null, authProperties,
+                new StaticListableBeanFactory().getBeanProvider(AccessTokenRevocationHook.class),
+                refreshTokenStore, new RevokedTokenIndex(refreshTokenStore, authProperties), authMetrics, signingKeyRing);
+        jwtProcessor.init();
+        filter = new JwtAuthenticationFilter(jwtProcessor, verifiedTokenCache, authMetrics,
+                new AuditLog(new AuditProperties(), null, null, meterRegistry));
+        authorization = "Bearer " + jwtProcessor.generateAccessToken(new User(UUID.randomUUID(), "benchmark", "USER", null, null));
+        // キャッシュ有効時は1回目の検証結果を登録しておく
+        authenticated();
+    }
+
+    /**
+     * Bearerトークン付きリクエスト
+     */
+    @Benchmark
+    public int authenticated() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/home");
+        request.addHeader("Authorization", authorization);
+        return doFilter(request);
+    }
+
+    /**
+     * トークンなしリクエスト(フィルターの素通りコスト)
+     */
+    @Benchmark
+    public int anonymous() throws ServletException, IOException {
+        return doFilter(new MockHttpServletRequest("GET", "/api/auth/get-userId"));
+    }
+
+    private int doFilter(MockHttpServletRequest request) throws ServletException, IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            filter.doFilterInternal(request, response, new MockFilterChain());
+            return response.getStatus();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.github.nonsugertea7821.iris.src.common.auth.model;
+
+import java.security.Key;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import com.github.benmanes.caffeine.cache.Scheduler;
+import com.github.nonsugertea7821.iris.src.common.auth.dto.User;
+import com.github.nonsugertea7821.iris.src.common.metrics.AuthMetrics;
+import com.github.nonsugertea7821.iris.src.common.properties.AuthProperties;
+import com.github.nonsugertea7821.iris.src.common.properties.CacheProperties;
+import com.github.nonsugertea7821.iris.src.common.properties.MetricsProperties;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 認証/Jwtトークン処理ベンチマーク<br>
+ * リクエスト毎のトークン検証コストを、旧実装(パーサー2回生成・署名2回検証)と比較する。
+ * 発行・検証・パースの各操作の単体コストも計測する。
+ *
+ * @author nonsugertea7821
+ * @version 0.1.2
+ * @since 2026/10/17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtProcessorBenchmark {
+
+    private static final String SECRET = "benchmark-secret-benchmark-secret-benchmark-secret-0123456789";
+
+    private JwtProcessor jwtProcessor;
+    private Key key;
+    private String token;
+    private String refreshToken;
+    private User user;
+
+    @Setup
+    public void setup() {
+        AuthProperties authProperties = new AuthProperties();
+        authProperties.setJwtSecret(SECRET);
+        authProperties.setAccessTokenExpireSeconds(3600);
+        authProperties.setRefreshTokenExpireSeconds(3600);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        RefreshTokenStore refreshTokenStore = new InMemoryRefreshTokenStore(Scheduler.systemScheduler());
+        VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(authProperties, new CacheProperties(), meterRegistry);
+        verifiedTokenCache.init();
+        SigningKeyRing signingKeyRing = new SigningKeyRing(authProperties, new DefaultResourceLoader(), null, null,
+                verifiedTokenCache);
+        signingKeyRing.init();
+        jwtProcessor = new JwtProcessor(null, authProperties,
+                new StaticListableBeanFactory().getBeanProvider(AccessTokenRevocationHook.class),
+                refreshTokenStore, new RevokedTokenIndex(refreshTokenStore, authProperties),
+                new AuthMetrics(meterRegistry, new MetricsProperties()), signingKeyRing);
+        jwtProcessor.init();
+        key = Keys.hmacShaKeyFor(SECRET.getBytes());
+        user = new User(UUID.randomUUID(), "benchmark", "USER", null, null);
+        token = jwtProcessor.generateAccessToken(user);
+        refreshToken = jwtProcessor.generateRefreshToken(user.getId());
+    }
+
+    /**
+     * アクセストークンの発行
+     */
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtProcessor.generateAccessToken(user);
+    }
+
+    /**
+     * リフレッシュトークンの発行
+     */
+    @Benchmark
+    public String generateRefreshToken() {
+        return jwtProcessor.generateRefreshToken(user.getId());
+    }
+
+    /**
+     * アクセストークンの検証
+     */
+    @Benchmark
+    public boolean validateAccessToken() {
+        return jwtProcessor.validateAccessToken(token);
+    }
+
+    /**
+     * リフレッシュトークンのパース(失効リスト判定を含む)
+     */
+    @Benchmark
+    public Claims parseRefreshToken() {
+        return jwtProcessor.parseRefreshToken(refreshToken);
+    }
+
+    /**
+     * 旧実装: validateAccessToken と getUserFromAccessToken で2回パースする。
+     */
+    @Benchmark
+    public Claims legacyValidateThenParse() {
+        Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build()
+                .parseClaimsJws(token);
+        return Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    /**
+     * 現実装: 生成済みパーサーで1回だけパースする。
+     */
+    @Benchmark
+    public Claims parseAccessToken() {
+        return jwtProcessor.parseAccessToken(token);
+    }
+
+    /**
+     * 現実装: パースからユーザー情報の復元まで(フィルターの処理相当)。
+     */
+    @Benchmark
+    public User parseAndResolveUser() {
+        return jwtProcessor.getUserFromClaims(jwtProcessor.parseAccessToken(token));
+    }
+}
@@ -0,0 +1,96 @@
+package com.github.nonsugertea7821.iris.src.common.auth.model;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import com.github.benmanes.caffeine.cache.Scheduler;
+import com.github.nonsugertea7821.iris.src.common.metrics.AuthMetrics;
+import com.github.nonsugertea7821.iris.src.common.properties.AuthProperties;
+import com.github.nonsugertea7821.iris.src.common.properties.MetricsProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.security.auth.message.AuthException;
+
+/**
+ * 認証/一時salt保管ベンチマーク<br>
+ * 多数のスレッドから challenge(製造) と login(消費) を並行実行し、
+ * 保持件数に依らず1操作あたりのコストが一定であることを確認する。
+ * 少数のユーザーに要求が集中した場合(同一キーの競合)も計測する。
+ *
+ * @author nonsugertea7821
+ * @version 0.1.1
+ * @since 2026/10/17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(16)
+public class NonceStoreBenchmark {
+
+    /**
+     * 事前に保持させておくnonce件数
+     */
+    @Param({"1000", "100000"})
+    public int outstanding;
+
+    /**
+     * 競合計測で使用するユーザー数
+     */
+    private static final int HOT_USERS = 8;
+
+    private InMemoryNonceStore nonceStore;
+    private UUID[] hotUsers;
+
+    @Setup
+    public void setup() {
+        AuthProperties authProperties = new AuthProperties();
+        authProperties.setNonceExpireSeconds(300);
+        authProperties.setNonceMaxOutstanding(outstanding * 2L);
+        nonceStore = new InMemoryNonceStore(authProperties, Scheduler.systemScheduler(),
+                new AuthMetrics(new SimpleMeterRegistry(), new MetricsProperties()));
+        nonceStore.init();
+        for (int i = 0; i < outstanding; i++) {
+            nonceStore.createNonce(UUID.randomUUID());
+        }
+        hotUsers = new UUID[HOT_USERS];
+        for (int i = 0; i < HOT_USERS; i++) {
+            hotUsers[i] = UUID.randomUUID();
+        }
+    }
+
+    /**
+     * challenge → login の1往復
+     */
+    @Benchmark
+    public String createAndConsume() throws AuthException {
+        UUID userId = new UUID(ThreadLocalRandom.current().nextLong(), ThreadLocalRandom.current().nextLong());
+        nonceStore.createNonce(userId);
+        return nonceStore.getNonce(userId);
+    }
+
+    /**
+     * 同一ユーザーへの challenge → login が並行した場合<br>
+     * 他スレッドに先に消費されたnonceは取得失敗となる。
+     */
+    @Benchmark
+    public String createAndConsumeContended() {
+        UUID userId = hotUsers[ThreadLocalRandom.current().nextInt(HOT_USERS)];
+        nonceStore.createNonce(userId);
+        try {
+            return nonceStore.getNonce(userId);
+        } catch (AuthException e) {
+            return null;
+        }
+    }
+}
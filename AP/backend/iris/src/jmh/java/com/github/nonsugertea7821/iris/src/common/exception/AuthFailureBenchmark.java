@@ -0,0 +1,136 @@
+package com.github.nonsugertea7821.iris.src.common.exception;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import com.github.nonsugertea7821.iris.src.common.audit.AuditLog;
+import com.github.nonsugertea7821.iris.src.common.auth.dto.User;
+import com.github.nonsugertea7821.iris.src.common.auth.model.InMemoryNonceStore;
+import com.github.nonsugertea7821.iris.src.common.auth.service.AuthServiceImpl;
+import com.github.nonsugertea7821.iris.src.common.metrics.AuthMetrics;
+import com.github.nonsugertea7821.iris.src.common.properties.AuditProperties;
+import com.github.nonsugertea7821.iris.src.common.properties.AuthProperties;
+import com.github.nonsugertea7821.iris.src.common.properties.MetricsProperties;
+import com.github.nonsugertea7821.iris.src.common.utils.CipherUtil;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.security.auth.message.AuthException;
+
+/**
+ * 共通/認証失敗応答ベンチマーク<br>
+ * 拒否したログイン1件あたりの例外生成・応答本文生成コストを、旧実装(スタックトレース取得・
+ * HashMap本文のJSON直列化)と現実装(スタックトレースなし・事前生成した雛形)で比較する。
+ * 実運用ではSpringのフィルター・ディスパッチャー分だけスタックが深いため、{@code stackDepth} で模擬する。
+ *
+ * @author nonsugertea7821
+ * @version 0.1.0
+ * @since 2026/10/17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(4)
+public class AuthFailureBenchmark {
+
+    /**
+     * 例外送出時の呼び出し階層の深さ
+     */
+    @Param({"20", "150"})
+    public int stackDepth;
+
+    private ObjectMapper objectMapper;
+    private GlobalControllerAdvice advice;
+    private InMemoryNonceStore nonceStore;
+    private AuthServiceImpl service;
+    private User user;
+    private String wrongPasswordHash;
+
+    @Setup
+    public void setup() {
+        AuthProperties authProperties = new AuthProperties();
+        authProperties.setNonceExpireSeconds(60);
+        AuthMetrics authMetrics = new AuthMetrics(new SimpleMeterRegistry(), new MetricsProperties());
+        objectMapper = JsonMapper.builder().findAndAddModules().build();
+        advice = new GlobalControllerAdvice(authMetrics, objectMapper);
+        nonceStore = new InMemoryNonceStore(authProperties, Scheduler.disabledScheduler(), authMetrics);
+        nonceStore.init();
+        service = new AuthServiceImpl(null, nonceStore, null, authMetrics, null,
+                new AuditLog(new AuditProperties(), null, null, new SimpleMeterRegistry()));
+        user = new User(UUID.randomUUID(), "benchmark", "USER", "password-hash-by-salt", "salt");
+        wrongPasswordHash = CipherUtil.hmacSha256(UUID.randomUUID().toString(), "wrong-password");
+    }
+
+    /**
+     * 旧実装: スタックトレース付き {@link AuthException} とHashMap本文の直列化
+     */
+    @Benchmark
+    public byte[] legacyRejection() throws Exception {
+        try {
+            throwAt(stackDepth, () -> new AuthException(AuthFailureReason.INVALID_CREDENTIALS.message()));
+            return null;
+        } catch (AuthException e) {
+            Map<String, Object> body = new HashMap<>();
+            body.put("timestamp", LocalDateTime.now());
+            body.put("status", 401);
+            body.put("error", "Unauthorized");
+            body.put("message", e.getMessage());
+            return objectMapper.writeValueAsBytes(body);
+        }
+    }
+
+    /**
+     * 現実装: スタックトレースなしの {@link AuthFailureException} と事前生成した雛形
+     */
+    @Benchmark
+    public byte[] rejection() throws Exception {
+        try {
+            throwAt(stackDepth, () -> new AuthFailureException(AuthFailureReason.INVALID_CREDENTIALS));
+            return null;
+        } catch (AuthFailureException e) {
+            return advice.handleAuthFailure(e).getBody();
+        }
+    }
+
+    /**
+     * 現実装: チャレンジ発行から不正パスワードでのログイン拒否・応答生成まで
+     */
+    @Benchmark
+    public byte[] rejectedLogin() throws Exception {
+        nonceStore.createNonce(user);
+        try {
+            service.authenticate(user.getId(), wrongPasswordHash, null);
+            return null;
+        } catch (AuthFailureException e) {
+            return advice.handleAuthFailure(e).getBody();
+        }
+    }
+
+    private static void throwAt(int depth, ExceptionFactory factory) throws AuthException {
+        if (depth <= 0) {
+            throw factory.create();
+        }
+        throwAt(depth - 1, factory);
+    }
+
+    @FunctionalInterface
+    private interface ExceptionFactory {
+
+        AuthException create();
+    }
+}
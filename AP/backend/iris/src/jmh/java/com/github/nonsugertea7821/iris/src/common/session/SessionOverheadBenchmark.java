@@ -0,0 +1,170 @@
+package com.github.nonsugertea7821.iris.src.common.session;
+
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.session.MapSession;
+import org.springframework.session.MapSessionRepository;
+import org.springframework.session.SessionRepository;
+import org.springframework.session.web.http.HeaderHttpSessionIdResolver;
+import org.springframework.session.web.http.SessionRepositoryFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 共通/HTTPセッション負荷ベンチマーク<br>
+ * Spring Sessionのフィルターを通過するリクエスト1件あたりのセッションストア往復回数と処理量を、
+ * ステートレス(セッション未参照)とセッション使用(既存セッションの読込・属性更新)で比較する。
+ * <p>
+ * ストアは往復毎に {@code roundTripMicros} の待ちを入れたインメモリ実装で、DB往復の遅延を模擬する。
+ * スループット計測のため、補助カウンター {@code reads} / {@code writes} を主結果(ops)で割った値が
+ * リクエスト1件あたりの往復回数となる。ステートレスでは0回、セッション使用では読込・書込各1回となる。
+ *
+ * @author nonsugertea7821
+ * @version 0.1.0
+ * @since 2026/10/17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(4)
+public class SessionOverheadBenchmark {
+
+    /**
+     * セッションストア1往復あたりの模擬遅延(マイクロ秒)
+     */
+    @Param({"0", "200"})
+    public long roundTripMicros;
+
+    private SessionRepositoryFilter<MapSession> filter;
+    private CountingSessionRepository repository;
+    private String sessionId;
+
+    @Setup
+    public void setup() {
+        repository = new CountingSessionRepository(roundTripMicros);
+        filter = new SessionRepositoryFilter<>(repository);
+        filter.setServletContext(new MockServletContext());
+        filter.setHttpSessionIdResolver(HeaderHttpSessionIdResolver.xAuthToken());
+        MapSession session = repository.createSession();
+        repository.save(session);
+        sessionId = session.getId();
+    }
+
+    /**
+     * 往復回数(スレッド毎)
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class RoundTrips {
+
+        public long reads;
+        public long writes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            reads = 0;
+            writes = 0;
+        }
+    }
+
+    /**
+     * ステートレス: セッションを参照しない {@code /api/**} のリクエスト
+     */
+    @Benchmark
+    public int stateless(RoundTrips roundTrips) throws ServletException, IOException {
+        return doFilter(roundTrips, (request, response) -> {
+        });
+    }
+
+    /**
+     * セッション使用: 既存セッションを読み込み、属性を1件更新するリクエスト
+     */
+    @Benchmark
+    public int session(RoundTrips roundTrips) throws ServletException, IOException {
+        return doFilter(roundTrips, (request, response) ->
+                ((HttpServletRequest) request).getSession().setAttribute("lastAccess", System.nanoTime()));
+    }
+
+    private int doFilter(RoundTrips roundTrips, FilterChain chain) throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/home");
+        request.addHeader("X-Auth-Token", sessionId);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        repository.current.set(roundTrips);
+        try {
+            filter.doFilter(request, response, chain);
+        } finally {
+            repository.current.remove();
+        }
+        return response.getStatus();
+    }
+
+    /**
+     * 往復回数を数え、往復毎に遅延を入れるセッションストア
+     */
+    private static final class CountingSessionRepository implements SessionRepository<MapSession> {
+
+        private final MapSessionRepository delegate = new MapSessionRepository(new ConcurrentHashMap<>());
+        private final ThreadLocal<RoundTrips> current = new ThreadLocal<>();
+        private final long roundTripNanos;
+
+        private CountingSessionRepository(long roundTripMicros) {
+            this.roundTripNanos = TimeUnit.MICROSECONDS.toNanos(roundTripMicros);
+        }
+
+        @Override
+        public MapSession createSession() {
+            return delegate.createSession();
+        }
+
+        @Override
+        public void save(MapSession session) {
+            roundTrip(false);
+            delegate.save(session);
+        }
+
+        @Override
+        public MapSession findById(String id) {
+            roundTrip(true);
+            return delegate.findById(id);
+        }
+
+        @Override
+        public void deleteById(String id) {
+            roundTrip(false);
+            delegate.deleteById(id);
+        }
+
+        private void roundTrip(boolean read) {
+            RoundTrips roundTrips = current.get();
+            if (roundTrips != null) {
+                if (read) {
+                    roundTrips.reads++;
+                } else {
+                    roundTrips.writes++;
+                }
+            }
+            if (roundTripNanos > 0) {
+                LockSupport.parkNanos(roundTripNanos);
+            }
+        }
+    }
+}
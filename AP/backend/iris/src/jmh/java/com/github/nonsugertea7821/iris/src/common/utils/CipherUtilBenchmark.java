@@ -0,0 +1,73 @@
+package com.github.nonsugertea7821.iris.src.common.utils;
+
+import java.util.Base64;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * 共通/暗号化機能ベンチマーク<br>
+ * ログイン時の二次検証(nonceによるHMAC照合)を、旧実装(都度Mac生成・文字列比較)と比較する。
+ *
+ * @author nonsugertea7821
+ * @version 0.1.0
+ * @since 2026/10/17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(4)
+public class CipherUtilBenchmark {
+
+    private String nonce;
+    private String passwordHashBySalt;
+    private String passwordHash;
+
+    @Setup
+    public void setup() throws Exception {
+        nonce = UUID.randomUUID().toString();
+        passwordHashBySalt = CipherUtil.hmacSha256(UUID.randomUUID().toString(), "benchmark-password");
+        passwordHash = legacyHmacSha256(nonce, passwordHashBySalt);
+    }
+
+    /**
+     * 旧実装: Mac.getInstance・文字コード名解決・Base64文字列比較
+     */
+    @Benchmark
+    public boolean legacyVerify() throws Exception {
+        return legacyHmacSha256(nonce, passwordHashBySalt).equals(passwordHash);
+    }
+
+    /**
+     * 現実装: プール済みMac・バイト列の定数時間比較
+     */
+    @Benchmark
+    public boolean verifyHmacSha256() {
+        return CipherUtil.verifyHmacSha256(nonce, passwordHashBySalt, passwordHash);
+    }
+
+    /**
+     * 現実装: Base64文字列の生成まで
+     */
+    @Benchmark
+    public String hmacSha256() {
+        return CipherUtil.hmacSha256(nonce, passwordHashBySalt);
+    }
+
+    private static String legacyHmacSha256(String salt, String target) throws Exception {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(salt.getBytes("UTF-8"), "HmacSHA256"));
+        return Base64.getEncoder().encodeToString(mac.doFinal(target.getBytes("UTF-8")));
+    }
+}
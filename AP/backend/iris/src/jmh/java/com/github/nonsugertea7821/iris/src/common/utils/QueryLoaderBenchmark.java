@@ -0,0 +1,63 @@
+package com.github.nonsugertea7821.iris.src.common.utils;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.github.nonsugertea7821.iris.src.common.properties.QueryProperties;
+import com.github.nonsugertea7821.iris.src.common.sql.QueryRegistry;
+
+/**
+ * 共通/SQLクエリローダーベンチマーク<br>
+ * 旧実装(呼び出し毎にプロパティファイルを読み込む {@link QueryLoader#load(String, String)})と、
+ * 起動時に読み込み済みのMapを参照する現実装({@link QueryRegistry#get(String)})を比較する。
+ *
+ * @author nonsugertea7821
+ * @version 0.1.1
+ * @since 2026/10/17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@SuppressWarnings("deprecation")
+public class QueryLoaderBenchmark {
+
+    private static final String QUERY_PATH = "sql/auth/querys.properties";
+    private static final String QUERY_KEY = "auth.query.selectUserById";
+
+    private QueryRegistry queryRegistry;
+
+    @Setup
+    public void setup() {
+        queryRegistry = new QueryRegistry(new QueryProperties(), null, null);
+        queryRegistry.init();
+    }
+
+    @TearDown
+    public void tearDown() {
+        queryRegistry.destroy();
+    }
+
+    /**
+     * 旧実装: 呼び出し毎にファイルを読み込む。
+     */
+    @Benchmark
+    public String load() {
+        return QueryLoader.load(QUERY_PATH, QUERY_KEY);
+    }
+
+    /**
+     * 現実装: 起動時に読み込み済みのレジストリを参照する。
+     */
+    @Benchmark
+    public String registryLookup() {
+        return queryRegistry.get(QUERY_KEY);
+    }
+}
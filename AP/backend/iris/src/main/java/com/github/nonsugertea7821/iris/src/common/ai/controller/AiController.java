@@ -0,0 +1,52 @@
+package com.github.nonsugertea7821.iris.src.common.ai.controller;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.github.nonsugertea7821.iris.src.common.ai.dto.request.CompletionRequest;
+import com.github.nonsugertea7821.iris.src.common.ai.dto.request.EmbeddingsRequest;
+import com.github.nonsugertea7821.iris.src.common.ai.dto.response.CompletionResponse;
+import com.github.nonsugertea7821.iris.src.common.ai.dto.response.EmbeddingsResponse;
+import com.github.nonsugertea7821.iris.src.common.ai.service.AiGateway;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * AI/コントローラー機能<br>
+ * サーブレット構成・リアクティブ構成のいずれでも {@link Mono} / {@link Flux} の戻り値で応答する。
+ * ストリーミングは {@code text/event-stream} で応答の断片を逐次送信する。
+ *
+ * @author nonsugertea7821
+ * @version 0.1.0
+ * @since 2026/10/17
+ */
+@RestController
+@RequestMapping("api/ai")
+@ConditionalOnProperty(prefix = "common.ai", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class AiController {
+
+    private final AiGateway gateway;
+
+    @PostMapping("/{model}/embeddings")
+    public Mono<EmbeddingsResponse> embeddings(@PathVariable String model, @RequestBody EmbeddingsRequest req) {
+        return gateway.embedAll(model, req.getInputs()).map(EmbeddingsResponse::new);
+    }
+
+    @PostMapping("/{model}/completions")
+    public Mono<CompletionResponse> complete(@PathVariable String model, @RequestBody CompletionRequest req) {
+        return gateway.complete(model, req.getPrompt()).map(CompletionResponse::new);
+    }
+
+    @PostMapping(path = "/{model}/completions/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<String> stream(@PathVariable String model, @RequestBody CompletionRequest req) {
+        return gateway.stream(model, req.getPrompt());
+    }
+}
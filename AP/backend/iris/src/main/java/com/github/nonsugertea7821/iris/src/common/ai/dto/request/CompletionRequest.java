@@ -0,0 +1,19 @@
+package com.github.nonsugertea7821.iris.src.common.ai.dto.request;
+
+import lombok.Data;
+
+/**
+ * AI/応答生成リクエスト
+ *
+ * @author nonsugertea7821
+ * @version 0.1.0
+ * @since 2026/10/17
+ */
+@Data
+public class CompletionRequest {
+
+    /**
+     * 入力
+     */
+    private final String prompt;
+}
@@ -0,0 +1,21 @@
+package com.github.nonsugertea7821.iris.src.common.ai.dto.request;
+
+import java.util.List;
+
+import lombok.Data;
+
+/**
+ * AI/埋め込みリクエスト
+ *
+ * @author nonsugertea7821
+ * @version 0.1.0
+ * @since 2026/10/17
+ */
+@Data
+public class EmbeddingsRequest {
+
+    /**
+     * 対象テキスト
+     */
+    private final List<String> inputs;
+}
@@ -0,0 +1,21 @@
+package com.github.nonsugertea7821.iris.src.common.ai.dto.response;
+
+import java.util.List;
+
+import lombok.Data;
+
+/**
+ * AI/埋め込みレスポンス
+ *
+ * @author nonsugertea7821
+ * @version 0.1.0
+ * @since 2026/10/17
+ */
+@Data
+public class EmbeddingsResponse {
+
+    /**
+     * 埋め込みベクトル(入力順)
+     */
+    private final List<float[]> embeddings;
+}
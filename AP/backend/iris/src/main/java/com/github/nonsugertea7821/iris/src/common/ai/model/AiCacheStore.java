@@ -0,0 +1,30 @@
+package com.github.nonsugertea7821.iris.src.common.ai.model;
+
+/**
+ * AI/共有キャッシュ保管機能<br>
+ * 複数インスタンス間・再起動後も応答及び埋め込みを再利用するための保管先。
+ * {@code common.ai.cache-store-type=jdbc} の場合に PostgreSQL 実装が登録される。
+ * 実装はブロッキングし得るため、イベントループ上から呼び出さないこと。
+ *
+ * @author nonsugertea7821
+ * @version 0.1.0
+ * @since 2026/10/17
+ */
+public interface AiCacheStore {
+
+    /**
+     * キャッシュ値を取得する。
+     *
+     * @param key キー(内容ハッシュ)
+     * @return 値(未登録・期限切れの場合null)
+     */
+    byte[] get(String key);
+
+    /**
+     * キャッシュ値を登録する。
+     *
+     * @param key キー(内容ハッシュ)
+     * @param value 値
+     */
+    void put(String key, byte[] value);
+}
@@ -0,0 +1,172 @@
+package com.github.nonsugertea7821.iris.src.common.ai.model;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import com.github.nonsugertea7821.iris.src.common.properties.AiProperties;
+import com.github.nonsugertea7821.iris.src.common.utils.CipherUtil;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * AI/応答・埋め込みキャッシュ<br>
+ * 種別・モデル名・入力内容のハッシュをキーに、メモリ(Caffeine)と共有キャッシュ({@link AiCacheStore})の2段で保持する。
+ * メモリに無い場合のみ共有キャッシュを {@link Schedulers#boundedElastic()} 上で参照する。
+ * 共有キャッシュの障害はキャッシュ無しとして扱い、モデル呼び出しを妨げない。
+ *
+ * @author nonsugertea7821
+ * @version 0.1.0
+ * @since 2026/10/17
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "common.ai", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class AiResponseCache {
+
+    /**
+     * メトリクス名
+     */
+    private static final String CACHE_NAME = "ai.cache";
+
+    private final AiProperties aiProperties;
+    private final ObjectProvider<AiCacheStore> cacheStore;
+    private final Scheduler scheduler;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * key:内容ハッシュ value:応答テキスト又は埋め込みベクトル
+     */
+    private Cache<String, Object> cache;
+
+    /**
+     * 共有キャッシュ(未使用の場合null)
+     */
+    private AiCacheStore store;
+
+    @PostConstruct
+    public void init() {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(aiProperties.getCacheMaximumSize())
+                .expireAfterWrite(aiProperties.getCacheExpireAfterWrite())
+                .scheduler(scheduler)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        this.store = cacheStore.getIfAvailable();
+    }
+
+    /**
+     * キャッシュキーを生成する。
+     *
+     * @param kind 種別
+     * @param model モデル名
+     * @param content 入力内容
+     * @return キー
+     */
+    public static String key(String kind, String model, String content) {
+        return CipherUtil.sha256(kind + '\n' + model + '\n' + content);
+    }
+
+    /**
+     * 応答テキストを取得する。
+     *
+     * @param key キー
+     * @return 応答テキスト(未登録の場合empty)
+     */
+    public Mono<String> getText(String key) {
+        return get(key, String.class, bytes -> new String(bytes, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 埋め込みベクトルを取得する。
+     *
+     * @param key キー
+     * @return 埋め込みベクトル(未登録の場合empty)
+     */
+    public Mono<float[]> getEmbedding(String key) {
+        return get(key, float[].class, AiResponseCache::decode);
+    }
+
+    /**
+     * 応答テキストを登録する。
+     *
+     * @param key キー
+     * @param text 応答テキスト
+     * @return 完了通知
+     */
+    public Mono<Void> put(String key, String text) {
+        return put(key, text, () -> text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 埋め込みベクトルを登録する。
+     *
+     * @param key キー
+     * @param vector 埋め込みベクトル
+     * @return 完了通知
+     */
+    public Mono<Void> put(String key, float[] vector) {
+        return put(key, vector, () -> encode(vector));
+    }
+
+    private <T> Mono<T> get(String key, Class<T> type, Function<byte[], T> decoder) {
+        Object local = cache.getIfPresent(key);
+        if (type.isInstance(local)) {
+            return Mono.just(type.cast(local));
+        }
+        if (store == null) {
+            return Mono.empty();
+        }
+        return Mono.fromCallable(() -> store.get(key))
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(decoder)
+                .doOnNext(value -> cache.put(key, value))
+                .onErrorResume(e -> {
+                    log.warn("共有キャッシュを参照できませんでした", e);
+                    return Mono.empty();
+                });
+    }
+
+    private Mono<Void> put(String key, Object value, Supplier<byte[]> encoder) {
+        cache.put(key, value);
+        if (store == null) {
+            return Mono.empty();
+        }
+        return Mono.fromRunnable(() -> store.put(key, encoder.get()))
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(e -> {
+                    log.warn("共有キャッシュに登録できませんでした", e);
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private static byte[] encode(float[] vector) {
+        ByteBuffer buffer = ByteBuffer.allocate(vector.length * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.asFloatBuffer().put(vector);
+        return buffer.array();
+    }
+
+    private static float[] decode(byte[] bytes) {
+        float[] vector = new float[bytes.length / Float.BYTES];
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer().get(vector);
+        return vector;
+    }
+}
@@ -0,0 +1,200 @@
+package com.github.nonsugertea7821.iris.src.common.ai.model;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.ai.embedding.Embedding;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.embedding.EmbeddingRequest;
+import org.springframework.ai.embedding.EmbeddingResponse;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * AI/埋め込み要求の一括化<br>
+ * 個別の埋め込み要求をキューに積み、{@code batchSize} 件に達するか {@code batchWindow} が経過した時点で
+ * 1回の {@link EmbeddingModel#call(EmbeddingRequest)} にまとめて送信する。
+ * 同一バッチ内の重複するテキストは1件として送信する。
+ * 送信は {@link ModelLimiter} の許可数の範囲で並行して行い、送信枠が空くまで一括化を待たせる
+ * (送信が詰まってもバッファ溢れとしない)。
+ * 一括化の処理が異常終了した場合は送信待ちの要求をエラーで応答し、処理を再開する。
+ * 受付終了後及びキューへ追加できなかった要求はエラーで応答する(応答しないまま残さない)。
+ *
+ * @author nonsugertea7821
+ * @version 0.1.2
+ * @since 2026/10/17
+ */
+@Slf4j
+public class EmbeddingBatcher {
+
+    /**
+     * 複数スレッドからの同時投入が競合した場合、及び再開中に再試行する最大時間
+     */
+    private static final Duration EMIT_RETRY = Duration.ofMillis(100);
+
+    private final EmbeddingModel embeddingModel;
+    private final ModelLimiter limiter;
+    private final int batchSize;
+    private final Duration batchWindow;
+    private final int concurrency;
+    private final DistributionSummary batchSizes;
+
+    /**
+     * 応答前の要求(一括化の処理が異常終了した場合にエラーで応答する)
+     */
+    private final Set<Pending> outstanding = ConcurrentHashMap.newKeySet();
+
+    private volatile Sinks.Many<Pending> queue;
+    private volatile Disposable worker;
+    private volatile boolean closed;
+
+    /**
+     * @param embeddingModel 埋め込みモデル
+     * @param limiter 同時呼び出し数制限
+     * @param batchSize 1回の呼び出しにまとめる最大件数
+     * @param batchWindow 要求をまとめるために待つ最大時間
+     * @param batchSizes 送信件数の記録先
+     */
+    public EmbeddingBatcher(EmbeddingModel embeddingModel, ModelLimiter limiter, int batchSize, Duration batchWindow,
+            DistributionSummary batchSizes) {
+        this.embeddingModel = embeddingModel;
+        this.limiter = limiter;
+        this.batchSize = batchSize;
+        this.batchWindow = batchWindow;
+        this.concurrency = Math.max(1, limiter.available());
+        this.batchSizes = batchSizes;
+        start();
+    }
+
+    /**
+     * 埋め込み要求を追加する。
+     *
+     * @param text 対象テキスト
+     * @return 埋め込みベクトル
+     */
+    public Mono<float[]> submit(String text) {
+        return Mono.defer(() -> {
+            if (closed) {
+                return Mono.error(new IllegalStateException("埋め込み要求の受付は終了しています"));
+            }
+            Pending pending = new Pending(text, Sinks.one());
+            // 再開時に取りこぼさないよう、キューへの追加前に登録する
+            outstanding.add(pending);
+            Sinks.EmitResult emitted = emit(pending);
+            if (emitted.isFailure()) {
+                outstanding.remove(pending);
+                return Mono.error(new IllegalStateException("埋め込み要求をキューに追加できません: " + emitted));
+            }
+            return pending.result().asMono().doFinally(signal -> outstanding.remove(pending));
+        });
+    }
+
+    /**
+     * 受付を終了する。送信中の要求はエラーで応答する。
+     */
+    public void close() {
+        closed = true;
+        queue.emitComplete(Sinks.EmitFailureHandler.busyLooping(EMIT_RETRY));
+        worker.dispose();
+        IllegalStateException closing = new IllegalStateException("埋め込み要求の受付は終了しています");
+        for (Pending pending : outstanding) {
+            pending.result().tryEmitError(closing);
+        }
+    }
+
+    /**
+     * 要求をキューへ追加する。<br>
+     * 同時投入の競合及び再開中の終了済みキューへの追加は、受付終了までの間 {@link #EMIT_RETRY} まで再試行する。
+     *
+     * @param pending 要求
+     * @return 追加結果
+     */
+    private Sinks.EmitResult emit(Pending pending) {
+        long deadline = System.nanoTime() + EMIT_RETRY.toNanos();
+        Sinks.EmitResult emitted = queue.tryEmitNext(pending);
+        while (emitted.isFailure() && !closed && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+            emitted = queue.tryEmitNext(pending);
+        }
+        return emitted;
+    }
+
+    /**
+     * 一括化の処理を開始する。<br>
+     * {@code bufferTimeout} は送信枠が空くまでバッチの確定を待つ指定とし、
+     * 送信待ちの要求はキューに保持する。
+     */
+    private void start() {
+        Sinks.Many<Pending> next = Sinks.many().unicast().onBackpressureBuffer();
+        queue = next;
+        worker = next.asFlux()
+                .bufferTimeout(batchSize, batchWindow, true)
+                .flatMap(this::send, concurrency)
+                .subscribe(null, this::restart);
+    }
+
+    /**
+     * 一括化の処理の異常終了時に、新しいキューで処理を再開してから送信待ちの要求をエラーで応答する。
+     * (再開と同時に追加された要求もエラーとなる場合がある)
+     *
+     * @param error 異常終了の原因
+     */
+    private void restart(Throwable error) {
+        log.warn("埋め込み要求の一括化が異常終了したため再開します outstanding={}", outstanding.size(), error);
+        if (!closed) {
+            start();
+        }
+        for (Pending pending : outstanding) {
+            pending.result().tryEmitError(error);
+        }
+    }
+
+    private Mono<Void> send(List<Pending> batch) {
+        Map<String, List<Sinks.One<float[]>>> waiting = new LinkedHashMap<>();
+        for (Pending pending : batch) {
+            waiting.computeIfAbsent(pending.text(), text -> new ArrayList<>()).add(pending.result());
+        }
+        List<String> inputs = new ArrayList<>(waiting.keySet());
+        batchSizes.record(inputs.size());
+        return limiter.call(() -> embeddingModel.call(new EmbeddingRequest(inputs, null)))
+                .doOnNext(response -> complete(inputs, waiting, response))
+                .doOnError(e -> waiting.values().forEach(sinks -> sinks.forEach(sink -> sink.tryEmitError(e))))
+                .onErrorResume(e -> Mono.empty())
+                .then();
+    }
+
+    private static void complete(List<String> inputs, Map<String, List<Sinks.One<float[]>>> waiting,
+            EmbeddingResponse response) {
+        List<Embedding> results = response.getResults();
+        for (int i = 0; i < results.size(); i++) {
+            Embedding embedding = results.get(i);
+            int index = embedding.getIndex() != null ? embedding.getIndex() : i;
+            float[] vector = embedding.getOutput();
+            List<Sinks.One<float[]>> sinks = waiting.remove(inputs.get(index));
+            if (sinks != null) {
+                sinks.forEach(sink -> sink.tryEmitValue(vector));
+            }
+        }
+        // 応答に含まれなかった要求
+        IllegalStateException missing = new IllegalStateException("埋め込みモデルの応答件数が不足しています");
+        waiting.values().forEach(sinks -> sinks.forEach(sink -> sink.tryEmitError(missing)));
+    }
+
+    /**
+     * 送信待ちの要求
+     *
+     * @param text 対象テキスト
+     * @param result 結果の通知先
+     */
+    private record Pending(String text, Sinks.One<float[]> result) {
+    }
+}
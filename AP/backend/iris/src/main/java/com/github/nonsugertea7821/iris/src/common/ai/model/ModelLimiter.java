@@ -0,0 +1,88 @@
+package com.github.nonsugertea7821.iris.src.common.ai.model;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import com.github.nonsugertea7821.iris.src.common.exception.RateLimitExceededException;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * AI/モデル同時呼び出し数制限<br>
+ * モデル毎に許可数を持つセマフォで呼び出しを制限する。
+ * 空きを待つ処理はブロッキングするため {@link Schedulers#boundedElastic()} 上で行い、
+ * {@code acquireTimeout} を超えた場合は {@link RateLimitExceededException} とする。
+ *
+ * @author nonsugertea7821
+ * @version 0.1.0
+ * @since 2026/10/17
+ */
+public class ModelLimiter {
+
+    private final String model;
+    private final Semaphore permits;
+    private final Duration acquireTimeout;
+
+    /**
+     * @param model モデル名
+     * @param maxConcurrency 同時呼び出し数上限
+     * @param acquireTimeout 空きを待つ最大時間
+     */
+    public ModelLimiter(String model, int maxConcurrency, Duration acquireTimeout) {
+        this.model = model;
+        this.permits = new Semaphore(maxConcurrency, true);
+        this.acquireTimeout = acquireTimeout;
+    }
+
+    /**
+     * 同期呼び出しを許可数の範囲で実行する。
+     *
+     * @param call モデル呼び出し(ブロッキング処理)
+     * @return 呼び出し結果
+     */
+    public <T> Mono<T> call(Callable<T> call) {
+        return Mono.fromCallable(() -> {
+            acquire();
+            try {
+                return call.call();
+            } finally {
+                permits.release();
+            }
+        }).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * ストリーミング呼び出しを許可数の範囲で実行する。<br>
+     * 許可はストリームの完了・エラー・キャンセルのいずれかで返却する。
+     *
+     * @param stream モデル呼び出し
+     * @return 呼び出し結果
+     */
+    public <T> Flux<T> stream(Supplier<Flux<T>> stream) {
+        return Flux.using(() -> {
+            acquire();
+            return permits;
+        }, acquired -> stream.get(), Semaphore::release).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * 空いている許可数
+     *
+     * @return 許可数
+     */
+    public int available() {
+        return permits.availablePermits();
+    }
+
+    private void acquire() throws InterruptedException {
+        if (!permits.tryAcquire(acquireTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+            throw new RateLimitExceededException("モデルの同時呼び出し数が上限に達しています: " + model,
+                    Math.max(1, acquireTimeout.toSeconds()));
+        }
+    }
+}
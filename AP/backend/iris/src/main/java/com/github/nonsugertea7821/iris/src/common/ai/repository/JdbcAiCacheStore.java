@@ -0,0 +1,83 @@
+package com.github.nonsugertea7821.iris.src.common.ai.repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+
+import com.github.nonsugertea7821.iris.src.common.ai.model.AiCacheStore;
+import com.github.nonsugertea7821.iris.src.common.properties.AiProperties;
+import com.github.nonsugertea7821.iris.src.common.sql.QueryRegistry;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * AI/共有キャッシュ保管機能(PostgreSQL実装)<br>
+ * 応答及び埋め込みを内容ハッシュをキーに {@code ai.cache} へ保管する。
+ * AIゲートウェイの無効時({@code common.ai.enabled=false})は作成せず、期限切れの削除も行わない。
+ *
+ * @author nonsugertea7821
+ * @version 0.1.1
+ * @since 2026/10/17
+ */
+@Repository
+@ConditionalOnProperty(prefix = "common.ai", name = "enabled", havingValue = "true")
+@ConditionalOnProperty(prefix = "common.ai", name = "cache-store-type", havingValue = "jdbc")
+@RequiredArgsConstructor
+public class JdbcAiCacheStore implements AiCacheStore {
+
+    private static final String SQL_AI_S001 = "ai.query.selectCache";
+    private static final String SQL_AI_I001 = "ai.query.upsertCache";
+    private static final String SQL_AI_D001 = "ai.query.purgeCache";
+
+    private static final String CACHE_PARAM_NOW = "now";
+    private static final String CACHE_PARAM_LIMIT = "limit";
+
+    private static final String CACHE_TABLE_COLUMN_LABEL_KEY = "cache_key";
+    private static final String CACHE_TABLE_COLUMN_LABEL_VALUE = "value";
+    private static final String CACHE_TABLE_COLUMN_LABEL_EXPIRES_AT = "expires_at";
+
+    private final JdbcClient jdbcClient;
+    private final QueryRegistry queryRegistry;
+    private final AiProperties aiProperties;
+
+    @Override
+    public byte[] get(String key) {
+        return jdbcClient.sql(queryRegistry.get(SQL_AI_S001))
+                .param(CACHE_TABLE_COLUMN_LABEL_KEY, key)
+                .param(CACHE_PARAM_NOW, Timestamp.from(Instant.now()))
+                .query((rs, rowNum) -> rs.getBytes(CACHE_TABLE_COLUMN_LABEL_VALUE))
+                .optional()
+                .orElse(null);
+    }
+
+    @Override
+    public void put(String key, byte[] value) {
+        Instant expiresAt = Instant.now().plus(aiProperties.getCacheStoreExpireAfterWrite());
+        jdbcClient.sql(queryRegistry.get(SQL_AI_I001))
+                .param(CACHE_TABLE_COLUMN_LABEL_KEY, key)
+                .param(CACHE_TABLE_COLUMN_LABEL_VALUE, value)
+                .param(CACHE_TABLE_COLUMN_LABEL_EXPIRES_AT, Timestamp.from(expiresAt))
+                .update();
+    }
+
+    /**
+     * 期限切れキャッシュの削除<br>
+     * 1回あたりの削除件数を制限し、ロック保持時間を抑えて繰り返し削除する。
+     */
+    @Scheduled(fixedDelayString = "${common.ai.cache-store-purge-interval:PT1H}")
+    public void purgeExpired() {
+        int limit = aiProperties.getCacheStorePurgeBatchSize();
+        Timestamp now = Timestamp.from(Instant.now());
+        int deleted;
+        do {
+            deleted = jdbcClient.sql(queryRegistry.get(SQL_AI_D001))
+                    .param(CACHE_PARAM_NOW, now)
+                    .param(CACHE_PARAM_LIMIT, limit)
+                    .update();
+        } while (deleted >= limit);
+    }
+}
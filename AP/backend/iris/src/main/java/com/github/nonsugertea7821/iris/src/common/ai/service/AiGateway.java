@@ -0,0 +1,179 @@
+package com.github.nonsugertea7821.iris.src.common.ai.service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import com.github.nonsugertea7821.iris.src.common.ai.model.AiResponseCache;
+import com.github.nonsugertea7821.iris.src.common.ai.model.EmbeddingBatcher;
+import com.github.nonsugertea7821.iris.src.common.ai.model.ModelLimiter;
+import com.github.nonsugertea7821.iris.src.common.exception.InvalidRequestException;
+import com.github.nonsugertea7821.iris.src.common.properties.AiProperties;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * AI/ゲートウェイ<br>
+ * Spring AI の {@link ChatModel} / {@link EmbeddingModel} をBean名で呼び出す内部向けの窓口。
+ * <ul>
+ * <li>埋め込み要求は {@link EmbeddingBatcher} でモデル毎に一括化する。</li>
+ * <li>応答・埋め込みは入力内容のハッシュをキーに {@link AiResponseCache} へ保持し、同一入力では呼び出さない。</li>
+ * <li>モデル毎の同時呼び出し数を {@link ModelLimiter} で制限する。</li>
+ * <li>応答のストリーミングはトークン単位の {@link Flux} で返却し、完了時にキャッシュへ登録する。</li>
+ * </ul>
+ * <ul>
+ * <li>{@value #BATCH_SIZE}: 埋め込みの1回あたりの送信件数(タグ model)</li>
+ * </ul>
+ *
+ * @author nonsugertea7821
+ * @version 0.1.0
+ * @since 2026/10/17
+ */
+@Service
+@ConditionalOnProperty(prefix = "common.ai", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class AiGateway {
+
+    public static final String BATCH_SIZE = "ai.embedding.batch.size";
+
+    private static final String KIND_RESPONSE = "response";
+    private static final String KIND_EMBEDDING = "embedding";
+
+    private final AiProperties aiProperties;
+    private final AiResponseCache cache;
+    private final ListableBeanFactory beanFactory;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * key:モデル名
+     */
+    private Map<String, ChatModel> chatModels;
+    private Map<String, EmbeddingBatcher> batchers;
+    private Map<String, ModelLimiter> limiters;
+
+    @PostConstruct
+    public void init() {
+        this.chatModels = Map.copyOf(beanFactory.getBeansOfType(ChatModel.class));
+        Map<String, EmbeddingModel> embeddingModels = beanFactory.getBeansOfType(EmbeddingModel.class);
+        Map<String, ModelLimiter> modelLimiters = new HashMap<>();
+        for (String model : chatModels.keySet()) {
+            modelLimiters.put(model, limiter(model));
+        }
+        Map<String, EmbeddingBatcher> modelBatchers = new HashMap<>();
+        for (Map.Entry<String, EmbeddingModel> entry : embeddingModels.entrySet()) {
+            String model = entry.getKey();
+            ModelLimiter limiter = modelLimiters.computeIfAbsent(model, this::limiter);
+            DistributionSummary batchSizes = DistributionSummary.builder(BATCH_SIZE).tag("model", model)
+                    .register(meterRegistry);
+            modelBatchers.put(model, new EmbeddingBatcher(entry.getValue(), limiter, aiProperties.getEmbeddingBatchSize(),
+                    aiProperties.getEmbeddingBatchWindow(), batchSizes));
+        }
+        this.limiters = Map.copyOf(modelLimiters);
+        this.batchers = Map.copyOf(modelBatchers);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        batchers.values().forEach(EmbeddingBatcher::close);
+    }
+
+    /**
+     * テキストの埋め込みベクトルを取得する。
+     *
+     * @param model モデル名
+     * @param text 対象テキスト
+     * @return 埋め込みベクトル
+     */
+    public Mono<float[]> embed(String model, String text) {
+        EmbeddingBatcher batcher = batchers.get(model);
+        if (batcher == null) {
+            return Mono.error(new InvalidRequestException("未定義の埋め込みモデルです: " + model));
+        }
+        String key = AiResponseCache.key(KIND_EMBEDDING, model, text);
+        return cache.getEmbedding(key)
+                .switchIfEmpty(Mono.defer(() -> batcher.submit(text))
+                        .flatMap(vector -> cache.put(key, vector).thenReturn(vector)));
+    }
+
+    /**
+     * 複数テキストの埋め込みベクトルを取得する。<br>
+     * 個別の要求として一括化されるため、件数に関わらず呼び出しは {@code embedding-batch-size} 件単位となる。
+     *
+     * @param model モデル名
+     * @param texts 対象テキスト
+     * @return 埋め込みベクトル(入力順)
+     */
+    public Mono<List<float[]>> embedAll(String model, List<String> texts) {
+        return Flux.fromIterable(texts)
+                .flatMapSequential(text -> embed(model, text))
+                .collectList();
+    }
+
+    /**
+     * 応答を取得する。
+     *
+     * @param model モデル名
+     * @param prompt 入力
+     * @return 応答テキスト
+     */
+    public Mono<String> complete(String model, String prompt) {
+        ChatModel chatModel = chatModels.get(model);
+        if (chatModel == null) {
+            return Mono.error(new InvalidRequestException("未定義のチャットモデルです: " + model));
+        }
+        String key = AiResponseCache.key(KIND_RESPONSE, model, prompt);
+        return cache.getText(key)
+                .switchIfEmpty(Mono.defer(() -> limiters.get(model).call(() -> chatModel.call(new Prompt(prompt))))
+                        .mapNotNull(AiGateway::text)
+                        .flatMap(text -> cache.put(key, text).thenReturn(text)));
+    }
+
+    /**
+     * 応答をストリーミングで取得する。<br>
+     * キャッシュ済みの場合は応答全体を1件で返却する。
+     *
+     * @param model モデル名
+     * @param prompt 入力
+     * @return 応答テキスト(断片)
+     */
+    public Flux<String> stream(String model, String prompt) {
+        ChatModel chatModel = chatModels.get(model);
+        if (chatModel == null) {
+            return Flux.error(new InvalidRequestException("未定義のチャットモデルです: " + model));
+        }
+        String key = AiResponseCache.key(KIND_RESPONSE, model, prompt);
+        return cache.getText(key).flux()
+                .switchIfEmpty(Flux.defer(() -> {
+                    StringBuilder text = new StringBuilder();
+                    return limiters.get(model).stream(() -> chatModel.stream(new Prompt(prompt)))
+                            .mapNotNull(AiGateway::text)
+                            .doOnNext(text::append)
+                            .concatWith(Mono.defer(() -> cache.put(key, text.toString())).then(Mono.<String>empty()));
+                }));
+    }
+
+    private ModelLimiter limiter(String model) {
+        return new ModelLimiter(model, aiProperties.maxConcurrency(model), aiProperties.getAcquireTimeout());
+    }
+
+    private static String text(ChatResponse response) {
+        if (response == null || response.getResult() == null || response.getResult().getOutput() == null) {
+            return null;
+        }
+        return response.getResult().getOutput().getText();
+    }
+}
@@ -0,0 +1,19 @@
+package com.github.nonsugertea7821.iris.src.common.audit;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 共通/監査イベント
+ *
+ * @author nonsugertea7821
+ * @version 0.1.0
+ * @since 2026/10/17
+ * @param occurredAt 発生日時
+ * @param type 種別
+ * @param userId ユーザー識別子(不明な場合null)
+ * @param clientIp クライアントIPアドレス(不明な場合null)
+ * @param detail 詳細(失敗理由等、無い場合null)
+ */
+public record AuditEvent(Instant occurredAt, AuditEventType type, UUID userId, String clientIp, String detail) {
+}
@@ -0,0 +1,18 @@
+package com.github.nonsugertea7821.iris.src.common.audit;
+
+/**
+ * 共通/監査イベント種別
+ *
+ * @author nonsugertea7821
+ * @version 0.1.0
+ * @since 2026/10/17
+ */
+public enum AuditEventType {
+
+    LOGIN_SUCCEEDED,
+    LOGIN_FAILED,
+    REFRESH_SUCCEEDED,
+    REFRESH_FAILED,
+    LOGOUT,
+    TOKEN_REJECTED
+}
@@ -0,0 +1,191 @@
+package com.github.nonsugertea7821.iris.src.common.audit;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import com.github.nonsugertea7821.iris.src.common.properties.AuditProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 共通/監査ログ<br>
+ * リクエスト処理スレッドは監査イベントをロックフリーの有界リングバッファへ追加するのみとし、
+ * DBへの書き込みは {@code security.audit.flush-interval} 毎に {@link TaskScheduler} 上で
+ * 最大 {@code security.audit.batch-size} 件ずつ一括挿入する。
+ * バッファ溢れ時の動作は {@code security.audit.overflow} で選択する。終了時は残りのイベントを書き出す。
+ * <ul>
+ * <li>{@value #LAG}: バッファ内の未書き出し件数</li>
+ * <li>{@value #DELAY}: 発生から書き出しまでの時間(バッチ内で最も古いイベント)</li>
+ * <li>{@value #WRITTEN}: 書き出し件数</li>
+ * <li>{@value #DROPPED}: 破棄件数(タグ reason: overflow / sampled / timeout / error / closed)</li>
+ * </ul>
+ *
+ * @author nonsugertea7821
+ * @version 0.1.1
+ * @since 2026/10/17
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuditLog {
+
+    public static final String LAG = "audit.lag";
+    public static final String DELAY = "audit.delay";
+    public static final String WRITTEN = "audit.written";
+    public static final String DROPPED = "audit.dropped";
+
+    /**
+     * BLOCK時の空き確認間隔
+     */
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+    private final AuditProperties auditProperties;
+    private final AuditRepository auditRepository;
+    private final TaskScheduler taskScheduler;
+    private final MeterRegistry meterRegistry;
+
+    private MpscRingBuffer<AuditEvent> buffer;
+    private ScheduledFuture<?> writer;
+    private volatile boolean closed;
+
+    private Timer delay;
+    private Counter written;
+    private Counter droppedOverflow;
+    private Counter droppedSampled;
+    private Counter droppedTimeout;
+    private Counter droppedError;
+    private Counter droppedClosed;
+
+    @PostConstruct
+    public void init() {
+        if (!auditProperties.isEnabled()) {
+            log.warn("監査ログは無効です。認証イベントは記録されません(security.audit.enabled=false)");
+            return;
+        }
+        this.buffer = new MpscRingBuffer<>(auditProperties.getBufferSize());
+        Gauge.builder(LAG, buffer, MpscRingBuffer::size).register(meterRegistry);
+        this.delay = Timer.builder(DELAY).publishPercentiles(0.5, 0.99).register(meterRegistry);
+        this.written = Counter.builder(WRITTEN).register(meterRegistry);
+        this.droppedOverflow = dropped("overflow");
+        this.droppedSampled = dropped("sampled");
+        this.droppedTimeout = dropped("timeout");
+        this.droppedError = dropped("error");
+        this.droppedClosed = dropped("closed");
+        this.writer = taskScheduler.scheduleWithFixedDelay(this::flush, auditProperties.getFlushInterval());
+    }
+
+    /**
+     * 書き出しを停止し、残りのイベントを {@code security.audit.shutdown-timeout} まで書き出す。
+     */
+    @PreDestroy
+    public void destroy() {
+        if (buffer == null) {
+            return;
+        }
+        closed = true;
+        writer.cancel(false);
+        long deadline = System.nanoTime() + auditProperties.getShutdownTimeout().toNanos();
+        while (buffer.size() > 0 && System.nanoTime() < deadline) {
+            if (flush() == 0) {
+                // 位置確保済み・格納前の要素を待つ
+                Thread.onSpinWait();
+            }
+        }
+        if (buffer.size() > 0) {
+            log.warn("終了時に監査イベントを書き出せませんでした count={}", buffer.size());
+        }
+    }
+
+    /**
+     * 監査イベントを記録する。(ブロッキングしない、BLOCK指定時を除く)
+     *
+     * @param type 種別
+     * @param userId ユーザー識別子(不明な場合null)
+     * @param clientIp クライアントIPアドレス(不明な場合null)
+     * @param detail 詳細(無い場合null)
+     */
+    public void publish(AuditEventType type, UUID userId, String clientIp, String detail) {
+        if (buffer == null) {
+            return;
+        }
+        if (closed) {
+            droppedClosed.increment();
+            return;
+        }
+        AuditEvent event = new AuditEvent(Instant.now(), type, userId, clientIp, detail);
+        switch (auditProperties.getOverflow()) {
+            case DROP -> {
+                if (!buffer.offer(event)) {
+                    droppedOverflow.increment();
+                }
+            }
+            case SAMPLE -> {
+                if (buffer.size() >= buffer.capacity() * auditProperties.getSampleThreshold()
+                        && ThreadLocalRandom.current().nextDouble() >= auditProperties.getSampleRate()) {
+                    droppedSampled.increment();
+                } else if (!buffer.offer(event)) {
+                    droppedOverflow.increment();
+                }
+            }
+            case BLOCK -> {
+                long deadline = System.nanoTime() + auditProperties.getBlockTimeout().toNanos();
+                while (!buffer.offer(event)) {
+                    if (System.nanoTime() >= deadline) {
+                        droppedTimeout.increment();
+                        return;
+                    }
+                    LockSupport.parkNanos(BLOCK_PARK_NANOS);
+                }
+            }
+        }
+    }
+
+    /**
+     * バッファ内のイベントを一括挿入する。(単一消費者とするため排他する)
+     *
+     * @return 取り出した件数
+     */
+    synchronized int flush() {
+        int batchSize = auditProperties.getBatchSize();
+        List<AuditEvent> batch = new ArrayList<>(Math.min(batchSize, buffer.size()));
+        int total = 0;
+        while (buffer.drain(batch::add, batchSize) > 0) {
+            total += batch.size();
+            write(batch);
+            batch.clear();
+        }
+        return total;
+    }
+
+    private void write(List<AuditEvent> batch) {
+        try {
+            auditRepository.insertAll(batch);
+            written.increment(batch.size());
+            delay.record(System.currentTimeMillis() - batch.get(0).occurredAt().toEpochMilli(), TimeUnit.MILLISECONDS);
+        } catch (DataAccessException e) {
+            droppedError.increment(batch.size());
+            log.warn("監査イベントを書き出せませんでした count={}", batch.size(), e);
+        }
+    }
+
+    private Counter dropped(String reason) {
+        return Counter.builder(DROPPED).tag("reason", reason).register(meterRegistry);
+    }
+}
@@ -0,0 +1,57 @@
+package com.github.nonsugertea7821.iris.src.common.audit;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import com.github.nonsugertea7821.iris.src.common.sql.QueryRegistry;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 共通/監査ログリポジトリ<br>
+ * 監査イベントを {@code auth.audit} へ1回のバッチで挿入する。
+ * PostgreSQLドライバーの {@code reWriteBatchedInserts=true} を指定すると複数行INSERTに書き換えられる。
+ *
+ * @author nonsugertea7821
+ * @version 0.1.0
+ * @since 2026/10/17
+ */
+@Repository
+@RequiredArgsConstructor
+public class AuditRepository {
+
+    private static final String SQL_AUTH_I004 = "auth.query.insertAudit";
+
+    private static final String AUDIT_TABLE_COLUMN_LABEL_OCCURRED_AT = "occurred_at";
+    private static final String AUDIT_TABLE_COLUMN_LABEL_EVENT = "event";
+    private static final String AUDIT_TABLE_COLUMN_LABEL_USER_ID = "user_id";
+    private static final String AUDIT_TABLE_COLUMN_LABEL_CLIENT_IP = "client_ip";
+    private static final String AUDIT_TABLE_COLUMN_LABEL_DETAIL = "detail";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final QueryRegistry queryRegistry;
+
+    /**
+     * 監査イベントを一括挿入する。
+     *
+     * @param events 監査イベント
+     */
+    public void insertAll(List<AuditEvent> events) {
+        SqlParameterSource[] batch = new SqlParameterSource[events.size()];
+        for (int i = 0; i < batch.length; i++) {
+            AuditEvent event = events.get(i);
+            batch[i] = new MapSqlParameterSource()
+                    .addValue(AUDIT_TABLE_COLUMN_LABEL_OCCURRED_AT, Timestamp.from(event.occurredAt()))
+                    .addValue(AUDIT_TABLE_COLUMN_LABEL_EVENT, event.type().name())
+                    .addValue(AUDIT_TABLE_COLUMN_LABEL_USER_ID, event.userId())
+                    .addValue(AUDIT_TABLE_COLUMN_LABEL_CLIENT_IP, event.clientIp())
+                    .addValue(AUDIT_TABLE_COLUMN_LABEL_DETAIL, event.detail());
+        }
+        jdbcTemplate.batchUpdate(queryRegistry.get(SQL_AUTH_I004), batch);
+    }
+}
@@ -0,0 +1,100 @@
+package com.github.nonsugertea7821.iris.src.common.audit;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * 共通/有界リングバッファ(複数生産者・単一消費者)<br>
+ * 生産者は書き込み位置をCASで確保してから要素を格納し、ロックを取得しない。
+ * 消費者は格納済みの要素を先頭から取り出し、スロットを空けてから読み出し位置を進める。
+ * 消費者は同時に1スレッドのみとすること。
+ *
+ * @author nonsugertea7821
+ * @version 0.1.0
+ * @since 2026/10/17
+ * @param <E> 要素
+ */
+final class MpscRingBuffer<E> {
+
+    private final AtomicReferenceArray<E> slots;
+    private final int mask;
+
+    /**
+     * 次に書き込む位置(生産者間で共有)
+     */
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * 次に読み出す位置(消費者のみ更新)
+     */
+    private volatile long head;
+
+    MpscRingBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * 要素を追加する。
+     *
+     * @param element 要素
+     * @return 追加した場合true(満杯の場合false)
+     */
+    boolean offer(E element) {
+        long t;
+        do {
+            t = tail.get();
+            if (t - head >= slots.length()) {
+                return false;
+            }
+        } while (!tail.compareAndSet(t, t + 1));
+        slots.lazySet((int) t & mask, element);
+        return true;
+    }
+
+    /**
+     * 格納済みの要素を先頭から最大 {@code limit} 件取り出す。
+     *
+     * @param consumer 取り出した要素の処理
+     * @param limit 最大件数
+     * @return 取り出した件数
+     */
+    int drain(Consumer<E> consumer, int limit) {
+        long h = head;
+        int drained = 0;
+        while (drained < limit) {
+            int index = (int) h & mask;
+            E element = slots.get(index);
+            if (element == null) {
+                // 位置確保済み・格納前の要素は次回に取り出す
+                break;
+            }
+            slots.lazySet(index, null);
+            consumer.accept(element);
+            h++;
+            drained++;
+        }
+        head = h;
+        return drained;
+    }
+
+    /**
+     * 格納中の件数(概算)
+     *
+     * @return 件数
+     */
+    int size() {
+        return (int) Math.max(0, tail.get() - head);
+    }
+
+    /**
+     * 容量
+     *
+     * @return 容量
+     */
+    int capacity() {
+        return slots.length();
+    }
+}
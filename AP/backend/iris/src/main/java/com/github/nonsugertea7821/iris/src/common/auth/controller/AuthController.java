@@ -3,6 +3,7 @@ package com.github.nonsugertea7821.iris.src.common.auth.controller;
 import java.util.Map;
 import java.util.UUID;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -11,54 +12,72 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.github.nonsugertea7821.iris.src.common.auth.dto.request.AuthRequest;
+import com.github.nonsugertea7821.iris.src.common.auth.dto.request.HandshakeRequest;
 import com.github.nonsugertea7821.iris.src.common.auth.dto.response.ChallengeResponse;
+import com.github.nonsugertea7821.iris.src.common.auth.dto.response.HandshakeResponse;
 import com.github.nonsugertea7821.iris.src.common.auth.dto.response.LoginResponse;
 import com.github.nonsugertea7821.iris.src.common.auth.service.AuthServiceImpl;
+import com.github.nonsugertea7821.iris.src.common.ratelimit.RateLimiter;
 
 import jakarta.security.auth.message.AuthException;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 
 /**
  * 認証/コントローラー機能
  *
  * @author nonsugertea7821
- * @version 0.1.0
+ * @version 0.1.4
  * @since 2025/09/15
  */
 @RestController
 @RequestMapping("api/auth")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequiredArgsConstructor
 public class AuthController {
 
     private final AuthServiceImpl service;
+    private final RateLimiter rateLimiter;
 
     @GetMapping("/get-userId")
-    public UUID getUserId(@RequestParam String userName) {
+    public UUID getUserId(@RequestParam String userName, HttpServletRequest request) throws AuthException {
+        rateLimiter.acquire("get-userId", request.getRemoteAddr(), null);
         return service.getUserId(userName);
     }
 
     @GetMapping("/get-challenge")
-    public ChallengeResponse getChallenge(@RequestParam UUID userId) throws AuthException {
+    public ChallengeResponse getChallenge(@RequestParam UUID userId, HttpServletRequest request) throws AuthException {
+        rateLimiter.acquire("get-challenge", request.getRemoteAddr(), userId);
         ChallengeResponse challenge = service.getChallenge(userId);
         return challenge;
     }
 
+    /**
+     * ユーザー識別子・ソルト・一時saltを1往復で返す({@code get-userId} + {@code get-challenge})。
+     */
+    @PostMapping("/challenge")
+    public HandshakeResponse challenge(@RequestBody HandshakeRequest req, HttpServletRequest request) {
+        rateLimiter.acquire("challenge", request.getRemoteAddr(), req.getUserName());
+        return service.handshake(req.getUserName());
+    }
+
     @PostMapping("/login")
-    public LoginResponse login(@RequestBody AuthRequest req) throws AuthException {
-        LoginResponse token = service.authenticate(req.getUserId(), req.getPasswordHash());
+    public LoginResponse login(@RequestBody AuthRequest req, HttpServletRequest request) throws AuthException {
+        rateLimiter.acquire("login", request.getRemoteAddr(), req.getUserId());
+        LoginResponse token = service.authenticate(req.getUserId(), req.getPasswordHash(), request.getRemoteAddr());
         return token;
     }
 
     @PostMapping("/refresh")
-    public LoginResponse refresh(@RequestBody Map<String, String> req) throws AuthException {
+    public LoginResponse refresh(@RequestBody Map<String, String> req, HttpServletRequest request) throws AuthException {
         String refreshToken = req.get("refreshToken");
-        LoginResponse newTokens = service.refresh(refreshToken);
+        LoginResponse newTokens = service.refresh(refreshToken, request.getRemoteAddr());
         return newTokens;
     }
 
     @PostMapping("/logout")
-    public Map<String, Object> logout(@RequestBody Map<String, String> req) {
-        service.logout(req.get("refreshToken"));
+    public Map<String, Object> logout(@RequestBody Map<String, String> req, HttpServletRequest request) {
+        service.logout(req.get("refreshToken"), request.getRemoteAddr());
         return Map.of("resultCode", 0, "message", "ログアウト成功");
     }
 }
@@ -0,0 +1,86 @@
+package com.github.nonsugertea7821.iris.src.common.auth.controller;
+
+import java.net.InetSocketAddress;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.github.nonsugertea7821.iris.src.common.auth.dto.request.AuthRequest;
+import com.github.nonsugertea7821.iris.src.common.auth.dto.request.HandshakeRequest;
+import com.github.nonsugertea7821.iris.src.common.auth.dto.response.ChallengeResponse;
+import com.github.nonsugertea7821.iris.src.common.auth.dto.response.HandshakeResponse;
+import com.github.nonsugertea7821.iris.src.common.auth.dto.response.LoginResponse;
+import com.github.nonsugertea7821.iris.src.common.auth.service.ReactiveAuthService;
+import com.github.nonsugertea7821.iris.src.common.ratelimit.RateLimiter;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+/**
+ * 認証/コントローラー機能(リアクティブ構成)<br>
+ * {@link AuthController} と同一のエンドポイントを提供する。
+ *
+ * @author nonsugertea7821
+ * @version 0.1.3
+ * @since 2026/10/17
+ */
+@RestController
+@RequestMapping("api/auth")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveAuthController {
+
+    private final ReactiveAuthService service;
+    private final RateLimiter rateLimiter;
+
+    @GetMapping("/get-userId")
+    public Mono<UUID> getUserId(@RequestParam String userName, ServerHttpRequest request) {
+        rateLimiter.acquire("get-userId", clientIp(request), null);
+        return service.getUserId(userName);
+    }
+
+    @GetMapping("/get-challenge")
+    public Mono<ChallengeResponse> getChallenge(@RequestParam UUID userId, ServerHttpRequest request) {
+        rateLimiter.acquire("get-challenge", clientIp(request), userId);
+        return service.getChallenge(userId);
+    }
+
+    /**
+     * ユーザー識別子・ソルト・一時saltを1往復で返す({@code get-userId} + {@code get-challenge})。
+     */
+    @PostMapping("/challenge")
+    public Mono<HandshakeResponse> challenge(@RequestBody HandshakeRequest req, ServerHttpRequest request) {
+        rateLimiter.acquire("challenge", clientIp(request), req.getUserName());
+        return service.handshake(req.getUserName());
+    }
+
+    @PostMapping("/login")
+    public Mono<LoginResponse> login(@RequestBody AuthRequest req, ServerHttpRequest request) {
+        rateLimiter.acquire("login", clientIp(request), req.getUserId());
+        return service.authenticate(req.getUserId(), req.getPasswordHash(), clientIp(request));
+    }
+
+    @PostMapping("/refresh")
+    public Mono<LoginResponse> refresh(@RequestBody Map<String, String> req, ServerHttpRequest request) {
+        return service.refresh(req.get("refreshToken"), clientIp(request));
+    }
+
+    @PostMapping("/logout")
+    public Mono<Map<String, Object>> logout(@RequestBody Map<String, String> req, ServerHttpRequest request) {
+        return service.logout(req.get("refreshToken"), clientIp(request))
+                .thenReturn(Map.<String, Object>of("resultCode", 0, "message", "ログアウト成功"));
+    }
+
+    private static String clientIp(ServerHttpRequest request) {
+        InetSocketAddress address = request.getRemoteAddress();
+        return address != null && address.getAddress() != null ? address.getAddress().getHostAddress() : null;
+    }
+}
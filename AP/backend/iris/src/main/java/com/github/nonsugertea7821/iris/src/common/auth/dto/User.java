@@ -3,6 +3,7 @@ package com.github.nonsugertea7821.iris.src.common.auth.dto;
 import java.util.UUID;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.github.nonsugertea7821.iris.src.common.anotations.Column;
 
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
@@ -11,7 +12,7 @@ import lombok.RequiredArgsConstructor;
  * 認証/ユーザ情報
  *
  * @author nonsugertea7821
- * @version 0.1.1
+ * @version 0.1.2
  * @since 2025-09-14
  */
 @Data
@@ -21,29 +22,34 @@ public class User {
     /**
      * ユーザー識別子
      */
+    @Column(phy = "id", ja = "ユーザー識別子")
     private final UUID id;
 
     /**
      * ユーザー名
      */
+    @Column(phy = "name", ja = "ユーザー名")
     private final String name;
 
     /**
      * 権限
      */
     @JsonIgnore
+    @Column(phy = "role_name", ja = "権限")
     private final String role;
 
     /**
      * パスワードハッシュ
      */
     @JsonIgnore
+    @Column(phy = "password_hash", ja = "パスワードハッシュ")
     private final String passwordHash;
 
     /**
      * ソルト
      */
     @JsonIgnore
+    @Column(phy = "salt", ja = "ソルト")
     private final String salt;
 
 }
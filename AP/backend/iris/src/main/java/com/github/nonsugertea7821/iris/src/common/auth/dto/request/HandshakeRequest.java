@@ -0,0 +1,19 @@
+package com.github.nonsugertea7821.iris.src.common.auth.dto.request;
+
+import lombok.Data;
+
+/**
+ * 認証/ハンドシェイクリクエスト
+ *
+ * @author nonsugertea7821
+ * @version 0.1.0
+ * @since 2026/10/17
+ */
+@Data
+public class HandshakeRequest {
+
+    /**
+     * ユーザー名
+     */
+    private final String userName;
+}
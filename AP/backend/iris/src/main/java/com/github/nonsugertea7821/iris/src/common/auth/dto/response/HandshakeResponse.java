@@ -0,0 +1,32 @@
+package com.github.nonsugertea7821.iris.src.common.auth.dto.response;
+
+import java.util.UUID;
+
+import lombok.Data;
+
+/**
+ * 認証/ハンドシェイクレスポンス<br>
+ * ユーザー識別子取得とチャレンジ取得を1往復で返す。
+ *
+ * @author nonsugertea7821
+ * @version 0.1.0
+ * @since 2026/10/17
+ */
+@Data
+public class HandshakeResponse {
+
+    /**
+     * ユーザー識別子
+     */
+    private final UUID userId;
+
+    /**
+     * ソルト
+     */
+    private final String salt;
+
+    /**
+     * 一時ソルト
+     */
+    private final String nonce;
+}
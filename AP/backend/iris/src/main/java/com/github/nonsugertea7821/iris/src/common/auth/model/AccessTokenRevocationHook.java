@@ -0,0 +1,31 @@
+package com.github.nonsugertea7821.iris.src.common.auth.model;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 認証/アクセストークン失効判定フック<br>
+ * ステートレスなアクセストークンを有効期限前に失効させる場合に実装をBean登録する。
+ * リクエスト毎に呼び出されるため、DB等へのアクセスを伴わない実装とすること。
+ *
+ * @author nonsugertea7821
+ * @version 0.1.0
+ * @since 2026/10/17
+ */
+@FunctionalInterface
+public interface AccessTokenRevocationHook {
+
+    /**
+     * 失効判定を行わないフック
+     */
+    AccessTokenRevocationHook NONE = (userId, issuedAt) -> false;
+
+    /**
+     * アクセストークンが失効済みかを判定する。
+     *
+     * @param userId ユーザー識別子
+     * @param issuedAt トークン発行日時
+     * @return 失効済みの場合true
+     */
+    boolean isRevoked(UUID userId, Instant issuedAt);
+}
@@ -0,0 +1,101 @@
+package com.github.nonsugertea7821.iris.src.common.auth.model;
+
+import java.nio.ByteBuffer;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+
+import com.github.nonsugertea7821.iris.src.common.auth.dto.User;
+import com.github.nonsugertea7821.iris.src.common.properties.AuthProperties;
+import com.github.nonsugertea7821.iris.src.common.utils.CipherUtil;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 認証/ハンドシェイク偽装応答<br>
+ * 存在しないユーザー名でのハンドシェイクにも、実在ユーザーと同じ形式のユーザー識別子・ソルトを返し、
+ * 応答からユーザーの存在を判別させない。値は {@code security.auth.decoy-secret} とユーザー名のHMACから導出するため、
+ * 同じユーザー名には常に同じ値を返す(再試行による判別を防ぐ)。
+ * 署名鍵の更新で偽装値が変わらないよう、導出鍵は署名鍵と共用せず起動時に固定する。未指定の場合は起動しない。
+ * ログイン時も実在ユーザーと同じ処理(DB参照なし・定数時間のHMAC照合)を経るよう、
+ * 照合不能なパスワードハッシュを持つ偽装ユーザー情報をnonceと共に保管する。
+ * <p>
+ * ソルトは32バイトのBase64とする。実在ユーザーのソルトも同じ形式で登録すること。
+ *
+ * @author nonsugertea7821
+ * @version 0.1.2
+ * @since 2026/10/17
+ */
+@Component
+@RequiredArgsConstructor
+public class HandshakeDecoy {
+
+    /**
+     * 導出値の用途別接頭辞
+     */
+    private static final String PURPOSE_USER_ID = "handshake-decoy:user-id:";
+    private static final String PURPOSE_SALT = "handshake-decoy:salt:";
+
+    /**
+     * 偽装パスワードハッシュのバイト長
+     */
+    private static final int PASSWORD_HASH_BYTES = 32;
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final AuthProperties authProperties;
+
+    /**
+     * 導出鍵(起動時に固定)
+     */
+    private String secret;
+
+    @PostConstruct
+    public void init() {
+        String decoySecret = authProperties.getDecoySecret();
+        if (decoySecret == null || decoySecret.isBlank()) {
+            throw new IllegalStateException("security.auth.decoy-secret の指定が必要です");
+        }
+        this.secret = decoySecret;
+    }
+
+    /**
+     * 偽装ユーザー識別子(UUIDv4形式)を返す。
+     *
+     * @param userName ユーザー名
+     * @return ユーザー識別子
+     */
+    public UUID userId(String userName) {
+        ByteBuffer bytes = ByteBuffer.wrap(CipherUtil.hmacSha256Bytes(secret, PURPOSE_USER_ID + userName));
+        long msb = (bytes.getLong() & ~0xF000L) | 0x4000L;
+        long lsb = (bytes.getLong() & ~(0xC000_0000_0000_0000L)) | 0x8000_0000_0000_0000L;
+        return new UUID(msb, lsb);
+    }
+
+    /**
+     * 偽装ソルトを返す。
+     *
+     * @param userName ユーザー名
+     * @return ソルト
+     */
+    public String salt(String userName) {
+        return CipherUtil.hmacSha256(secret, PURPOSE_SALT + userName);
+    }
+
+    /**
+     * 偽装ユーザー情報を返す。<br>
+     * パスワードハッシュは呼び出し毎の乱数とし、どのパスワードとも照合しない。
+     *
+     * @param userName ユーザー名
+     * @return ユーザー情報
+     */
+    public User user(String userName) {
+        byte[] passwordHash = new byte[PASSWORD_HASH_BYTES];
+        RANDOM.nextBytes(passwordHash);
+        return new User(userId(userName), userName, null, Base64.getEncoder().encodeToString(passwordHash),
+                salt(userName));
+    }
+}
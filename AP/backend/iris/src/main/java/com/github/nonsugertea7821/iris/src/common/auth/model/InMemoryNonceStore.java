@@ -0,0 +1,149 @@
+package com.github.nonsugertea7821.iris.src.common.auth.model;
+
+import java.util.UUID;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import com.github.nonsugertea7821.iris.src.common.auth.dto.User;
+import com.github.nonsugertea7821.iris.src.common.exception.AuthFailureException;
+import com.github.nonsugertea7821.iris.src.common.exception.AuthFailureReason;
+import com.github.nonsugertea7821.iris.src.common.exception.RateLimitExceededException;
+import com.github.nonsugertea7821.iris.src.common.metrics.AuthMetrics;
+import com.github.nonsugertea7821.iris.src.common.properties.AuthProperties;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.security.auth.message.AuthException;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 認証/一時salt製造保管機能(インメモリ実装)<br>
+ * 単一インスタンス構成の既定実装。ユーザー識別子をキーに(nonce, 有効期限)を1つのMapで保持する。
+ * 期限切れのエントリはCaffeineの期限管理(タイミングホイール)で個別に削除されるため、
+ * 全件走査による掃除処理は行わない。
+ * チャレンジ時に取得したユーザー情報を併せて保持し、ログイン時の再取得を省略させる。
+ * 保持件数が {@code nonce-max-outstanding} に達した場合は既存のnonceを破棄せず、新規のチャレンジを
+ * {@link RateLimitExceededException} で拒否する(チャレンジの大量発行でログイン途中の利用者を締め出させない)。
+ *
+ * @author nonsugertea7821
+ * @version 0.2.4
+ * @since 2025/09/15
+ */
+@Component
+@ConditionalOnProperty(prefix = "security.auth", name = "store-type", havingValue = "memory", matchIfMissing = true)
+@RequiredArgsConstructor
+public class InMemoryNonceStore implements NonceStore {
+
+    /**
+     * 期限切れ後も「タイムアウト」と判別するためにエントリを保持する猶予時間
+     */
+    private static final long EXPIRED_GRACE_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    private final AuthProperties authProperties;
+    private final Scheduler scheduler;
+    private final AuthMetrics authMetrics;
+
+    /**
+     * クライアント別nonce保管Map key:userId value:nonce,有効期限,ユーザー情報
+     */
+    private ConcurrentMap<UUID, Challenge> store;
+
+    @PostConstruct
+    public void init() {
+        this.store = Caffeine.newBuilder()
+                .expireAfter(new Expiry<UUID, Challenge>() {
+                    @Override
+                    public long expireAfterCreate(UUID key, Challenge value, long currentTime) {
+                        return value.remainingNanos(EXPIRED_GRACE_MILLIS);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(UUID key, Challenge value, long currentTime, long currentDuration) {
+                        return value.remainingNanos(EXPIRED_GRACE_MILLIS);
+                    }
+
+                    @Override
+                    public long expireAfterRead(UUID key, Challenge value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .scheduler(scheduler)
+                .build()
+                .asMap();
+    }
+
+    @Override
+    public String createNonce(UUID userId) {
+        return put(userId, null);
+    }
+
+    @Override
+    public String createNonce(User user) {
+        return put(user.getId(), user);
+    }
+
+    @Override
+    public String getNonce(UUID userId) throws AuthException {
+        return consume(userId).nonce();
+    }
+
+    /**
+     * {@inheritDoc}<br>
+     * 取得したnonceは {@code remove(key, value)} で原子的に消費する。
+     */
+    @Override
+    public Consumed consume(UUID userId) throws AuthException {
+        Challenge challenge = store.get(userId);
+        // 取得後はワンタイムで削除(並行して消費された場合は失敗)
+        if (challenge == null || !store.remove(userId, challenge)) {
+            throw new AuthFailureException(AuthFailureReason.INVALID_CLIENT);
+        }
+        if (challenge.isExpired()) {
+            authMetrics.count(AuthMetrics.EVENT_NONCE_EXPIRED);
+            throw new AuthFailureException(AuthFailureReason.NONCE_EXPIRED);
+        }
+        return new Consumed(challenge.nonce().toString(), challenge.user());
+    }
+
+    @Override
+    public long size() {
+        return store.size();
+    }
+
+    private String put(UUID userId, User user) {
+        // 上限到達時は新規ユーザーのみ拒否する(既存nonceの再発行は件数が増えないため許可)
+        if (store.size() >= authProperties.getNonceMaxOutstanding() && !store.containsKey(userId)) {
+            authMetrics.count(AuthMetrics.EVENT_NONCE_REJECTED);
+            throw new RateLimitExceededException("保持中のnonceが上限に達しています",
+                    Math.max(1, authProperties.getNonceExpireSeconds()));
+        }
+        UUID nonce = UUID.randomUUID();
+        long deadline = System.currentTimeMillis() + authProperties.getNonceExpireSeconds() * 1000;
+        store.put(userId, new Challenge(nonce, deadline, user));
+        return nonce.toString();
+    }
+
+    /**
+     * 一時salt
+     *
+     * @param nonce 一時salt
+     * @param deadline 有効期限(エポックミリ秒)
+     * @param user 製造時のユーザー情報(未指定の場合null)
+     */
+    private record Challenge(UUID nonce, long deadline, User user) {
+
+        private boolean isExpired() {
+            return System.currentTimeMillis() >= deadline;
+        }
+
+        private long remainingNanos(long graceMillis) {
+            long millis = deadline + graceMillis - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, millis));
+        }
+    }
+}
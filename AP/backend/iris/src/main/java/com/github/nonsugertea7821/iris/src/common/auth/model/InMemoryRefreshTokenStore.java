@@ -0,0 +1,67 @@
+package com.github.nonsugertea7821.iris.src.common.auth.model;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Scheduler;
+
+/**
+ * 認証/リフレッシュトークン失効リスト(インメモリ実装)<br>
+ * 失効情報はトークンの有効期限を過ぎると自動的に破棄する。
+ *
+ * @author nonsugertea7821
+ * @version 0.1.1
+ * @since 2026/10/17
+ */
+@Component
+@ConditionalOnProperty(prefix = "security.auth", name = "store-type", havingValue = "memory", matchIfMissing = true)
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+    /**
+     * 失効済みトークン key:トークン識別子 value:有効期限
+     */
+    private final Cache<String, Instant> revoked;
+
+    public InMemoryRefreshTokenStore(Scheduler scheduler) {
+        this.revoked = Caffeine.newBuilder()
+                .expireAfter(new Expiry<String, Instant>() {
+                    @Override
+                    public long expireAfterCreate(String key, Instant expiresAt, long currentTime) {
+                        return remainingNanos(expiresAt);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Instant expiresAt, long currentTime, long currentDuration) {
+                        return remainingNanos(expiresAt);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Instant expiresAt, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .scheduler(scheduler)
+                .build();
+    }
+
+    @Override
+    public boolean revoke(String tokenId, Instant expiresAt) {
+        return revoked.asMap().putIfAbsent(tokenId, expiresAt) == null;
+    }
+
+    @Override
+    public boolean isRevoked(String tokenId) {
+        return revoked.getIfPresent(tokenId) != null;
+    }
+
+    private static long remainingNanos(Instant expiresAt) {
+        long millis = expiresAt.toEpochMilli() - System.currentTimeMillis();
+        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, millis));
+    }
+}
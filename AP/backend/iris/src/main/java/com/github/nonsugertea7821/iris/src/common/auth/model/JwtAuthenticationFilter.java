@@ -3,6 +3,7 @@ package com.github.nonsugertea7821.iris.src.common.auth.model;
 import java.io.IOException;
 import java.util.ArrayList;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.GrantedAuthority;
@@ -12,8 +13,15 @@ import org.springframework.security.web.authentication.WebAuthenticationDetailsS
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.github.nonsugertea7821.iris.src.common.audit.AuditEventType;
+import com.github.nonsugertea7821.iris.src.common.audit.AuditLog;
 import com.github.nonsugertea7821.iris.src.common.auth.dto.User;
+import com.github.nonsugertea7821.iris.src.common.auth.model.JwtProcessor.TokenRevokedException;
+import com.github.nonsugertea7821.iris.src.common.auth.repository.AuthRepository.UserNotFoundException;
+import com.github.nonsugertea7821.iris.src.common.metrics.AuthMetrics;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -21,13 +29,16 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 
 /**
- * 認証/リクエストフィルター機能
+ * 認証/リクエストフィルター機能<br>
+ * 失効済みトークン及び削除済みユーザーのトークンは401で応答する。
+ * それ以外の例外(DB障害等)は認証の失敗として扱わず、原因のまま呼び出し元へ送出する。
  *
  * @author nonsugertea7821
- * @version 0.1.1
+ * @version 0.1.7
  * @since 2025/08/16
  */
 @Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
@@ -36,6 +47,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
      */
     private final JwtProcessor jwtProcessor;
 
+    /**
+     * 認証/検証済みトークンキャッシュ
+     */
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    /**
+     * 共通/認証処理メトリクス
+     */
+    private final AuthMetrics authMetrics;
+
+    /**
+     * 共通/監査ログ
+     */
+    private final AuditLog auditLog;
+
     @Override
     protected void doFilterInternal(
             @NonNull HttpServletRequest request,
@@ -45,10 +71,28 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String authHeader = request.getHeader("Authorization");
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
             String token = authHeader.substring(7);
+            long start = authMetrics.start();
             try {
-                // トークン検証
-                if (jwtProcessor.validateAccessToken(token)) {
-                    User user = jwtProcessor.getUserFromAccessToken(token);
+                // 検証済みトークンはキャッシュから復元し、未検証の場合のみ署名検証する
+                User user = null;
+                var verified = verifiedTokenCache.get(token);
+                if (verified != null) {
+                    jwtProcessor.assertNotRevoked(verified.user().getId(), verified.issuedAt());
+                    user = verified.user();
+                } else {
+                    Claims claims;
+                    try {
+                        claims = jwtProcessor.parseAccessToken(token);
+                    } catch (JwtException e) {
+                        auditLog.publish(AuditEventType.TOKEN_REJECTED, null, request.getRemoteAddr(), "invalid");
+                        claims = null;
+                    }
+                    if (claims != null) {
+                        user = jwtProcessor.getUserFromClaims(claims);
+                        verifiedTokenCache.put(token, claims, user, !jwtProcessor.isPrincipalInClaims(claims));
+                    }
+                }
+                if (user != null) {
                     var authority = new SimpleGrantedAuthority(user.getRole());
                     var authorities = new ArrayList<GrantedAuthority>();
                     authorities.add(authority);
@@ -62,15 +106,32 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                     authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                     SecurityContextHolder.getContext().setAuthentication(authentication);
                 }
-            } catch (Exception e) {
-                // 無効トークンは SecurityContext をクリア
-                SecurityContextHolder.clearContext();
-                response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+            } catch (TokenRevokedException e) {
+                verifiedTokenCache.invalidate(token);
+                reject(request, response, "revoked");
                 return;
+            } catch (UserNotFoundException e) {
+                reject(request, response, "unknown_user");
+                return;
+            } finally {
+                authMetrics.record(AuthMetrics.STAGE_FILTER, start);
             }
         }
 
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * 無効トークンは SecurityContext をクリアし、理由を監査ログに記録して401で応答する。
+     *
+     * @param request リクエスト
+     * @param response レスポンス
+     * @param detail 拒否理由
+     */
+    private void reject(HttpServletRequest request, HttpServletResponse response, String detail) {
+        SecurityContextHolder.clearContext();
+        auditLog.publish(AuditEventType.TOKEN_REJECTED, null, request.getRemoteAddr(), detail);
+        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+    }
+
 }
@@ -0,0 +1,147 @@
+package com.github.nonsugertea7821.iris.src.common.auth.model;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.NonNull;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+
+import com.github.nonsugertea7821.iris.src.common.audit.AuditEventType;
+import com.github.nonsugertea7821.iris.src.common.audit.AuditLog;
+import com.github.nonsugertea7821.iris.src.common.auth.dto.User;
+import com.github.nonsugertea7821.iris.src.common.auth.model.JwtProcessor.TokenRevokedException;
+import com.github.nonsugertea7821.iris.src.common.auth.repository.AuthRepository.UserNotFoundException;
+import com.github.nonsugertea7821.iris.src.common.metrics.AuthMetrics;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 認証/リクエストフィルター機能(リアクティブ構成)<br>
+ * {@link JwtAuthenticationFilter} と同じ判定をイベントループ上で行う。
+ * 検証済みトークンはキャッシュから同期的に復元し、署名検証及びユーザー情報の読込が必要な場合のみ
+ * {@link Schedulers#boundedElastic()} へ処理を移す。
+ * 失効済みトークン及び削除済みユーザーのトークンは401で応答し、それ以外のエラーは原因のまま送出する。
+ * 認証処理の所要時間はサーブレット構成と同じ段階名({@link AuthMetrics#STAGE_FILTER})で、
+ * ユーザー情報の確定までを記録する(後続の処理は含まない)。
+ *
+ * @author nonsugertea7821
+ * @version 0.1.4
+ * @since 2026/10/17
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class JwtAuthenticationWebFilter implements WebFilter {
+
+    /**
+     * 認証/JWTプロセッサー
+     */
+    private final JwtProcessor jwtProcessor;
+
+    /**
+     * 認証/検証済みトークンキャッシュ
+     */
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    /**
+     * 共通/認証処理メトリクス
+     */
+    private final AuthMetrics authMetrics;
+
+    /**
+     * 共通/監査ログ
+     */
+    private final AuditLog auditLog;
+
+    @Override
+    @NonNull
+    public Mono<Void> filter(@NonNull ServerWebExchange exchange, @NonNull WebFilterChain chain) {
+        String authHeader = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            return chain.filter(exchange);
+        }
+        String token = authHeader.substring(7);
+        long start = authMetrics.start();
+        Mono<User> user;
+        try {
+            var verified = verifiedTokenCache.get(token);
+            if (verified != null) {
+                jwtProcessor.assertNotRevoked(verified.user().getId(), verified.issuedAt());
+                user = Mono.just(verified.user());
+            } else {
+                user = Mono.fromCallable(() -> resolveUser(token, exchange)).subscribeOn(Schedulers.boundedElastic());
+            }
+        } catch (TokenRevokedException e) {
+            authMetrics.record(AuthMetrics.STAGE_FILTER, start);
+            verifiedTokenCache.invalidate(token);
+            return reject(exchange, "revoked");
+        }
+        return user
+                // 後続のフィルター処理を含めないよう、ユーザー情報の確定時点で記録する
+                .doOnTerminate(() -> authMetrics.record(AuthMetrics.STAGE_FILTER, start))
+                .map(JwtAuthenticationWebFilter::toAuthentication)
+                .map(authentication -> chain.filter(exchange)
+                        .contextWrite(ReactiveSecurityContextHolder.withAuthentication(authentication)))
+                .defaultIfEmpty(Mono.defer(() -> chain.filter(exchange)))
+                .onErrorResume(TokenRevokedException.class, e -> Mono.just(reject(exchange, "revoked")))
+                .onErrorResume(UserNotFoundException.class, e -> Mono.just(reject(exchange, "unknown_user")))
+                .flatMap(next -> next);
+    }
+
+    /**
+     * トークンを検証しユーザー情報を復元する。(ブロッキング処理)
+     *
+     * @param token アクセストークン
+     * @param exchange リクエスト
+     * @return ユーザー情報(トークンが無効な場合null)
+     */
+    private User resolveUser(String token, ServerWebExchange exchange) {
+        Claims claims;
+        try {
+            claims = jwtProcessor.parseAccessToken(token);
+        } catch (JwtException e) {
+            // 無効トークンは未認証として後続に委ねる
+            auditLog.publish(AuditEventType.TOKEN_REJECTED, null, clientIp(exchange), "invalid");
+            return null;
+        }
+        User user = jwtProcessor.getUserFromClaims(claims);
+        verifiedTokenCache.put(token, claims, user, !jwtProcessor.isPrincipalInClaims(claims));
+        return user;
+    }
+
+    private static Authentication toAuthentication(User user) {
+        return new UsernamePasswordAuthenticationToken(user, null, List.of(new SimpleGrantedAuthority(user.getRole())));
+    }
+
+    private static String clientIp(ServerWebExchange exchange) {
+        InetSocketAddress address = exchange.getRequest().getRemoteAddress();
+        return address != null && address.getAddress() != null ? address.getAddress().getHostAddress() : null;
+    }
+
+    /**
+     * 拒否理由を監査ログに記録して401で応答する。
+     *
+     * @param exchange リクエスト
+     * @param detail 拒否理由
+     * @return 応答完了
+     */
+    private Mono<Void> reject(ServerWebExchange exchange, String detail) {
+        auditLog.publish(AuditEventType.TOKEN_REJECTED, null, clientIp(exchange), detail);
+        exchange.getResponse().setStatusCode(HttpStatus.UNAUTHORIZED);
+        return exchange.getResponse().setComplete();
+    }
+}
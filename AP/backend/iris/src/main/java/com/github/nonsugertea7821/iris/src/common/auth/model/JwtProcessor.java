@@ -1,60 +1,93 @@
 package com.github.nonsugertea7821.iris.src.common.auth.model;
 
-import java.security.Key;
+import java.time.Instant;
 import java.util.Date;
 import java.util.UUID;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Component;
 
 import com.github.nonsugertea7821.iris.src.common.auth.dto.User;
 import com.github.nonsugertea7821.iris.src.common.auth.repository.AuthRepository;
+import com.github.nonsugertea7821.iris.src.common.metrics.AuthMetrics;
 import com.github.nonsugertea7821.iris.src.common.properties.AuthProperties;
+import com.github.nonsugertea7821.iris.src.common.utils.CipherUtil;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 
 /**
- * 認証/Jwtトークン発行機能
+ * 認証/Jwtトークン発行機能<br>
+ * 署名鍵は {@link SigningKeyRing} から取得し、発行するトークンには鍵識別子({@code kid} ヘッダー)を付与する。
  *
  * @author nonsugertea7821
- * @version 0.1.0
+ * @version 0.1.9
  * @since 2025/08/16
  */
 @Component
 @RequiredArgsConstructor
 public class JwtProcessor {
 
+    /**
+     * ユーザー名クレーム
+     */
+    private static final String CLAIM_NAME = "name";
+
+    /**
+     * 権限クレーム
+     */
+    private static final String CLAIM_ROLE = "role";
+
     private final AuthRepository authRepository;
     private final AuthProperties authProperties;
-    private Key key;
+    private final ObjectProvider<AccessTokenRevocationHook> revocationHookProvider;
+    private final RefreshTokenStore refreshTokenStore;
+    private final RevokedTokenIndex revokedTokenIndex;
+    private final AuthMetrics authMetrics;
+    private final SigningKeyRing signingKeyRing;
+    /**
+     * 署名検証用パーサー(スレッドセーフ)
+     */
+    private JwtParser parser;
     private long accessTokenExpireMillis;
     private long refreshTokenExpireMillis;
+    private long principalMaxStalenessMillis;
+    private AccessTokenRevocationHook revocationHook;
 
     @PostConstruct
     public void init() {
-        this.key = Keys.hmacShaKeyFor(authProperties.getJwtSecret().getBytes());
+        this.parser = Jwts.parserBuilder().setSigningKeyResolver(signingKeyRing).build();
         this.accessTokenExpireMillis = authProperties.getAccessTokenExpireSeconds() * 1000;
         this.refreshTokenExpireMillis = authProperties.getRefreshTokenExpireSeconds() * 1000;
+        this.principalMaxStalenessMillis = authProperties.getPrincipalMaxStalenessSeconds() * 1000;
+        this.revocationHook = revocationHookProvider.getIfAvailable(() -> AccessTokenRevocationHook.NONE);
     }
 
     /**
-     * ユーザー識別子に対応するアクセストークンを発行する。
+     * ユーザーに対応するアクセストークンを発行する。<br>
+     * ユーザー名と権限を署名済みクレームとして埋め込む。
      *
-     * @param userId ユーザー識別子
+     * @param user ユーザー情報
      * @return JWTトークン
      */
-    public String generateAccessToken(UUID userId) {
+    public String generateAccessToken(User user) {
+        long start = authMetrics.start();
         long now = System.currentTimeMillis();
-        return Jwts.builder()
-                .setSubject(String.valueOf(userId))
+        String token = sign(Jwts.builder()
+                .setId(UUID.randomUUID().toString())
+                .setSubject(String.valueOf(user.getId()))
+                .claim(CLAIM_NAME, user.getName())
+                .claim(CLAIM_ROLE, user.getRole())
                 .setIssuedAt(new Date(now))
-                .setExpiration(new Date(now + accessTokenExpireMillis))
-                .signWith(key)
-                .compact();
+                .setExpiration(new Date(now + accessTokenExpireMillis)));
+        authMetrics.record(AuthMetrics.STAGE_GENERATE_ACCESS_TOKEN, start);
+        return token;
     }
 
     /**
@@ -64,23 +97,48 @@ public class JwtProcessor {
      * @return JWTトークン
      */
     public String generateRefreshToken(UUID userId) {
+        long start = authMetrics.start();
         long now = System.currentTimeMillis();
-        return Jwts.builder()
+        String token = sign(Jwts.builder()
+                .setId(UUID.randomUUID().toString())
                 .setSubject(String.valueOf(userId))
                 .setIssuedAt(new Date())
-                .setExpiration(new Date(now + refreshTokenExpireMillis))
-                .signWith(key)
-                .compact();
+                .setExpiration(new Date(now + refreshTokenExpireMillis)));
+        authMetrics.record(AuthMetrics.STAGE_GENERATE_REFRESH_TOKEN, start);
+        return token;
     }
 
     /**
-     * リフレッシュトークンを無効化する。
+     * リフレッシュトークンを無効化する。<br>
+     * 不正・期限切れのトークンは既に無効のため何もしない。
      *
-     * @param userId ユーザー識別子
-     * @return JWTトークン
+     * @param refreshToken リフレッシュトークン
+     * @return トークンのユーザー識別子(不正・期限切れの場合null)
+     */
+    public UUID revokeRefreshToken(String refreshToken) {
+        Claims claims;
+        try {
+            claims = parser.parseClaimsJws(refreshToken).getBody();
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+        revokeRefreshToken(refreshToken, claims);
+        return UUID.fromString(claims.getSubject());
+    }
+
+    /**
+     * 検証済みのリフレッシュトークンを無効化する。
+     *
+     * @param refreshToken リフレッシュトークン
+     * @param claims 検証済みクレーム
+     * @return 今回の呼び出しで無効化した場合true(無効化済みだった場合false)
      */
-    public void revokeRefreshToken(String refreshToken) {
-        // TODO: DB or Redis でブラックリスト化
+    public boolean revokeRefreshToken(String refreshToken, Claims claims) {
+        String tokenId = tokenId(refreshToken, claims);
+        Instant expiresAt = claims.getExpiration().toInstant();
+        boolean revoked = refreshTokenStore.revoke(tokenId, expiresAt);
+        revokedTokenIndex.add(tokenId, expiresAt);
+        return revoked;
     }
 
     /**
@@ -91,10 +149,7 @@ public class JwtProcessor {
      */
     public boolean validateAccessToken(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token);
+            parseAccessToken(token);
             return true;
         } catch (JwtException e) {
             return false;
@@ -109,44 +164,170 @@ public class JwtProcessor {
      */
     public boolean validateRefreshToken(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token);
+            parseRefreshToken(token);
             return true;
         } catch (JwtException e) {
             return false;
         }
     }
 
+    /**
+     * リフレッシュトークンの署名・有効期限・失効状態を検証し、クレームを返す。<br>
+     * 失効状態は {@link RevokedTokenIndex} で「失効の可能性あり」と判定された場合のみ失効リストを参照する。
+     *
+     * @param token リフレッシュトークン
+     * @return 検証済みクレーム
+     * @throws JwtException トークンが不正または失効済みの場合
+     */
+    public Claims parseRefreshToken(String token) {
+        long start = authMetrics.start();
+        try {
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            String tokenId = tokenId(token, claims);
+            if (revokedTokenIndex.mightBeRevoked(tokenId) && refreshTokenStore.isRevoked(tokenId)) {
+                throw new JwtException("失効済みのリフレッシュトークンです");
+            }
+            return claims;
+        } finally {
+            authMetrics.record(AuthMetrics.STAGE_PARSE_REFRESH_TOKEN, start);
+        }
+    }
+
+    /**
+     * アクセストークンの署名・有効期限を検証し、クレームを返す。<br>
+     * 署名検証は1トークンにつき1回のみ行う。
+     *
+     * @param token アクセストークン
+     * @return 検証済みクレーム
+     * @throws JwtException トークンが不正な場合
+     */
+    public Claims parseAccessToken(String token) {
+        long start = authMetrics.start();
+        try {
+            return parser.parseClaimsJws(token).getBody();
+        } finally {
+            authMetrics.record(AuthMetrics.STAGE_PARSE_ACCESS_TOKEN, start);
+        }
+    }
+
     /**
      * アクセストークンからユーザー情報を取得
+     *
+     * @throws JwtException トークンが不正または失効済みの場合
      */
     public User getUserFromAccessToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return getUserFromClaims(parseAccessToken(token));
+    }
+
+    /**
+     * 検証済みクレームからユーザー情報を取得<br>
+     * ステートレスモードではクレームのみからユーザー情報を復元し、DBを参照しない。
+     * クレームが不足している場合、または最大経過時間を超えた場合はDBから再取得する。
+     *
+     * @param claims {@link #parseAccessToken(String)} で検証済みのクレーム
+     * @return ユーザー情報
+     * @throws JwtException トークンが失効済みの場合
+     */
+    public User getUserFromClaims(Claims claims) {
         UUID userId = UUID.fromString(claims.getSubject());
+        Date issuedAt = claims.getIssuedAt();
+        assertNotRevoked(userId, issuedAt);
+        if (isPrincipalInClaims(claims)) {
+            return new User(userId, claims.get(CLAIM_NAME, String.class), claims.get(CLAIM_ROLE, String.class), null, null);
+        }
         return authRepository.getUserById(userId);
     }
 
+    /**
+     * クレームのみからユーザー情報を復元するかを判定する。
+     *
+     * @param claims 検証済みクレーム
+     * @return クレームから復元する場合true(DBから読み込む場合false)
+     */
+    public boolean isPrincipalInClaims(Claims claims) {
+        return authProperties.isStatelessPrincipal()
+                && claims.get(CLAIM_ROLE, String.class) != null
+                && isFresh(claims.getIssuedAt());
+    }
+
+    /**
+     * アクセストークンが失効済みでないことを確認する。
+     *
+     * @param userId ユーザー識別子
+     * @param issuedAt トークン発行日時
+     * @throws TokenRevokedException トークンが失効済みの場合
+     */
+    public void assertNotRevoked(UUID userId, Date issuedAt) {
+        if (issuedAt != null && revocationHook.isRevoked(userId, issuedAt.toInstant())) {
+            throw new TokenRevokedException("失効済みのアクセストークンです");
+        }
+    }
+
+    /**
+     * クレームのユーザー情報が最大経過時間内かを判定する。
+     *
+     * @param issuedAt トークン発行日時
+     * @return 最大経過時間内の場合true
+     */
+    private boolean isFresh(Date issuedAt) {
+        if (principalMaxStalenessMillis <= 0) {
+            return true;
+        }
+        return issuedAt != null
+                && Instant.now().toEpochMilli() - issuedAt.getTime() <= principalMaxStalenessMillis;
+    }
+
     /**
      * リフレッシュトークンからユーザーを取得する。
      *
      * @param userId ユーザー識別子
      * @return JWTトークン
+     * @throws JwtException トークンが不正な場合
      */
     public User getUserFromRefreshToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        Claims claims = parseRefreshToken(token);
         UUID userId = UUID.fromString(claims.getSubject());
         User user = authRepository.getUserById(userId);
         return user;
     }
 
+    /**
+     * 現在の署名鍵で署名する。
+     *
+     * @param builder クレーム設定済みのビルダー
+     * @return JWTトークン
+     */
+    private String sign(JwtBuilder builder) {
+        SigningKeyRing.ActiveKey active = signingKeyRing.active();
+        if (active.kid() != null) {
+            builder.setHeaderParam(JwsHeader.KEY_ID, active.kid());
+        }
+        return builder.signWith(active.key()).compact();
+    }
+
+    /**
+     * トークン識別子を返す。<br>
+     * jtiクレームを持たない旧形式のトークンはダイジェストで識別する。
+     *
+     * @param token トークン
+     * @param claims 検証済みクレーム
+     * @return トークン識別子
+     */
+    private static String tokenId(String token, Claims claims) {
+        String id = claims.getId();
+        return id != null ? id : CipherUtil.sha256(token);
+    }
+
+    // 専用例外(想定内の失敗のためスタックトレースを取得しない)
+    public static class TokenRevokedException extends JwtException {
+
+        public TokenRevokedException(String message) {
+            super(message);
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
 }
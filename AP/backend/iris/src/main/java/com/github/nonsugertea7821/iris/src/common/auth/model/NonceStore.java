@@ -1,104 +1,80 @@
 package com.github.nonsugertea7821.iris.src.common.auth.model;
 
-import java.time.Instant;
-import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 
-import org.springframework.stereotype.Component;
+import com.github.nonsugertea7821.iris.src.common.auth.dto.User;
 
-import com.github.nonsugertea7821.iris.src.common.properties.AuthProperties;
-
-import jakarta.annotation.PostConstruct;
 import jakarta.security.auth.message.AuthException;
-import lombok.RequiredArgsConstructor;
 
 /**
- * 認証/一時salt製造保管機能
+ * 認証/一時salt製造保管機能<br>
+ * {@code security.auth.store-type} で実装を選択する。
+ * <ul>
+ * <li>{@code memory}(既定): {@link InMemoryNonceStore}</li>
+ * <li>{@code jdbc}: {@link com.github.nonsugertea7821.iris.src.common.auth.repository.JdbcNonceStore}</li>
+ * </ul>
  *
  * @author nonsugertea7821
- * @version 0.1.0
+ * @version 0.3.1
  * @since 2025/09/15
  */
-@Component
-@RequiredArgsConstructor
-public class NonceStore {
-
-    private final AuthProperties authProperties;
+public interface NonceStore {
 
     /**
-     * nonceの有効期限保管Map key:nonce value:nonce作成時間
+     * 認証/一時salt製造処理
+     *
+     * @param userId ユーザー識別子
+     * @return 一時salt
      */
-    private final Map<UUID, Instant> expire = new ConcurrentHashMap<>();
+    String createNonce(UUID userId);
 
     /**
-     * クライアント別nonce保管Map key:userId value:nonce
+     * 認証/一時salt製造処理(ユーザー情報保持)<br>
+     * ユーザー情報を保持できる実装では、消費時に {@link Consumed#user()} として返し、
+     * ログイン時のユーザー情報の再取得を省略させる。
+     *
+     * @param user ユーザー情報
+     * @return 一時salt
      */
-    private final Map<UUID, UUID> store = new ConcurrentHashMap<>();
+    default String createNonce(User user) {
+        return createNonce(user.getId());
+    }
 
     /**
-     * 定期クリーンアップ用スレッド
+     * 認証/一時salt取得処理<br>
+     * 取得したnonceはワンタイムで消費される。
+     *
+     * @param userId ユーザー識別子
+     * @return 一時salt
+     * @throws AuthException nonceが存在しない、または期限切れの場合
      */
-    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
-
-    @PostConstruct
-    public void init() {
-        // 1分ごとに古い nonce を掃除
-        scheduler.scheduleAtFixedRate(this::cleanupExpiredNonces, 1, 1, TimeUnit.MINUTES);
-    }
+    String getNonce(UUID userId) throws AuthException;
 
     /**
-     * 認証/一時salt製造処理
+     * 認証/一時salt消費処理<br>
+     * nonceと、製造時に保持したユーザー情報を返す。
      *
      * @param userId ユーザー識別子
-     * @return 一時salt
+     * @return 一時salt及びユーザー情報
+     * @throws AuthException nonceが存在しない、または期限切れの場合
      */
-    public String createNonce(UUID userId) {
-        UUID nonce = UUID.randomUUID();
-        store.put(userId, nonce);
-        expire.put(nonce, Instant.now());
-        return nonce.toString();
+    default Consumed consume(UUID userId) throws AuthException {
+        return new Consumed(getNonce(userId), null);
     }
 
     /**
-     * 認証/一時salt取得処理
+     * 保持中のnonce件数(概算)
      *
-     * @param userid ユーザー識別子
-     * @return 一時salt
+     * @return 件数
      */
-    public String getNonce(UUID userId) throws AuthException {
-        UUID storedNonce = store.get(userId);
-        Instant created = expire.get(storedNonce);
-        if (storedNonce == null || created == null) {
-            throw new AuthException("不正なクライアント識別子です");
-        }
-        if (!Instant.now().isBefore(created.plusSeconds(authProperties.getNonceExpireSeconds()))) {
-            // 期限切れの場合も削除
-            store.remove(userId);
-            expire.remove(storedNonce);
-            throw new AuthException("認証がタイムアウトしました");
-        }
-
-        // 取得後はワンタイムで削除
-        store.remove(userId);
-        expire.remove(storedNonce);
-        return storedNonce.toString();
-    }
+    long size();
 
     /**
-     * キャッシュクリア<br>
-     * 定期的に古い nonce を削除する。
+     * 消費した一時salt
+     *
+     * @param nonce 一時salt
+     * @param user 製造時のユーザー情報(保持しない実装・ユーザー情報なしで製造した場合null)
      */
-    private void cleanupExpiredNonces() {
-        Instant now = Instant.now();
-        expire.forEach((nonce, created) -> {
-            if (created.plusSeconds(authProperties.getNonceExpireSeconds()).isBefore(now)) {
-                expire.remove(nonce);
-                store.values().removeIf(value -> value.equals(nonce));
-            }
-        });
+    record Consumed(String nonce, User user) {
     }
 }
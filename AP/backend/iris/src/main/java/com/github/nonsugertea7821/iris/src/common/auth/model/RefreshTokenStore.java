@@ -0,0 +1,58 @@
+package com.github.nonsugertea7821.iris.src.common.auth.model;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 認証/リフレッシュトークン失効リスト<br>
+ * {@code security.auth.store-type} で実装を選択する。
+ * <ul>
+ * <li>{@code memory}(既定): {@link InMemoryRefreshTokenStore}</li>
+ * <li>{@code jdbc}: {@link com.github.nonsugertea7821.iris.src.common.auth.repository.JdbcRefreshTokenStore}</li>
+ * </ul>
+ *
+ * @author nonsugertea7821
+ * @version 0.1.1
+ * @since 2026/10/17
+ */
+public interface RefreshTokenStore {
+
+    /**
+     * リフレッシュトークンを失効させる。
+     *
+     * @param tokenId トークン識別子
+     * @param expiresAt トークンの有効期限(以降は失効情報を保持しない)
+     * @return 今回の呼び出しで失効させた場合true(失効済みだった場合false)
+     */
+    boolean revoke(String tokenId, Instant expiresAt);
+
+    /**
+     * リフレッシュトークンが失効済みかを判定する。
+     *
+     * @param tokenId トークン識別子
+     * @return 失効済みの場合true
+     */
+    boolean isRevoked(String tokenId);
+
+    /**
+     * 指定日時以降に失効した、有効期限内のトークンを返す。<br>
+     * 他ノードで失効したトークンを {@link RevokedTokenIndex} に取り込むために使用する。
+     * 単一プロセスで完結する実装は空リストを返してよい。
+     *
+     * @param since 失効日時の下限
+     * @return 失効情報
+     */
+    default List<Revocation> findRevokedSince(Instant since) {
+        return List.of();
+    }
+
+    /**
+     * 失効情報
+     *
+     * @param tokenId トークン識別子
+     * @param expiresAt トークンの有効期限
+     * @param revokedAt 失効日時
+     */
+    record Revocation(String tokenId, Instant expiresAt, Instant revokedAt) {
+    }
+}
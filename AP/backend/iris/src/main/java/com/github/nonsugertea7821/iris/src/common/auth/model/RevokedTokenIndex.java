@@ -0,0 +1,116 @@
+package com.github.nonsugertea7821.iris.src.common.auth.model;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.github.nonsugertea7821.iris.src.common.properties.AuthProperties;
+import com.github.nonsugertea7821.iris.src.common.utils.BloomFilter;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 認証/失効トークン索引<br>
+ * 失効リストの前段に置くブルームフィルター。「失効していない」判定はDBを参照せずに確定する。
+ * フィルターはトークン有効期限の時間枠(1時間)毎に分割し、期限を過ぎた時間枠ごと破棄する。
+ * 他ノードで失効したトークンは {@link RefreshTokenStore#findRevokedSince(Instant)} から定期的に差分取り込みする。
+ *
+ * @author nonsugertea7821
+ * @version 0.1.0
+ * @since 2026/10/17
+ */
+@Component
+@RequiredArgsConstructor
+public class RevokedTokenIndex {
+
+    /**
+     * 時間枠の幅
+     */
+    private static final long BUCKET_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+    /**
+     * 差分取り込み時の重複取得幅(コミット順のずれを吸収する)
+     */
+    private static final long SYNC_OVERLAP_MILLIS = TimeUnit.SECONDS.toMillis(5);
+
+    private final RefreshTokenStore refreshTokenStore;
+    private final AuthProperties authProperties;
+
+    /**
+     * 時間枠別フィルター key:時間枠の終端(時間枠番号) value:フィルター
+     */
+    private final ConcurrentSkipListMap<Long, BloomFilter> buckets = new ConcurrentSkipListMap<>();
+
+    /**
+     * 取り込み済みの失効日時
+     */
+    private volatile Instant watermark = Instant.EPOCH;
+
+    @PostConstruct
+    public void init() {
+        sync();
+    }
+
+    /**
+     * 失効トークンを登録する。
+     *
+     * @param tokenId トークン識別子
+     * @param expiresAt トークンの有効期限
+     */
+    public void add(String tokenId, Instant expiresAt) {
+        long bucket = Math.floorDiv(expiresAt.toEpochMilli() + BUCKET_MILLIS - 1, BUCKET_MILLIS);
+        buckets.computeIfAbsent(bucket, key -> new BloomFilter(
+                authProperties.getRevocationFilterExpectedInsertions(),
+                authProperties.getRevocationFilterFalsePositiveRate()))
+                .put(tokenId);
+    }
+
+    /**
+     * トークンが失効済みの可能性があるかを判定する。
+     *
+     * @param tokenId トークン識別子
+     * @return 失効済みの可能性がある場合true(falseの場合は確実に未失効)
+     */
+    public boolean mightBeRevoked(String tokenId) {
+        long current = Math.floorDiv(System.currentTimeMillis(), BUCKET_MILLIS);
+        for (BloomFilter filter : buckets.tailMap(current, true).values()) {
+            if (filter.mightContain(tokenId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 他ノードの失効情報の差分取り込みと、期限切れ時間枠の破棄
+     */
+    @Scheduled(fixedDelayString = "${security.auth.revocation-filter-sync-interval-seconds:30}",
+            initialDelayString = "${security.auth.revocation-filter-sync-interval-seconds:30}",
+            timeUnit = TimeUnit.SECONDS)
+    public void sync() {
+        Instant since = watermark.minusMillis(SYNC_OVERLAP_MILLIS);
+        Instant latest = watermark;
+        for (RefreshTokenStore.Revocation revocation : refreshTokenStore.findRevokedSince(since)) {
+            add(revocation.tokenId(), revocation.expiresAt());
+            if (revocation.revokedAt().isAfter(latest)) {
+                latest = revocation.revokedAt();
+            }
+        }
+        watermark = latest;
+        prune();
+    }
+
+    /**
+     * 期限切れ時間枠の破棄
+     */
+    private void prune() {
+        long current = Math.floorDiv(System.currentTimeMillis(), BUCKET_MILLIS);
+        Map<Long, BloomFilter> expired = buckets.headMap(current);
+        expired.clear();
+    }
+}
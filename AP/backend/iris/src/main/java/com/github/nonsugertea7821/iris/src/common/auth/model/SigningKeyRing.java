@@ -0,0 +1,290 @@
+package com.github.nonsugertea7821.iris.src.common.auth.model;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ScheduledFuture;
+import java.util.stream.Collectors;
+
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.nonsugertea7821.iris.src.common.properties.AuthProperties;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 認証/署名鍵リング<br>
+ * JWTの署名鍵を鍵識別子({@code kid} ヘッダー)毎に保持し、検証時は事前に生成した不変Mapから鍵を取得する。
+ * 鍵は {@code security.auth.signing-keys} 及び {@code security.auth.signing-keys-location} のJSONから読み込み、
+ * 後者は {@code security.auth.signing-keys-reload-interval-seconds} 毎に再読み込みする(再起動不要)。
+ * <ul>
+ * <li>署名: 有効化日時を過ぎた未廃止の鍵のうち、最も新しく有効化された鍵を使用する。
+ * 該当する鍵が無い場合は {@code jwt-secret} で {@code kid} 無しで署名する。</li>
+ * <li>検証: 廃止日時前の全ての鍵(有効化前の鍵を含む)で受け付ける。{@code kid} の無いトークンは {@code jwt-secret} で検証する。</li>
+ * </ul>
+ * 鍵の追加は有効化日時を全ノードへの配布後とし、旧鍵の廃止日時は新鍵の有効化からリフレッシュトークンの有効時間以上後とすることで、
+ * 鍵の切り替え時に再ログインを発生させない。
+ * 検証済みトークンキャッシュには鍵の廃止日時を通知し、エントリを次の廃止日時を超えて保持させない。
+ * 廃止日時のある鍵({@code jwt-secret} を含む)がある場合も再読み込みを行い、廃止を検知する。
+ *
+ * @author nonsugertea7821
+ * @version 0.1.1
+ * @since 2026/10/17
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SigningKeyRing extends SigningKeyResolverAdapter {
+
+    private static final TypeReference<List<AuthProperties.SigningKey>> SIGNING_KEYS = new TypeReference<>() {
+    };
+
+    /**
+     * 検証可能な鍵の一覧で {@code jwt-secret} を表す識別子
+     */
+    private static final String LEGACY_KID = "(jwt-secret)";
+
+    private final AuthProperties authProperties;
+    private final ResourceLoader resourceLoader;
+    private final ObjectMapper objectMapper;
+    private final TaskScheduler taskScheduler;
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    /**
+     * 鍵一覧(不変)
+     */
+    private volatile Ring ring;
+
+    /**
+     * 前回確認時に検証可能だった鍵識別子
+     */
+    private Set<String> usableKids = Set.of();
+
+    /**
+     * 再読み込み用タスク
+     */
+    private ScheduledFuture<?> reloader;
+
+    @PostConstruct
+    public void init() {
+        this.ring = load();
+        this.usableKids = ring.usableKids(Instant.now());
+        verifiedTokenCache.setKeyRetirements(ring.retirements());
+        if (!ring.entries().isEmpty()) {
+            log.info("署名鍵を{}件読み込みました kid={}", ring.entries().size(), ring.entries().keySet());
+        }
+        if (authProperties.getSigningKeysLocation() != null || !authProperties.getSigningKeys().isEmpty()
+                || authProperties.getJwtSecretRetireAt() != null) {
+            Duration interval = Duration.ofSeconds(authProperties.getSigningKeysReloadIntervalSeconds());
+            reloader = taskScheduler.scheduleWithFixedDelay(this::reload, Instant.now().plus(interval), interval);
+        }
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (reloader != null) {
+            reloader.cancel(false);
+        }
+    }
+
+    /**
+     * 署名に使用する鍵を返す。
+     *
+     * @return 鍵識別子(旧形式の場合null)と鍵
+     */
+    public ActiveKey active() {
+        Ring current = ring;
+        Instant now = Instant.now();
+        for (Entry entry : current.signing()) {
+            if (entry.activatedAt(now)) {
+                return new ActiveKey(entry.kid(), entry.key());
+            }
+        }
+        if (current.legacy() == null || current.legacyRetired(now)) {
+            throw new IllegalStateException("署名に使用できる鍵がありません");
+        }
+        return new ActiveKey(null, current.legacy());
+    }
+
+    /**
+     * 鍵識別子に対応する検証用の鍵を返す。
+     *
+     * @param kid 鍵識別子(旧形式の場合null)
+     * @return 鍵
+     * @throws JwtException 未知または廃止済みの鍵の場合
+     */
+    public Key verificationKey(String kid) {
+        Ring current = ring;
+        Instant now = Instant.now();
+        if (kid == null) {
+            if (current.legacy() == null || current.legacyRetired(now)) {
+                throw new JwtException("鍵識別子の無いトークンは受け付けません");
+            }
+            return current.legacy();
+        }
+        Entry entry = current.entries().get(kid);
+        if (entry == null || entry.retired(now)) {
+            throw new JwtException("未知または廃止済みの署名鍵です: " + kid);
+        }
+        return entry.key();
+    }
+
+    @Override
+    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+        return verificationKey(header.getKeyId());
+    }
+
+    /**
+     * 鍵を再読み込みする。<br>
+     * 読み込みに失敗した場合は現在の鍵を維持する。
+     * 廃止・削除により検証できなくなった鍵がある場合は検証済みトークンキャッシュを破棄する。
+     */
+    public synchronized void reload() {
+        Ring loaded;
+        try {
+            loaded = load();
+        } catch (RuntimeException e) {
+            log.warn("署名鍵の再読み込みに失敗しました", e);
+            return;
+        }
+        if (!loaded.entries().keySet().equals(ring.entries().keySet())) {
+            log.info("署名鍵を再読み込みしました kid={}", loaded.entries().keySet());
+        }
+        ring = loaded;
+        verifiedTokenCache.setKeyRetirements(loaded.retirements());
+        Set<String> usable = loaded.usableKids(Instant.now());
+        if (!usable.containsAll(usableKids)) {
+            verifiedTokenCache.invalidateAll();
+            log.info("廃止された署名鍵があるため検証済みトークンを破棄しました kid={}",
+                    usableKids.stream().filter(kid -> !usable.contains(kid)).collect(Collectors.toSet()));
+        }
+        usableKids = usable;
+    }
+
+    /**
+     * 設定及び鍵ファイルから鍵一覧を生成する。
+     *
+     * @return 鍵一覧
+     */
+    private Ring load() {
+        List<AuthProperties.SigningKey> definitions = new ArrayList<>(authProperties.getSigningKeys());
+        String location = authProperties.getSigningKeysLocation();
+        if (location != null) {
+            Resource resource = resourceLoader.getResource(location);
+            try (InputStream inputStream = resource.getInputStream()) {
+                definitions.addAll(objectMapper.readValue(inputStream, SIGNING_KEYS));
+            } catch (IOException e) {
+                throw new IllegalStateException("署名鍵ファイルを読み込めません: " + location, e);
+            }
+        }
+        Map<String, Entry> entries = new HashMap<>();
+        for (AuthProperties.SigningKey definition : definitions) {
+            if (definition.getKid() == null || definition.getSecret() == null) {
+                throw new IllegalStateException("署名鍵にはkidとsecretの指定が必要です");
+            }
+            Entry entry = new Entry(definition.getKid(), hmacKey(definition.getSecret()),
+                    definition.getActivateAt(), definition.getRetireAt());
+            if (entries.putIfAbsent(entry.kid(), entry) != null) {
+                throw new IllegalStateException("署名鍵の鍵識別子が重複しています: " + entry.kid());
+            }
+        }
+        List<Entry> signing = entries.values().stream()
+                .sorted(Comparator.comparing(Entry::activateAt, Comparator.nullsFirst(Comparator.naturalOrder()))
+                        .reversed())
+                .toList();
+        String secret = authProperties.getJwtSecret();
+        return new Ring(Map.copyOf(entries), signing, secret != null ? hmacKey(secret) : null,
+                authProperties.getJwtSecretRetireAt());
+    }
+
+    private static Key hmacKey(String secret) {
+        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 署名に使用する鍵
+     *
+     * @param kid 鍵識別子(旧形式の場合null)
+     * @param key 鍵
+     */
+    public record ActiveKey(String kid, Key key) {
+    }
+
+    /**
+     * 鍵一覧
+     *
+     * @param entries 鍵 key:鍵識別子
+     * @param signing 署名候補(有効化日時の新しい順)
+     * @param legacy {@code jwt-secret} の鍵
+     * @param legacyRetireAt {@code jwt-secret} の廃止日時
+     */
+    private record Ring(Map<String, Entry> entries, List<Entry> signing, Key legacy, Instant legacyRetireAt) {
+
+        private boolean legacyRetired(Instant now) {
+            return legacyRetireAt != null && !now.isBefore(legacyRetireAt);
+        }
+
+        private Set<String> usableKids(Instant now) {
+            Set<String> usable = entries.values().stream()
+                    .filter(entry -> !entry.retired(now))
+                    .map(Entry::kid)
+                    .collect(Collectors.toCollection(HashSet::new));
+            if (legacy != null && !legacyRetired(now)) {
+                usable.add(LEGACY_KID);
+            }
+            return Set.copyOf(usable);
+        }
+
+        private List<Instant> retirements() {
+            List<Instant> retirements = new ArrayList<>();
+            entries.values().stream().map(Entry::retireAt).filter(Objects::nonNull).forEach(retirements::add);
+            if (legacy != null && legacyRetireAt != null) {
+                retirements.add(legacyRetireAt);
+            }
+            return retirements;
+        }
+    }
+
+    /**
+     * 鍵
+     *
+     * @param kid 鍵識別子
+     * @param key 鍵
+     * @param activateAt 署名への使用を開始する日時(未指定の場合即時)
+     * @param retireAt 検証を終了する日時(未指定の場合無期限)
+     */
+    private record Entry(String kid, Key key, Instant activateAt, Instant retireAt) {
+
+        private boolean activatedAt(Instant now) {
+            return (activateAt == null || !now.isBefore(activateAt)) && !retired(now);
+        }
+
+        private boolean retired(Instant now) {
+            return retireAt != null && !now.isBefore(retireAt);
+        }
+    }
+}
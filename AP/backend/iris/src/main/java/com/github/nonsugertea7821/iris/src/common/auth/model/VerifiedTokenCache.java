@@ -0,0 +1,195 @@
+package com.github.nonsugertea7821.iris.src.common.auth.model;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.nonsugertea7821.iris.src.common.auth.dto.User;
+import com.github.nonsugertea7821.iris.src.common.auth.repository.AuthRepository;
+import com.github.nonsugertea7821.iris.src.common.properties.AuthProperties;
+import com.github.nonsugertea7821.iris.src.common.properties.CacheProperties;
+import com.github.nonsugertea7821.iris.src.common.utils.CipherUtil;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 認証/検証済みトークンキャッシュ<br>
+ * 署名検証済みのアクセストークンをダイジェストをキーに保持し、同一トークンの再検証を省略する。
+ * エントリはトークンの有効期限(及びクレームの最大経過時間)を超えて保持しない。
+ * DBから読み込んだユーザー情報はユーザー情報キャッシュ({@value AuthRepository#CACHE_USER_BY_ID})の
+ * 有効時間を超えて保持せず、{@link AuthRepository#evictUser(User)} 等のキャッシュ破棄時にも削除される。
+ * エントリは署名鍵を区別しないため、いずれかの署名鍵の次の廃止日時を超えて保持しない。
+ *
+ * @author nonsugertea7821
+ * @version 0.1.2
+ * @since 2026/10/17
+ */
+@Component
+@RequiredArgsConstructor
+public class VerifiedTokenCache {
+
+    /**
+     * メトリクス名
+     */
+    private static final String CACHE_NAME = "auth.verifiedTokens";
+
+    private final AuthProperties authProperties;
+    private final CacheProperties cacheProperties;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 検証済みトークン key:トークンダイジェスト value:検証結果
+     */
+    private Cache<String, VerifiedToken> cache;
+
+    /**
+     * 署名鍵の廃止日時(昇順)
+     */
+    private volatile List<Instant> keyRetirements = List.of();
+
+    @PostConstruct
+    public void init() {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(authProperties.getTokenCacheMaxSize())
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+                        return value.remainingNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+                        return value.remainingNanos();
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 検証済みトークンを取得する。
+     *
+     * @param token アクセストークン
+     * @return 検証結果(未登録またはキャッシュ無効の場合null)
+     */
+    public VerifiedToken get(String token) {
+        if (!authProperties.isTokenCacheEnabled()) {
+            return null;
+        }
+        return cache.getIfPresent(CipherUtil.sha256(token));
+    }
+
+    /**
+     * 検証済みトークンを登録する。
+     *
+     * @param token アクセストークン
+     * @param claims 検証済みクレーム
+     * @param user クレームから復元したユーザー情報
+     * @param loaded ユーザー情報をDBから読み込んだ場合true
+     */
+    public void put(String token, Claims claims, User user, boolean loaded) {
+        if (!authProperties.isTokenCacheEnabled()) {
+            return;
+        }
+        Instant expiresAt = claims.getExpiration().toInstant();
+        Date issuedAt = claims.getIssuedAt();
+        long maxStaleness = authProperties.getPrincipalMaxStalenessSeconds();
+        if (issuedAt != null && maxStaleness > 0) {
+            expiresAt = earliest(expiresAt, issuedAt.toInstant().plusSeconds(maxStaleness));
+        }
+        Instant now = Instant.now();
+        Duration userTtl = userCacheTtl();
+        if (loaded && userTtl != null) {
+            expiresAt = earliest(expiresAt, now.plus(userTtl));
+        }
+        for (Instant retireAt : keyRetirements) {
+            if (retireAt.isAfter(now)) {
+                expiresAt = earliest(expiresAt, retireAt);
+                break;
+            }
+        }
+        cache.put(CipherUtil.sha256(token), new VerifiedToken(user, issuedAt, expiresAt));
+    }
+
+    /**
+     * 署名鍵の廃止日時を設定する。({@link SigningKeyRing} の読み込み時に呼び出す)
+     *
+     * @param retireAts 廃止日時
+     */
+    public void setKeyRetirements(Collection<Instant> retireAts) {
+        this.keyRetirements = retireAts.stream().sorted().toList();
+    }
+
+    /**
+     * トークンをキャッシュから削除する。
+     *
+     * @param token アクセストークン
+     */
+    public void invalidate(String token) {
+        cache.invalidate(CipherUtil.sha256(token));
+    }
+
+    /**
+     * ユーザーの全トークンをキャッシュから削除する。
+     *
+     * @param userId ユーザー識別子
+     */
+    public void invalidateUser(UUID userId) {
+        cache.asMap().values().removeIf(verified -> verified.user().getId().equals(userId));
+    }
+
+    /**
+     * 全トークンをキャッシュから削除する。
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * ユーザー識別子別ユーザー情報キャッシュの書き込み後の有効時間
+     *
+     * @return 有効時間(無期限の場合null)
+     */
+    private Duration userCacheTtl() {
+        return cacheProperties.getSpecs()
+                .getOrDefault(AuthRepository.CACHE_USER_BY_ID, cacheProperties.getDefaults())
+                .getExpireAfterWrite();
+    }
+
+    private static Instant earliest(Instant a, Instant b) {
+        return b.isBefore(a) ? b : a;
+    }
+
+    /**
+     * 検証結果
+     *
+     * @param user ユーザー情報
+     * @param issuedAt トークン発行日時
+     * @param expiresAt キャッシュ有効期限
+     */
+    public record VerifiedToken(User user, Date issuedAt, Instant expiresAt) {
+
+        private long remainingNanos() {
+            long millis = expiresAt.toEpochMilli() - System.currentTimeMillis();
+            return Math.max(0, millis) * 1_000_000;
+        }
+    }
+}
@@ -1,14 +1,21 @@
 package com.github.nonsugertea7821.iris.src.common.auth.repository;
 
-import java.sql.ResultSet;
-import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.jdbc.core.simple.JdbcClient;
 import org.springframework.stereotype.Repository;
 
 import com.github.nonsugertea7821.iris.src.common.auth.dto.User;
-import com.github.nonsugertea7821.iris.src.common.utils.QueryLoader;
+import com.github.nonsugertea7821.iris.src.common.auth.model.VerifiedTokenCache;
+import com.github.nonsugertea7821.iris.src.common.metrics.AuthMetrics;
+import com.github.nonsugertea7821.iris.src.common.sql.ColumnMapping;
+import com.github.nonsugertea7821.iris.src.common.sql.QueryRegistry;
 
 import lombok.RequiredArgsConstructor;
 
@@ -16,38 +23,59 @@ import lombok.RequiredArgsConstructor;
  * 認証/リポジトリ機能
  *
  * @author nonsugertea7821
- * @version 0.1.1
+ * @version 0.1.8
  * @since 2025-09-13
  */
 @Repository
 @RequiredArgsConstructor
 public class AuthRepository {
 
-    private final JdbcClient jdbcClient;
+    /**
+     * ユーザー識別子別ユーザー情報キャッシュ
+     */
+    public static final String CACHE_USER_BY_ID = "auth.userById";
 
-    private static final String QUERY_PATH = "sql\\auth\\querys.properties";
+    /**
+     * ユーザー名別ユーザー情報キャッシュ
+     */
+    public static final String CACHE_USER_BY_NAME = "auth.userByName";
+
+    private final JdbcClient jdbcClient;
+    private final QueryRegistry queryRegistry;
+    private final AuthMetrics authMetrics;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     private static final String SQL_AUTH_S001 = "auth.query.selectUserByName";
     private static final String SQL_AUTH_S002 = "auth.query.selectUserById";
-    private static final String SQL_AUTH_S003 = "auth.query.selectSalt";
-    private static final String SQL_AUTH_S004 = "auth.query.selectRole";
-
-    private static final String USERS_TABLE_COLUMN_LABEL_ID = "id";
-    private static final String USERS_TABLE_COLUMN_LABEL_NAME = "name";
-    private static final String USERS_TABLE_COLUMN_LABEL_PASSWORD_HASH = "password_hash";
-    private static final String USERS_TABLE_COLUMN_LABEL_ROLE_ID = "role_id";
-    private static final String ROLES_TABLE_COLUMN_LABEL_ID = "id";
-    private static final String ROLES_TABLE_COLUMN_LABEL_NAME = "name";
-    private static final String SALTS_TABLE_COLUMN_LABEL_ID = "user_id";
-    private static final String SALTS_TABLE_COLUMN_LABEL_SALT = "salt";
+    private static final String SQL_AUTH_S005 = "auth.query.selectUsersByIds";
+
+    private static final String USERS_PARAM_ID = "id";
+    private static final String USERS_PARAM_IDS = "ids";
+    private static final String USERS_PARAM_NAME = "name";
+
+    /**
+     * ユーザー情報の列マッピング({@link User} の {@code @Column} 定義)
+     */
+    private static final ColumnMapping<User> USER_MAPPING = ColumnMapping.of(User.class);
 
     /**
-     * ユーザー名からユーザー情報の実体を取得します。
+     * ユーザー名からユーザー情報の実体を取得します。<br>
+     * 存在しないユーザー名の結果もキャッシュし、実在するユーザー名と同じくキャッシュから応答します
+     * (応答時間からユーザーの存在を判別させない)。
      * @param userName ユーザー名
-     * @return ユーザー情報
+     * @return ユーザー情報(存在しない場合empty)
      */
-    public User getUserByName(String userName) {
-        return findUser(SQL_AUTH_S001, USERS_TABLE_COLUMN_LABEL_NAME, userName);
+    @Cacheable(cacheNames = CACHE_USER_BY_NAME, key = "#userName")
+    public Optional<User> findUserByName(String userName) {
+        long start = authMetrics.start();
+        try {
+            return jdbcClient.sql(queryRegistry.get(SQL_AUTH_S001))
+                    .param(USERS_PARAM_NAME, userName)
+                    .query(USER_MAPPING.rowMapper())
+                    .optional();
+        } finally {
+            authMetrics.recordQuery(SQL_AUTH_S001, start);
+        }
     }
 
     /**
@@ -55,82 +83,89 @@ public class AuthRepository {
      * @param userId ユーザー識別子
      * @return ユーザー情報
      */
+    @Cacheable(cacheNames = CACHE_USER_BY_ID, key = "#userId")
     public User getUserById(UUID userId) {
-        return findUser(SQL_AUTH_S002, USERS_TABLE_COLUMN_LABEL_ID, userId);
+        return findUser(SQL_AUTH_S002, USERS_PARAM_ID, userId);
     }
 
     /**
-     * ユーザー情報を取得します。
-     * @param sqlKey 情報取得に使用するSQLのキー
-     * @param paramName 引数名
-     * @param paramValue 引数値
-     * @return
+     * 複数のユーザー識別子からユーザー情報の実体を一括取得します。<br>
+     * 存在しないユーザー識別子は結果に含まれません。
+     * @param userIds ユーザー識別子
+     * @return ユーザー情報
      */
-    private User findUser(String sqlKey, String paramName, Object paramValue) {
-        User user = jdbcClient.sql(QueryLoader.load(QUERY_PATH, sqlKey))
-                .param(paramName, paramValue)
-                .query(rs -> {
-                    if (rs.next()) {
-                        return mapToUser(rs);
-                    }
-                    throw new UserNotFoundException("User not found: " + paramValue);
-                });
-        return user;
+    public List<User> getUsersByIds(Collection<UUID> userIds) {
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+        long start = authMetrics.start();
+        try {
+            return jdbcClient.sql(queryRegistry.get(SQL_AUTH_S005))
+                    .param(USERS_PARAM_IDS, userIds)
+                    .query(USER_MAPPING.rowMapper())
+                    .list();
+        } finally {
+            authMetrics.recordQuery(SQL_AUTH_S005, start);
+        }
     }
 
     /**
-     * クエリ結果をユーザー情報にマッピングします。
-     *
-     * @param rs リザルトセット
-     * @return {@link User} ユーザー情報
+     * ユーザー情報のキャッシュを破棄します。<br>
+     * キャッシュにはパスワードハッシュ・ソルトを含むため、ユーザー名・権限・パスワード・ソルトを更新する処理
+     * ({@code SQL_AUTH_U001} 等)は更新のコミット後に必ず呼び出してください。
+     * 存在しないユーザー名の結果もキャッシュするため、ユーザーの追加時も追加したユーザーで呼び出してください。
+     * 本アプリケーション外でユーザーを更新した場合は {@link #evictAllUsers()} を呼び出すまで
+     * 最大で {@code common.cache} の有効時間だけ更新前の情報で認証されます。
+     * ユーザーの検証済みトークンもキャッシュから削除します。
+     * @param user 更新前のユーザー情報
      */
-    private User mapToUser(ResultSet rs) throws SQLException {
-        var id = UUID.fromString(rs.getString(USERS_TABLE_COLUMN_LABEL_ID));
-        var name = rs.getString(USERS_TABLE_COLUMN_LABEL_NAME);
-        var role_Id = rs.getInt(USERS_TABLE_COLUMN_LABEL_ROLE_ID);
-        var role = findRole(role_Id);
-        var salt = findSalt(id);
-        var passwordHash = rs.getString(USERS_TABLE_COLUMN_LABEL_PASSWORD_HASH);
-        return new User(id, name, role, passwordHash,salt);
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CACHE_USER_BY_ID, key = "#user.id"),
+        @CacheEvict(cacheNames = CACHE_USER_BY_NAME, key = "#user.name")
+    })
+    public void evictUser(User user) {
+        verifiedTokenCache.invalidateUser(user.getId());
     }
 
     /**
-     * 権限情報の実体を返します。
-     *
-     * @param id ロールID
+     * 全ユーザー情報のキャッシュを破棄します。<br>
+     * 本アプリケーション外でユーザー情報を一括更新した場合に呼び出してください。
+     * 検証済みトークンのキャッシュも全て削除します。
      */
-    private String findRole(int id) {
-        return jdbcClient.sql(QueryLoader.load(QUERY_PATH, SQL_AUTH_S004))
-                .param(ROLES_TABLE_COLUMN_LABEL_ID, id)
-                .query(rs -> {
-                    if (rs.next()) {
-                        return rs.getString(ROLES_TABLE_COLUMN_LABEL_NAME);
-                    }
-                    throw new UserNotFoundException("User salt not found: " + id);
-                });
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CACHE_USER_BY_ID, allEntries = true),
+        @CacheEvict(cacheNames = CACHE_USER_BY_NAME, allEntries = true)
+    })
+    public void evictAllUsers() {
+        verifiedTokenCache.invalidateAll();
     }
 
     /**
-     * ソルトを返します。
-     * @param userId ユーザー識別子
-     * @return ソルト
+     * ユーザー情報を取得します。<br>
+     * ユーザー・権限・ソルトは結合済みの1クエリで取得します。
+     * @param sqlKey 情報取得に使用するSQLのキー
+     * @param paramName 引数名
+     * @param paramValue 引数値
+     * @return
      */
-    private String findSalt(UUID userId){
-        return jdbcClient.sql(QueryLoader.load(QUERY_PATH, SQL_AUTH_S003))
-                .param(SALTS_TABLE_COLUMN_LABEL_ID, userId)
-                .query(rs -> {
-                    if (rs.next()) {
-                        return rs.getString(SALTS_TABLE_COLUMN_LABEL_SALT);
-                    }
-                    throw new UserNotFoundException("User salt not found");
-                });
+    private User findUser(String sqlKey, String paramName, Object paramValue) {
+        long start = authMetrics.start();
+        try {
+            return jdbcClient.sql(queryRegistry.get(sqlKey))
+                    .param(paramName, paramValue)
+                    .query(USER_MAPPING.rowMapper())
+                    .optional()
+                    .orElseThrow(() -> new UserNotFoundException("User not found: " + paramValue));
+        } finally {
+            authMetrics.recordQuery(sqlKey, start);
+        }
     }
 
-    // 専用例外
+    // 専用例外(想定内の失敗のためスタックトレースを取得しない)
     public static class UserNotFoundException extends RuntimeException {
 
         public UserNotFoundException(String message) {
-            super(message);
+            super(message, null, false, false);
         }
     }
 }
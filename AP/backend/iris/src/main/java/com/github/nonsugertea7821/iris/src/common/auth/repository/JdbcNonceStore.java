@@ -0,0 +1,132 @@
+package com.github.nonsugertea7821.iris.src.common.auth.repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+
+import com.github.nonsugertea7821.iris.src.common.auth.model.NonceStore;
+import com.github.nonsugertea7821.iris.src.common.exception.AuthFailureException;
+import com.github.nonsugertea7821.iris.src.common.exception.AuthFailureReason;
+import com.github.nonsugertea7821.iris.src.common.metrics.AuthMetrics;
+import com.github.nonsugertea7821.iris.src.common.properties.AuthProperties;
+import com.github.nonsugertea7821.iris.src.common.sql.QueryRegistry;
+
+import jakarta.security.auth.message.AuthException;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 認証/一時salt製造保管機能(PostgreSQL実装)<br>
+ * 複数インスタンス構成で challenge と login が別ノードに振り分けられても認証できるよう、
+ * nonceを {@code auth.nonces} に保管する。消費は {@code DELETE ... RETURNING} の1文で行う。
+ * nonceはワンタイムで、他ノードでの消費・再発行をDBでのみ判定できるため、ローカルのニアキャッシュは持たない
+ * (ニアキャッシュは再判定の多い {@link JdbcRefreshTokenStore} の失効判定のみに使用する)。
+ * 保持件数({@link #size()})は削除処理の実行毎に集計した値を返し、メトリクスの参照毎にはDBを参照しない。
+ *
+ * @author nonsugertea7821
+ * @version 0.1.2
+ * @since 2026/10/17
+ */
+@Repository
+@ConditionalOnProperty(prefix = "security.auth", name = "store-type", havingValue = "jdbc")
+@RequiredArgsConstructor
+public class JdbcNonceStore implements NonceStore {
+
+    private static final String SQL_AUTH_I002 = "auth.query.upsertNonce";
+    private static final String SQL_AUTH_D002 = "auth.query.consumeNonce";
+    private static final String SQL_AUTH_D003 = "auth.query.purgeNonces";
+    private static final String SQL_AUTH_S006 = "auth.query.countNonces";
+
+    private static final String NONCES_PARAM_NOW = "now";
+    private static final String NONCES_PARAM_LIMIT = "limit";
+
+    private static final String NONCES_TABLE_COLUMN_LABEL_USER_ID = "user_id";
+    private static final String NONCES_TABLE_COLUMN_LABEL_NONCE = "nonce";
+    private static final String NONCES_TABLE_COLUMN_LABEL_EXPIRES_AT = "expires_at";
+
+    private final JdbcClient jdbcClient;
+    private final QueryRegistry queryRegistry;
+    private final AuthProperties authProperties;
+    private final AuthMetrics authMetrics;
+
+    /**
+     * 前回の削除処理時点の保持件数
+     */
+    private volatile long outstanding;
+
+    @Override
+    public String createNonce(UUID userId) {
+        UUID nonce = UUID.randomUUID();
+        Instant deadline = Instant.now().plusSeconds(authProperties.getNonceExpireSeconds());
+        jdbcClient.sql(queryRegistry.get(SQL_AUTH_I002))
+                .param(NONCES_TABLE_COLUMN_LABEL_USER_ID, userId)
+                .param(NONCES_TABLE_COLUMN_LABEL_NONCE, nonce)
+                .param(NONCES_TABLE_COLUMN_LABEL_EXPIRES_AT, Timestamp.from(deadline))
+                .update();
+        return nonce.toString();
+    }
+
+    @Override
+    public String getNonce(UUID userId) throws AuthException {
+        Challenge challenge = jdbcClient.sql(queryRegistry.get(SQL_AUTH_D002))
+                .param(NONCES_TABLE_COLUMN_LABEL_USER_ID, userId)
+                .query(rs -> rs.next()
+                        ? new Challenge(
+                                rs.getObject(NONCES_TABLE_COLUMN_LABEL_NONCE, UUID.class),
+                                rs.getTimestamp(NONCES_TABLE_COLUMN_LABEL_EXPIRES_AT).toInstant())
+                        : null);
+        if (challenge == null) {
+            throw new AuthFailureException(AuthFailureReason.INVALID_CLIENT);
+        }
+        if (!Instant.now().isBefore(challenge.deadline())) {
+            authMetrics.count(AuthMetrics.EVENT_NONCE_EXPIRED);
+            throw new AuthFailureException(AuthFailureReason.NONCE_EXPIRED);
+        }
+        return challenge.nonce().toString();
+    }
+
+    /**
+     * {@inheritDoc}<br>
+     * 前回の削除処理時点の件数を返す(最大で {@code store-purge-interval-seconds} 遅れる)。
+     */
+    @Override
+    public long size() {
+        return outstanding;
+    }
+
+    /**
+     * 期限切れnonceの削除<br>
+     * 1回あたりの削除件数を制限し、ロック保持時間を抑えて繰り返し削除する。
+     * 削除後に保持件数を集計する。
+     */
+    @Scheduled(fixedDelayString = "${security.auth.store-purge-interval-seconds:60}", timeUnit = TimeUnit.SECONDS)
+    public void purgeExpired() {
+        int limit = authProperties.getStorePurgeBatchSize();
+        Timestamp now = Timestamp.from(Instant.now());
+        int deleted;
+        do {
+            deleted = jdbcClient.sql(queryRegistry.get(SQL_AUTH_D003))
+                    .param(NONCES_PARAM_NOW, now)
+                    .param(NONCES_PARAM_LIMIT, limit)
+                    .update();
+        } while (deleted >= limit);
+        outstanding = jdbcClient.sql(queryRegistry.get(SQL_AUTH_S006))
+                .param(NONCES_PARAM_NOW, now)
+                .query(Long.class)
+                .single();
+    }
+
+    /**
+     * 一時salt
+     *
+     * @param nonce 一時salt
+     * @param deadline 有効期限
+     */
+    private record Challenge(UUID nonce, Instant deadline) {
+    }
+}
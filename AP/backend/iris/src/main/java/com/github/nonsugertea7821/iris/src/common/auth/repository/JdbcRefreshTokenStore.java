@@ -0,0 +1,120 @@
+package com.github.nonsugertea7821.iris.src.common.auth.repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.nonsugertea7821.iris.src.common.auth.model.RefreshTokenStore;
+import com.github.nonsugertea7821.iris.src.common.properties.AuthProperties;
+import com.github.nonsugertea7821.iris.src.common.sql.QueryRegistry;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 認証/リフレッシュトークン失効リスト(PostgreSQL実装)<br>
+ * 失効情報は {@code auth.revoked_tokens} に保管する。
+ * 失効済みと判定したトークンはローカルのニアキャッシュに保持し、再判定時のDB参照を省略する。
+ *
+ * @author nonsugertea7821
+ * @version 0.1.1
+ * @since 2026/10/17
+ */
+@Repository
+@ConditionalOnProperty(prefix = "security.auth", name = "store-type", havingValue = "jdbc")
+@RequiredArgsConstructor
+public class JdbcRefreshTokenStore implements RefreshTokenStore {
+
+    private static final String SQL_AUTH_I003 = "auth.query.insertRevokedToken";
+    private static final String SQL_AUTH_S007 = "auth.query.selectRevokedToken";
+    private static final String SQL_AUTH_D004 = "auth.query.purgeRevokedTokens";
+    private static final String SQL_AUTH_S008 = "auth.query.selectRevokedTokensSince";
+
+    private static final String REVOKED_PARAM_NOW = "now";
+    private static final String REVOKED_PARAM_LIMIT = "limit";
+    private static final String REVOKED_PARAM_SINCE = "since";
+
+    private static final String REVOKED_TOKENS_TABLE_COLUMN_LABEL_TOKEN_ID = "token_id";
+    private static final String REVOKED_TOKENS_TABLE_COLUMN_LABEL_EXPIRES_AT = "expires_at";
+    private static final String REVOKED_TOKENS_TABLE_COLUMN_LABEL_REVOKED_AT = "revoked_at";
+
+    private final JdbcClient jdbcClient;
+    private final QueryRegistry queryRegistry;
+    private final AuthProperties authProperties;
+
+    /**
+     * 失効済みトークンのニアキャッシュ key:トークン識別子 value:有効期限
+     */
+    private Cache<String, Instant> nearCache;
+
+    @PostConstruct
+    public void init() {
+        this.nearCache = Caffeine.newBuilder()
+                .maximumSize(authProperties.getStoreNearCacheMaxSize())
+                .expireAfterWrite(authProperties.getRefreshTokenExpireSeconds(), TimeUnit.SECONDS)
+                .build();
+    }
+
+    @Override
+    public boolean revoke(String tokenId, Instant expiresAt) {
+        int inserted = jdbcClient.sql(queryRegistry.get(SQL_AUTH_I003))
+                .param(REVOKED_TOKENS_TABLE_COLUMN_LABEL_TOKEN_ID, tokenId)
+                .param(REVOKED_TOKENS_TABLE_COLUMN_LABEL_EXPIRES_AT, Timestamp.from(expiresAt))
+                .update();
+        nearCache.put(tokenId, expiresAt);
+        return inserted > 0;
+    }
+
+    @Override
+    public boolean isRevoked(String tokenId) {
+        if (nearCache.getIfPresent(tokenId) != null) {
+            return true;
+        }
+        boolean revoked = jdbcClient.sql(queryRegistry.get(SQL_AUTH_S007))
+                .param(REVOKED_TOKENS_TABLE_COLUMN_LABEL_TOKEN_ID, tokenId)
+                .query(String.class)
+                .optional()
+                .isPresent();
+        if (revoked) {
+            nearCache.put(tokenId, Instant.now());
+        }
+        return revoked;
+    }
+
+    @Override
+    public List<Revocation> findRevokedSince(Instant since) {
+        return jdbcClient.sql(queryRegistry.get(SQL_AUTH_S008))
+                .param(REVOKED_PARAM_SINCE, Timestamp.from(since))
+                .param(REVOKED_PARAM_NOW, Timestamp.from(Instant.now()))
+                .query((rs, rowNum) -> new Revocation(
+                        rs.getString(REVOKED_TOKENS_TABLE_COLUMN_LABEL_TOKEN_ID),
+                        rs.getTimestamp(REVOKED_TOKENS_TABLE_COLUMN_LABEL_EXPIRES_AT).toInstant(),
+                        rs.getTimestamp(REVOKED_TOKENS_TABLE_COLUMN_LABEL_REVOKED_AT).toInstant()))
+                .list();
+    }
+
+    /**
+     * 有効期限を過ぎた失効情報の削除<br>
+     * 1回あたりの削除件数を制限し、ロック保持時間を抑えて繰り返し削除する。
+     */
+    @Scheduled(fixedDelayString = "${security.auth.store-purge-interval-seconds:60}", timeUnit = TimeUnit.SECONDS)
+    public void purgeExpired() {
+        int limit = authProperties.getStorePurgeBatchSize();
+        Timestamp now = Timestamp.from(Instant.now());
+        int deleted;
+        do {
+            deleted = jdbcClient.sql(queryRegistry.get(SQL_AUTH_D004))
+                    .param(REVOKED_PARAM_NOW, now)
+                    .param(REVOKED_PARAM_LIMIT, limit)
+                    .update();
+        } while (deleted >= limit);
+    }
+}
@@ -0,0 +1,91 @@
+package com.github.nonsugertea7821.iris.src.common.auth.repository;
+
+import java.util.UUID;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+
+import com.github.nonsugertea7821.iris.src.common.auth.dto.User;
+import com.github.nonsugertea7821.iris.src.common.auth.repository.AuthRepository.UserNotFoundException;
+import com.github.nonsugertea7821.iris.src.common.metrics.AuthMetrics;
+import com.github.nonsugertea7821.iris.src.common.sql.QueryRegistry;
+
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+/**
+ * 認証/リポジトリ機能(リアクティブ構成)<br>
+ * {@link AuthRepository} と同一のSQLをR2DBCで発行する。
+ * SQLキー別の所要時間は {@link AuthMetrics} へ購読から完了までを記録する。
+ *
+ * @author nonsugertea7821
+ * @version 0.1.1
+ * @since 2026/10/17
+ */
+@Repository
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveAuthRepository {
+
+    private final DatabaseClient databaseClient;
+    private final QueryRegistry queryRegistry;
+    private final AuthMetrics authMetrics;
+
+    private static final String SQL_AUTH_S001 = "auth.query.selectUserByName";
+    private static final String SQL_AUTH_S002 = "auth.query.selectUserById";
+
+    private static final String USERS_PARAM_ID = "id";
+    private static final String USERS_PARAM_NAME = "name";
+
+    private static final String USERS_TABLE_COLUMN_LABEL_ID = "id";
+    private static final String USERS_TABLE_COLUMN_LABEL_NAME = "name";
+    private static final String USERS_TABLE_COLUMN_LABEL_PASSWORD_HASH = "password_hash";
+    private static final String ROLES_TABLE_COLUMN_LABEL_NAME = "role_name";
+    private static final String SALTS_TABLE_COLUMN_LABEL_SALT = "salt";
+
+    /**
+     * ユーザー名からユーザー情報の実体を取得します。
+     * @param userName ユーザー名
+     * @return ユーザー情報(存在しない場合 {@link UserNotFoundException})
+     */
+    public Mono<User> getUserByName(String userName) {
+        return findUser(SQL_AUTH_S001, USERS_PARAM_NAME, userName);
+    }
+
+    /**
+     * ユーザー識別子からユーザー情報の実体を取得します。
+     * @param userId ユーザー識別子
+     * @return ユーザー情報(存在しない場合 {@link UserNotFoundException})
+     */
+    public Mono<User> getUserById(UUID userId) {
+        return findUser(SQL_AUTH_S002, USERS_PARAM_ID, userId);
+    }
+
+    private Mono<User> findUser(String sqlKey, String paramName, Object paramValue) {
+        return Mono.defer(() -> {
+            long start = authMetrics.start();
+            return databaseClient.sql(queryRegistry.get(sqlKey))
+                    .bind(paramName, paramValue)
+                    .map(ReactiveAuthRepository::mapToUser)
+                    .first()
+                    .doFinally(signal -> authMetrics.recordQuery(sqlKey, start));
+        }).switchIfEmpty(Mono.error(() -> new UserNotFoundException("User not found: " + paramValue)));
+    }
+
+    /**
+     * クエリ結果をユーザー情報にマッピングします。
+     *
+     * @param row 行
+     * @return {@link User} ユーザー情報
+     */
+    private static User mapToUser(Readable row) {
+        var id = row.get(USERS_TABLE_COLUMN_LABEL_ID, UUID.class);
+        var name = row.get(USERS_TABLE_COLUMN_LABEL_NAME, String.class);
+        var role = row.get(ROLES_TABLE_COLUMN_LABEL_NAME, String.class);
+        var salt = row.get(SALTS_TABLE_COLUMN_LABEL_SALT, String.class);
+        var passwordHash = row.get(USERS_TABLE_COLUMN_LABEL_PASSWORD_HASH, String.class);
+        return new User(id, name, role, passwordHash, salt);
+    }
+}
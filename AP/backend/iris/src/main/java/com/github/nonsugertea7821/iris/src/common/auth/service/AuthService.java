@@ -3,6 +3,7 @@ package com.github.nonsugertea7821.iris.src.common.auth.service;
 import java.util.UUID;
 
 import com.github.nonsugertea7821.iris.src.common.auth.dto.response.ChallengeResponse;
+import com.github.nonsugertea7821.iris.src.common.auth.dto.response.HandshakeResponse;
 import com.github.nonsugertea7821.iris.src.common.auth.dto.response.LoginResponse;
 
 import jakarta.security.auth.message.AuthException;
@@ -11,7 +12,7 @@ import jakarta.security.auth.message.AuthException;
  * 認証/サービス機能
  *
  * @author nonsugertea7821
- * @version 0.1.0
+ * @version 0.1.2
  * @since 2025/08/16
  */
 public interface AuthService {
@@ -34,29 +35,42 @@ public interface AuthService {
      */
     ChallengeResponse getChallenge(UUID userId) throws AuthException;
 
+    /**
+     * 認証/ハンドシェイク処理<br>
+     * ユーザー識別子取得とchallenge取得を1回のユーザー情報取得で行う。
+     * 存在しないユーザー名にも同じ形式の応答を返す。
+     *
+     * @param userName ユーザー名
+     * @return ユーザー識別子,challenge
+     */
+    HandshakeResponse handshake(String userName);
+
     /**
      * 認証/アクセストークン取得処理
      *
      * @param userId ユーザー識別子
      * @param passwordHash 非平文パスワード
+     * @param clientIp 接続元IPアドレス(監査ログ用)
      * @return アクセストークン,リフレッシュトークン
      * @throws AuthException 認証時例外
      */
-    LoginResponse authenticate(UUID userId, String passwordHash) throws AuthException;
+    LoginResponse authenticate(UUID userId, String passwordHash, String clientIp) throws AuthException;
 
     /**
      * 認証/リフレッシュ処理
      *
      * @param refreshToken リフレッシュトークン
+     * @param clientIp 接続元IPアドレス(監査ログ用)
      * @return アクセストークン,リフレッシュトークン
      * @throws AuthException 認証時例外
      */
-    LoginResponse refresh(String refreshToken) throws AuthException;
+    LoginResponse refresh(String refreshToken, String clientIp) throws AuthException;
 
     /**
      * 認証/ログアウト処理
      *
      * @param refreshToken リフレッシュトークン
+     * @param clientIp 接続元IPアドレス(監査ログ用)
      */
-    void logout(String refreshToken);
+    void logout(String refreshToken, String clientIp);
 }
@@ -2,16 +2,27 @@ package com.github.nonsugertea7821.iris.src.common.auth.service;
 
 import java.util.UUID;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.stereotype.Service;
 
+import com.github.nonsugertea7821.iris.src.common.audit.AuditEventType;
+import com.github.nonsugertea7821.iris.src.common.audit.AuditLog;
 import com.github.nonsugertea7821.iris.src.common.auth.dto.User;
 import com.github.nonsugertea7821.iris.src.common.auth.dto.response.ChallengeResponse;
+import com.github.nonsugertea7821.iris.src.common.auth.dto.response.HandshakeResponse;
 import com.github.nonsugertea7821.iris.src.common.auth.dto.response.LoginResponse;
+import com.github.nonsugertea7821.iris.src.common.auth.model.HandshakeDecoy;
 import com.github.nonsugertea7821.iris.src.common.auth.model.JwtProcessor;
 import com.github.nonsugertea7821.iris.src.common.auth.model.NonceStore;
 import com.github.nonsugertea7821.iris.src.common.auth.repository.AuthRepository;
+import com.github.nonsugertea7821.iris.src.common.auth.repository.AuthRepository.UserNotFoundException;
+import com.github.nonsugertea7821.iris.src.common.exception.AuthFailureException;
+import com.github.nonsugertea7821.iris.src.common.exception.AuthFailureReason;
+import com.github.nonsugertea7821.iris.src.common.metrics.AuthMetrics;
 import com.github.nonsugertea7821.iris.src.common.utils.CipherUtil;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import jakarta.security.auth.message.AuthException;
 import lombok.RequiredArgsConstructor;
 
@@ -19,82 +30,135 @@ import lombok.RequiredArgsConstructor;
  * 認証/サービス機能
  *
  * @author nonsugertea7821
- * @version 0.1.0
+ * @version 0.1.8
  * @since 2025/08/16
  */
 @Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequiredArgsConstructor
 public class AuthServiceImpl implements AuthService {
 
     private final AuthRepository authRepository;
     private final NonceStore nonceStore;
     private final JwtProcessor jwtProcessor;
+    private final AuthMetrics authMetrics;
+    private final HandshakeDecoy handshakeDecoy;
+    private final AuditLog auditLog;
 
     /**
-     * 認証/ユーザー識別子取得処理
+     * 認証/ユーザー識別子取得処理<br>
+     * 存在しないユーザー名は想定内の認証失敗({@link AuthFailureReason#INVALID_USER})とする。
      *
      * @return ユーザー識別子
      */
     @Override
-    public UUID getUserId(String userName) {
-        User user = authRepository.getUserByName(userName);
-        return user.getId();
+    public UUID getUserId(String userName) throws AuthException {
+        return authRepository.findUserByName(userName)
+                .map(User::getId)
+                .orElseThrow(() -> new AuthFailureException(AuthFailureReason.INVALID_USER));
     }
 
     /**
-     * 認証/チャレンジ取得処理
+     * 認証/チャレンジ取得処理<br>
+     * 存在しないユーザー識別子は想定内の認証失敗({@link AuthFailureReason#INVALID_USER})とする。
      *
      * @param userId ユーザー識別子
      * @return 一時salt
      */
     @Override
     public ChallengeResponse getChallenge(UUID userId) throws AuthException {
-        var user = authRepository.getUserById(userId);
-        if (user == null) {
-            throw new AuthException("不正なユーザーです");
+        User user;
+        try {
+            user = authRepository.getUserById(userId);
+        } catch (UserNotFoundException e) {
+            throw new AuthFailureException(AuthFailureReason.INVALID_USER);
         }
         var salt = user.getSalt();
-        var nonce = nonceStore.createNonce(user.getId());
+        var nonce = nonceStore.createNonce(user);
         return new ChallengeResponse(salt, nonce);
     }
 
+    /**
+     * 認証/ハンドシェイク処理<br>
+     * 存在しないユーザー名の場合は偽装したユーザー情報でnonceを製造し、
+     * 実在ユーザーと同じ処理(キャッシュ参照・nonce保管を含む)を経て応答する。
+     * 偽装ユーザー情報はnonceと共に保管するため、続くログインもDBを参照せずHMAC照合で失敗する。
+     *
+     * @param userName ユーザー名
+     * @return ユーザー識別子,ソルト,一時salt
+     */
     @Override
-    public LoginResponse authenticate(UUID userId, String passwordHash) throws AuthException {
-        // userを取得
-        User user = authRepository.getUserById(userId);
+    public HandshakeResponse handshake(String userName) {
+        User user = authRepository.findUserByName(userName).orElseGet(() -> handshakeDecoy.user(userName));
+        return new HandshakeResponse(user.getId(), user.getSalt(), nonceStore.createNonce(user));
+    }
+
+    @Override
+    public LoginResponse authenticate(UUID userId, String passwordHash, String clientIp) throws AuthException {
+        try {
+            LoginResponse response = login(userId, passwordHash);
+            auditLog.publish(AuditEventType.LOGIN_SUCCEEDED, userId, clientIp, null);
+            return response;
+        } catch (AuthFailureException e) {
+            auditLog.publish(AuditEventType.LOGIN_FAILED, userId, clientIp, e.getReason().tag());
+            throw e;
+        }
+    }
+
+    private LoginResponse login(UUID userId, String passwordHash) throws AuthFailureException {
+        // nonceを消費(チャレンジ時のユーザー情報を保持している場合は再取得しない)
+        NonceStore.Consumed consumed = nonceStore.consume(userId);
+        String nonce = consumed.nonce();
+        User user = consumed.user();
         if (user == null) {
-            throw new AuthException("不正なユーザーです");
+            try {
+                user = authRepository.getUserById(userId);
+            } catch (UserNotFoundException e) {
+                throw new AuthFailureException(AuthFailureReason.INVALID_CREDENTIALS);
+            }
         }
-        // nonceを取得
-        String nonce = nonceStore.getNonce(user.getId());
         // DBに保存されているパスワードハッシュを取得
         String passwordHashBySalt = user.getPasswordHash();
-        // nonceを使用して二次検証
-        String expectedHash = CipherUtil.hmacSha256(nonce, passwordHashBySalt);
-        // パスワードハッシュの有効性を検証
-        if (!expectedHash.equals(passwordHash)) {
-            throw new AuthException("不正なパスワードです");
+        // nonceを使用して二次検証し、パスワードハッシュの有効性を定数時間で検証
+        long start = authMetrics.start();
+        boolean verified = CipherUtil.verifyHmacSha256(nonce, passwordHashBySalt, passwordHash);
+        authMetrics.record(AuthMetrics.STAGE_HMAC, start);
+        if (!verified) {
+            throw new AuthFailureException(AuthFailureReason.INVALID_CREDENTIALS);
         }
         // jwtトークンを返却
-        var accessToken = jwtProcessor.generateAccessToken(userId);
+        var accessToken = jwtProcessor.generateAccessToken(user);
         String refreshToken = jwtProcessor.generateRefreshToken(userId);
         return new LoginResponse(accessToken, refreshToken);
     }
 
     @Override
-    public LoginResponse refresh(String refreshToken) throws AuthException {
-        if (!jwtProcessor.validateRefreshToken(refreshToken)) {
-            throw new AuthException("リフレッシュトークン無効");
+    public LoginResponse refresh(String refreshToken, String clientIp) throws AuthException {
+        Claims claims;
+        try {
+            claims = jwtProcessor.parseRefreshToken(refreshToken);
+        } catch (JwtException e) {
+            auditLog.publish(AuditEventType.REFRESH_FAILED, null, clientIp, AuthFailureReason.INVALID_REFRESH_TOKEN.tag());
+            throw new AuthFailureException(AuthFailureReason.INVALID_REFRESH_TOKEN);
+        }
+        UUID subject = UUID.fromString(claims.getSubject());
+        // ローテーション: 使用済みトークンを失効させる(既に失効済みの場合は再利用とみなし拒否)
+        if (!jwtProcessor.revokeRefreshToken(refreshToken, claims)) {
+            auditLog.publish(AuditEventType.REFRESH_FAILED, subject, clientIp, AuthFailureReason.INVALID_REFRESH_TOKEN.tag());
+            throw new AuthFailureException(AuthFailureReason.INVALID_REFRESH_TOKEN);
         }
-        UUID userId = jwtProcessor.getUserFromRefreshToken(refreshToken).getId();
-        String accessToken = jwtProcessor.generateAccessToken(userId);
+        User user = authRepository.getUserById(subject);
+        UUID userId = user.getId();
+        String accessToken = jwtProcessor.generateAccessToken(user);
         String newRefreshToken = jwtProcessor.generateRefreshToken(userId);
+        auditLog.publish(AuditEventType.REFRESH_SUCCEEDED, userId, clientIp, null);
         return new LoginResponse(accessToken, newRefreshToken);
     }
 
     @Override
-    public void logout(String refreshToken) {
-        jwtProcessor.revokeRefreshToken(refreshToken);
+    public void logout(String refreshToken, String clientIp) {
+        UUID userId = jwtProcessor.revokeRefreshToken(refreshToken);
+        auditLog.publish(AuditEventType.LOGOUT, userId, clientIp, null);
     }
 
 }
@@ -0,0 +1,75 @@
+package com.github.nonsugertea7821.iris.src.common.auth.service;
+
+import java.util.UUID;
+
+import com.github.nonsugertea7821.iris.src.common.auth.dto.response.ChallengeResponse;
+import com.github.nonsugertea7821.iris.src.common.auth.dto.response.HandshakeResponse;
+import com.github.nonsugertea7821.iris.src.common.auth.dto.response.LoginResponse;
+
+import jakarta.security.auth.message.AuthException;
+import reactor.core.publisher.Mono;
+
+/**
+ * 認証/サービス機能(リアクティブ構成)<br>
+ * {@link AuthService} のノンブロッキング版。認証失敗は {@link AuthException} のエラーシグナルで通知する。
+ *
+ * @author nonsugertea7821
+ * @version 0.1.2
+ * @since 2026/10/17
+ */
+public interface ReactiveAuthService {
+
+    /**
+     * 認証/ユーザー識別子取得処理
+     *
+     * @param userName ユーザー名
+     * @return ユーザー識別子
+     */
+    Mono<UUID> getUserId(String userName);
+
+    /**
+     * 認証/challenge取得処理
+     *
+     * @param userId ユーザー識別子
+     * @return challenge
+     */
+    Mono<ChallengeResponse> getChallenge(UUID userId);
+
+    /**
+     * 認証/ハンドシェイク処理<br>
+     * ユーザー識別子取得とchallenge取得を1回のユーザー情報取得で行う。
+     * 存在しないユーザー名にも同じ形式の応答を返す。
+     *
+     * @param userName ユーザー名
+     * @return ユーザー識別子,challenge
+     */
+    Mono<HandshakeResponse> handshake(String userName);
+
+    /**
+     * 認証/アクセストークン取得処理
+     *
+     * @param userId ユーザー識別子
+     * @param passwordHash 非平文パスワード
+     * @param clientIp 接続元IPアドレス(監査ログ用)
+     * @return アクセストークン,リフレッシュトークン
+     */
+    Mono<LoginResponse> authenticate(UUID userId, String passwordHash, String clientIp);
+
+    /**
+     * 認証/リフレッシュ処理
+     *
+     * @param refreshToken リフレッシュトークン
+     * @param clientIp 接続元IPアドレス(監査ログ用)
+     * @return アクセストークン,リフレッシュトークン
+     */
+    Mono<LoginResponse> refresh(String refreshToken, String clientIp);
+
+    /**
+     * 認証/ログアウト処理
+     *
+     * @param refreshToken リフレッシュトークン
+     * @param clientIp 接続元IPアドレス(監査ログ用)
+     * @return 完了通知
+     */
+    Mono<Void> logout(String refreshToken, String clientIp);
+}
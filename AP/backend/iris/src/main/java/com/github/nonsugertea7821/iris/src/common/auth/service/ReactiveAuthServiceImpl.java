@@ -0,0 +1,142 @@
+package com.github.nonsugertea7821.iris.src.common.auth.service;
+
+import java.util.UUID;
+import java.util.concurrent.Callable;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+
+import com.github.nonsugertea7821.iris.src.common.audit.AuditEventType;
+import com.github.nonsugertea7821.iris.src.common.audit.AuditLog;
+import com.github.nonsugertea7821.iris.src.common.auth.dto.User;
+import com.github.nonsugertea7821.iris.src.common.auth.dto.response.ChallengeResponse;
+import com.github.nonsugertea7821.iris.src.common.auth.dto.response.HandshakeResponse;
+import com.github.nonsugertea7821.iris.src.common.auth.dto.response.LoginResponse;
+import com.github.nonsugertea7821.iris.src.common.auth.model.HandshakeDecoy;
+import com.github.nonsugertea7821.iris.src.common.auth.model.JwtProcessor;
+import com.github.nonsugertea7821.iris.src.common.auth.model.NonceStore;
+import com.github.nonsugertea7821.iris.src.common.auth.repository.AuthRepository.UserNotFoundException;
+import com.github.nonsugertea7821.iris.src.common.auth.repository.ReactiveAuthRepository;
+import com.github.nonsugertea7821.iris.src.common.exception.AuthFailureException;
+import com.github.nonsugertea7821.iris.src.common.exception.AuthFailureReason;
+import com.github.nonsugertea7821.iris.src.common.metrics.AuthMetrics;
+import com.github.nonsugertea7821.iris.src.common.utils.CipherUtil;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 認証/サービス機能(リアクティブ構成)<br>
+ * ユーザー情報はR2DBCで取得する。一時salt保管・リフレッシュトークン失効リストは
+ * JDBC実装の場合にブロッキングするため、{@link Schedulers#boundedElastic()} 上で呼び出す。
+ * 監査ログはリングバッファへの投入のみのため、イベントループ上からも発行する。
+ *
+ * @author nonsugertea7821
+ * @version 0.1.5
+ * @since 2026/10/17
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveAuthServiceImpl implements ReactiveAuthService {
+
+    private final ReactiveAuthRepository authRepository;
+    private final NonceStore nonceStore;
+    private final JwtProcessor jwtProcessor;
+    private final AuthMetrics authMetrics;
+    private final HandshakeDecoy handshakeDecoy;
+    private final AuditLog auditLog;
+
+    @Override
+    public Mono<UUID> getUserId(String userName) {
+        return authRepository.getUserByName(userName).map(User::getId)
+                .onErrorMap(UserNotFoundException.class, e -> new AuthFailureException(AuthFailureReason.INVALID_USER));
+    }
+
+    @Override
+    public Mono<ChallengeResponse> getChallenge(UUID userId) {
+        return authRepository.getUserById(userId)
+                .onErrorMap(UserNotFoundException.class, e -> new AuthFailureException(AuthFailureReason.INVALID_USER))
+                .flatMap(user -> blocking(() -> new ChallengeResponse(user.getSalt(), nonceStore.createNonce(user))));
+    }
+
+    @Override
+    public Mono<HandshakeResponse> handshake(String userName) {
+        return authRepository.getUserByName(userName)
+                .flatMap(user -> blocking(() -> new HandshakeResponse(user.getId(), user.getSalt(), nonceStore.createNonce(user))))
+                .onErrorResume(UserNotFoundException.class, e -> blocking(() -> {
+                    // 存在しないユーザー名も実在ユーザーと同じ処理(nonce保管を含む)を経て応答する
+                    // 偽装ユーザー情報をnonceと共に保管し、続くログインもDBを参照せずHMAC照合で失敗させる
+                    User decoy = handshakeDecoy.user(userName);
+                    return new HandshakeResponse(decoy.getId(), decoy.getSalt(), nonceStore.createNonce(decoy));
+                }));
+    }
+
+    @Override
+    public Mono<LoginResponse> authenticate(UUID userId, String passwordHash, String clientIp) {
+        // nonceを消費(チャレンジ時のユーザー情報を保持している場合は再取得しない)
+        return blocking(() -> nonceStore.consume(userId))
+                .flatMap(consumed -> (consumed.user() != null
+                        ? Mono.just(consumed.user())
+                        : authRepository.getUserById(userId)
+                                .onErrorMap(UserNotFoundException.class,
+                                        e -> new AuthFailureException(AuthFailureReason.INVALID_CREDENTIALS)))
+                        .flatMap(user -> blocking(() -> {
+                            // nonceを使用して二次検証
+                            long start = authMetrics.start();
+                            boolean verified = CipherUtil.verifyHmacSha256(consumed.nonce(), user.getPasswordHash(), passwordHash);
+                            authMetrics.record(AuthMetrics.STAGE_HMAC, start);
+                            if (!verified) {
+                                throw new AuthFailureException(AuthFailureReason.INVALID_CREDENTIALS);
+                            }
+                            return new LoginResponse(jwtProcessor.generateAccessToken(user), jwtProcessor.generateRefreshToken(userId));
+                        })))
+                .doOnSuccess(response -> auditLog.publish(AuditEventType.LOGIN_SUCCEEDED, userId, clientIp, null))
+                .doOnError(AuthFailureException.class,
+                        e -> auditLog.publish(AuditEventType.LOGIN_FAILED, userId, clientIp, e.getReason().tag()));
+    }
+
+    @Override
+    public Mono<LoginResponse> refresh(String refreshToken, String clientIp) {
+        return blocking(() -> {
+            Claims claims;
+            try {
+                claims = jwtProcessor.parseRefreshToken(refreshToken);
+            } catch (JwtException e) {
+                auditLog.publish(AuditEventType.REFRESH_FAILED, null, clientIp, AuthFailureReason.INVALID_REFRESH_TOKEN.tag());
+                throw new AuthFailureException(AuthFailureReason.INVALID_REFRESH_TOKEN);
+            }
+            UUID subject = UUID.fromString(claims.getSubject());
+            // ローテーション: 使用済みトークンを失効させる(既に失効済みの場合は再利用とみなし拒否)
+            if (!jwtProcessor.revokeRefreshToken(refreshToken, claims)) {
+                auditLog.publish(AuditEventType.REFRESH_FAILED, subject, clientIp, AuthFailureReason.INVALID_REFRESH_TOKEN.tag());
+                throw new AuthFailureException(AuthFailureReason.INVALID_REFRESH_TOKEN);
+            }
+            return subject;
+        }).flatMap(authRepository::getUserById)
+                .map(user -> {
+                    LoginResponse response = new LoginResponse(jwtProcessor.generateAccessToken(user),
+                            jwtProcessor.generateRefreshToken(user.getId()));
+                    auditLog.publish(AuditEventType.REFRESH_SUCCEEDED, user.getId(), clientIp, null);
+                    return response;
+                });
+    }
+
+    @Override
+    public Mono<Void> logout(String refreshToken, String clientIp) {
+        return blocking(() -> {
+            auditLog.publish(AuditEventType.LOGOUT, jwtProcessor.revokeRefreshToken(refreshToken), clientIp, null);
+            return Boolean.TRUE;
+        }).then();
+    }
+
+    /**
+     * ブロッキングし得る処理をイベントループ外で実行する。
+     */
+    private static <T> Mono<T> blocking(Callable<T> task) {
+        return Mono.fromCallable(task).subscribeOn(Schedulers.boundedElastic());
+    }
+}
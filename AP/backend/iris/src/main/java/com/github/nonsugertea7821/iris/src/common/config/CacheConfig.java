@@ -1,27 +1,87 @@
 package com.github.nonsugertea7821.iris.src.common.config;
 
+import java.util.List;
+import java.util.Map;
+
 import org.springframework.cache.CacheManager;
-import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.nonsugertea7821.iris.src.common.auth.repository.AuthRepository;
+import com.github.nonsugertea7821.iris.src.common.properties.CacheProperties;
+
 /**
  * 共通/キャッシュコンフィグ
  *
  * @author nonsugertea7821
- * @version 0.1.0
+ * @version 0.1.2
  * @since 2025/09/15
  */
 @Configuration
 public class CacheConfig {
 
     /**
-     * キャッシュマネージャを自動解決します。
+     * 起動時に作成するキャッシュ名<br>
+     * メトリクスは起動時に存在するキャッシュのみ登録されるため、個別設定が無い場合も既定値で作成する。
+     */
+    private static final List<String> PREDEFINED_CACHES = List.of(
+            AuthRepository.CACHE_USER_BY_ID,
+            AuthRepository.CACHE_USER_BY_NAME);
+
+    /**
+     * キャッシュマネージャを自動解決します。<br>
+     * キャッシュ毎に件数上限・有効期限を設定したCaffeineキャッシュを登録し、統計を記録します。
+     * 統計はactuatorの {@code cache.*} メトリクスとして公開されます。
+     * 使用時に作成されたキャッシュはメトリクスに登録されないため、既知のキャッシュは起動時に作成します。
      */
     @Bean
     @SuppressWarnings("unused")
-    CacheManager cacheManager() {
-        return new ConcurrentMapCacheManager();
+    CacheManager cacheManager(CacheProperties cacheProperties, ApplicationContext applicationContext) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCaffeine(builder(cacheProperties.getDefaults()));
+        for (Map.Entry<String, CacheProperties.Spec> entry : cacheProperties.getSpecs().entrySet()) {
+            CacheProperties.Spec spec = entry.getValue();
+            Caffeine<Object, Object> builder = builder(spec);
+            if (spec.getRefreshAfterWrite() == null) {
+                cacheManager.registerCustomCache(entry.getKey(), builder.build());
+                continue;
+            }
+            if (spec.getLoader() == null) {
+                throw new IllegalStateException("refreshAfterWriteにはloaderの指定が必要です: " + entry.getKey());
+            }
+            @SuppressWarnings("unchecked")
+            CacheLoader<Object, Object> loader = applicationContext.getBean(spec.getLoader(), CacheLoader.class);
+            cacheManager.registerCustomCache(entry.getKey(), builder.refreshAfterWrite(spec.getRefreshAfterWrite()).build(loader));
+        }
+        for (String cacheName : PREDEFINED_CACHES) {
+            if (!cacheProperties.getSpecs().containsKey(cacheName)) {
+                cacheManager.registerCustomCache(cacheName, builder(cacheProperties.getDefaults()).build());
+            }
+        }
+        return cacheManager;
+    }
+
+    /**
+     * キャッシュ設定からビルダーを生成します。
+     *
+     * @param spec キャッシュ設定
+     * @return ビルダー
+     */
+    private static Caffeine<Object, Object> builder(CacheProperties.Spec spec) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                .maximumSize(spec.getMaximumSize())
+                .recordStats();
+        if (spec.getExpireAfterWrite() != null) {
+            builder.expireAfterWrite(spec.getExpireAfterWrite());
+        }
+        if (spec.getExpireAfterAccess() != null) {
+            builder.expireAfterAccess(spec.getExpireAfterAccess());
+        }
+        return builder;
     }
 
 }
@@ -0,0 +1,48 @@
+package com.github.nonsugertea7821.iris.src.common.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import com.github.nonsugertea7821.iris.src.common.properties.ReactiveDbProperties;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+
+/**
+ * 共通/リアクティブDBコンフィグ<br>
+ * {@code spring.main.web-application-type=reactive} の場合のみR2DBC接続プールを生成する。
+ * サーブレット構成でR2DBC接続URLを要求しないよう、Spring BootのR2DBC自動構成は使用しない。
+ *
+ * @author nonsugertea7821
+ * @version 0.1.0
+ * @since 2026/10/17
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveDatabaseConfig {
+
+    @Bean(destroyMethod = "dispose")
+    @SuppressWarnings("unused")
+    ConnectionPool connectionFactory(ReactiveDbProperties properties) {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(properties.getUrl()).mutate()
+                .option(ConnectionFactoryOptions.USER, properties.getUsername())
+                .option(ConnectionFactoryOptions.PASSWORD, properties.getPassword())
+                .build();
+        ConnectionFactory connectionFactory = ConnectionFactories.get(options);
+        return new ConnectionPool(ConnectionPoolConfiguration.builder(connectionFactory)
+                .initialSize(properties.getInitialSize())
+                .maxSize(properties.getMaxSize())
+                .build());
+    }
+
+    @Bean
+    @SuppressWarnings("unused")
+    DatabaseClient databaseClient(ConnectionFactory connectionFactory) {
+        return DatabaseClient.create(connectionFactory);
+    }
+}
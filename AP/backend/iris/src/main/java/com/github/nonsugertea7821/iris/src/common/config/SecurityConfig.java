@@ -1,9 +1,11 @@
 package com.github.nonsugertea7821.iris.src.common.config;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
@@ -16,14 +18,18 @@ import com.github.nonsugertea7821.iris.src.common.properties.CorsProperties;
 import lombok.RequiredArgsConstructor;
 
 /**
- * 共通/セキュリティコンフィグ
+ * 共通/セキュリティコンフィグ(サーブレット構成)<br>
+ * 認証はリクエスト毎のJWTで行うため、セッションの生成・参照を行わない(ステートレス)。
+ * 認証情報のセッション保存と未認証リクエストのセッション保存(リクエストキャッシュ)を無効とし、
+ * Spring Session JDBCが有効な場合もリクエスト毎のセッションストア往復を発生させない。
  *
  * @author nonsugertea7821
- * @version 0.1.0
+ * @version 0.1.2
  * @since 2025/09/16
  */
 @Configuration
 @EnableWebSecurity
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequiredArgsConstructor
 public class SecurityConfig {
 
@@ -36,6 +42,8 @@ public class SecurityConfig {
         http
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .csrf(csrf -> csrf.disable())
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .requestCache(cache -> cache.disable())
                 .authorizeHttpRequests(auth -> auth
                 .requestMatchers("/api/auth/**").permitAll()
                 .anyRequest().authenticated())
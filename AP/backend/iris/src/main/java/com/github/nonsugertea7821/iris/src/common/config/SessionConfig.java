@@ -0,0 +1,48 @@
+package com.github.nonsugertea7821.iris.src.common.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.session.FlushMode;
+import org.springframework.session.SaveMode;
+import org.springframework.session.config.SessionRepositoryCustomizer;
+import org.springframework.session.jdbc.JdbcIndexedSessionRepository;
+
+/**
+ * 共通/HTTPセッションコンフィグ<br>
+ * {@code /api/**} はステートレス({@link SecurityConfig})のため、通常のリクエストではセッションストアへアクセスしない。
+ * Spring Session JDBCは {@code common.session.store-type=jdbc} の場合のみ有効とし
+ * (それ以外は {@code SessionStoreEnvironmentPostProcessor} で自動構成を除外)、以下の通り調整する。
+ * <ul>
+ * <li>書き込みはリクエスト完了時に1回のみ({@link FlushMode#ON_SAVE})</li>
+ * <li>更新は {@code setAttribute} された属性の差分のみ({@link SaveMode#ON_SET_ATTRIBUTE})</li>
+ * <li>期限切れ削除は既定の一括DELETEを停止し、件数を制限した繰り返し削除({@code JdbcSessionCleaner})に置き換える</li>
+ * </ul>
+ * Spring Bootの設定値({@code spring.session.jdbc.*})より後に適用するため最低優先度とする。
+ *
+ * @author nonsugertea7821
+ * @version 0.1.1
+ * @since 2026/10/17
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnClass(JdbcIndexedSessionRepository.class)
+@ConditionalOnProperty(prefix = "common.session", name = "store-type", havingValue = "jdbc")
+public class SessionConfig {
+
+    @Bean
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @SuppressWarnings("unused")
+    SessionRepositoryCustomizer<JdbcIndexedSessionRepository> jdbcSessionRepositoryCustomizer() {
+        return repository -> {
+            repository.setFlushMode(FlushMode.ON_SAVE);
+            repository.setSaveMode(SaveMode.ON_SET_ATTRIBUTE);
+            repository.setCleanupCron(Scheduled.CRON_DISABLED);
+        };
+    }
+}
@@ -0,0 +1,40 @@
+package com.github.nonsugertea7821.iris.src.common.config;
+
+import java.time.Instant;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+import com.github.benmanes.caffeine.cache.Scheduler;
+
+/**
+ * 共通/スレッド実行コンフィグ<br>
+ * {@code spring.threads.virtual.enabled=true} で仮想スレッド実行モードとなり、
+ * Tomcatのリクエスト処理・{@code @Async}・{@code @Scheduled} が全て仮想スレッドで実行される。
+ * アプリケーション独自のスレッドは生成せず、定期処理は全てSpringの {@link TaskScheduler} に委譲する。
+ * <p>
+ * 仮想スレッド実行時はスレッド数が同時実行数の上限とならないため、
+ * DB同時接続数は {@code spring.datasource.hikari.maximum-pool-size} で、
+ * 接続待ちの上限は {@code spring.datasource.hikari.connection-timeout} で制御する。
+ *
+ * @author nonsugertea7821
+ * @version 0.1.0
+ * @since 2026/10/17
+ */
+@Configuration
+@EnableAsync
+public class ThreadingConfig {
+
+    /**
+     * Caffeineの期限切れ削除をSpringのタスクスケジューラで実行するスケジューラ
+     */
+    @Bean
+    @SuppressWarnings("unused")
+    Scheduler caffeineScheduler(TaskScheduler taskScheduler) {
+        return (executor, command, delay, unit) -> taskScheduler.schedule(
+                () -> executor.execute(command),
+                Instant.now().plusNanos(unit.toNanos(delay)));
+    }
+}
@@ -0,0 +1,76 @@
+package com.github.nonsugertea7821.iris.src.common.csv;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.github.nonsugertea7821.iris.src.common.dataset.Dataset;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 共通/CSV出力コントローラー<br>
+ * {@link StreamingResponseBody} でDBカーソルから直接レスポンスへ書き出す。
+ * 大量出力時は {@code spring.mvc.async.request-timeout} を出力時間に合わせて設定すること。
+ *
+ * @author nonsugertea7821
+ * @version 0.1.0
+ * @since 2026/10/17
+ */
+@RestController
+@RequestMapping("api/csv")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequiredArgsConstructor
+public class CsvExportController {
+
+    private static final MediaType TEXT_CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+
+    private final CsvExportService service;
+
+    /**
+     * データセットをCSVで出力する。
+     *
+     * @param dataset データセット名
+     * @param gzip gzip圧縮する場合true({@code Content-Encoding: gzip})
+     * @param bom 先頭にBOMを出力する場合true
+     */
+    @GetMapping("/export/{dataset}")
+    public ResponseEntity<StreamingResponseBody> export(
+            @PathVariable String dataset,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            @RequestParam(defaultValue = "true") boolean bom
+    ) {
+        Dataset target = service.exportable(dataset);
+        StreamingResponseBody body = output -> {
+            if (gzip) {
+                try (OutputStream compressed = new GZIPOutputStream(output, 8192)) {
+                    service.export(target, compressed, bom);
+                }
+            } else {
+                service.export(target, output, bom);
+            }
+        };
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(TEXT_CSV)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(dataset + ".csv", StandardCharsets.UTF_8)
+                        .build()
+                        .toString());
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+}
@@ -0,0 +1,133 @@
+package com.github.nonsugertea7821.iris.src.common.csv;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.StringJoiner;
+
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVPrinter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.github.nonsugertea7821.iris.src.common.dataset.Dataset;
+import com.github.nonsugertea7821.iris.src.common.dataset.DatasetRegistry;
+import com.github.nonsugertea7821.iris.src.common.exception.InvalidRequestException;
+import com.github.nonsugertea7821.iris.src.common.properties.CsvProperties;
+import com.github.nonsugertea7821.iris.src.common.sql.ColumnMapping;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 共通/CSV出力サービス<br>
+ * 前方参照専用・読み取り専用のカーソルから {@code common.csv.export-fetch-size} 行ずつ取得し、
+ * 1行ずつ出力ストリームへ書き出す。行を一覧として保持しないため、出力件数に依らずメモリ使用量は一定となる。
+ * <p>
+ * PostgreSQLドライバーは自動コミット無効の場合のみフェッチサイズ単位で取得するため、
+ * 読み取り専用トランザクション内で実行する。
+ *
+ * @author nonsugertea7821
+ * @version 0.1.0
+ * @since 2026/10/17
+ */
+@Service
+@RequiredArgsConstructor
+public class CsvExportService {
+
+    /**
+     * Excelで文字化けしないよう先頭に出力するBOM
+     */
+    private static final char BOM = '\uFEFF';
+
+    private final DatasetRegistry datasetRegistry;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final CsvProperties csvProperties;
+
+    /**
+     * カーソル保持用の読み取り専用トランザクション
+     */
+    private TransactionTemplate readOnlyTransaction;
+
+    @PostConstruct
+    public void init() {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 出力対象のデータセットを返す。
+     *
+     * @param datasetName データセット名
+     * @return データセット
+     * @throws InvalidRequestException 出力が許可されていないデータセットの場合
+     */
+    public Dataset exportable(String datasetName) {
+        Dataset dataset = datasetRegistry.get(datasetName);
+        if (!dataset.exportable()) {
+            throw new InvalidRequestException("出力が許可されていないデータセットです: " + datasetName);
+        }
+        return dataset;
+    }
+
+    /**
+     * データセットの全行をCSV(UTF-8、ヘッダーは {@code @Column.ja})で書き出す。
+     *
+     * @param dataset データセット
+     * @param output 出力先(呼び出し元で閉じること)
+     * @param bom 先頭にBOMを出力する場合true
+     * @return 出力行数
+     * @throws IOException 出力に失敗した場合(クライアント切断等)
+     */
+    public long export(Dataset dataset, OutputStream output, boolean bom) throws IOException {
+        ColumnMapping<?> mapping = dataset.mapping();
+        List<ColumnMapping.Property> properties = mapping.properties();
+        StringJoiner columns = new StringJoiner(", ");
+        String[] headers = new String[properties.size()];
+        for (ColumnMapping.Property property : properties) {
+            columns.add(property.phy());
+            headers[property.index()] = property.ja();
+        }
+        String sql = "SELECT " + columns + " FROM " + dataset.table();
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        if (bom) {
+            writer.write(BOM);
+        }
+        CSVPrinter printer = new CSVPrinter(writer, CSVFormat.DEFAULT.builder().setHeader(headers).build());
+        long[] rows = {0};
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> jdbcTemplate.query(con -> {
+                PreparedStatement ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                ps.setFetchSize(csvProperties.getExportFetchSize());
+                return ps;
+            }, rs -> {
+                try {
+                    for (ColumnMapping.Property property : properties) {
+                        printer.print(CsvValueConverter.format(property.reader().read(rs, property.index() + 1)));
+                    }
+                    printer.println();
+                    rows[0]++;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        printer.flush();
+        return rows[0];
+    }
+}
@@ -0,0 +1,72 @@
+package com.github.nonsugertea7821.iris.src.common.csv;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.util.UUID;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RequestPart;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 共通/CSV取込コントローラー<br>
+ * リクエスト本文をそのまま読み込むため、アップロード全体をメモリに保持しない。
+ * 取込中の進捗は、クライアントが採番した {@code jobId} で別リクエストから照会する。
+ * ファイル形式で送信する場合は {@code spring.servlet.multipart.max-file-size} / {@code max-request-size} を
+ * 取込対象の大きさに合わせて設定すること(アップロードは一時ファイルに保存される)。
+ *
+ * @author nonsugertea7821
+ * @version 0.1.0
+ * @since 2026/10/17
+ */
+@RestController
+@RequestMapping("api/csv")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequiredArgsConstructor
+public class CsvImportController {
+
+    private final CsvImportService service;
+
+    /**
+     * CSV本文を取り込む({@code Content-Type: text/csv})。
+     */
+    @PostMapping(path = "/import/{dataset}", consumes = "text/csv")
+    public CsvImportProgress importCsv(
+            @PathVariable String dataset,
+            @RequestParam(required = false) UUID jobId,
+            @RequestParam(defaultValue = "UTF-8") Charset charset,
+            InputStream body
+    ) {
+        return service.importCsv(dataset, body, charset, jobId);
+    }
+
+    /**
+     * CSVファイルを取り込む({@code multipart/form-data}、パート名 {@code file})。
+     */
+    @PostMapping(path = "/import/{dataset}", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public CsvImportProgress importFile(
+            @PathVariable String dataset,
+            @RequestParam(required = false) UUID jobId,
+            @RequestParam(defaultValue = "UTF-8") Charset charset,
+            @RequestPart("file") MultipartFile file
+    ) throws IOException {
+        try (InputStream input = file.getInputStream()) {
+            return service.importCsv(dataset, input, charset, jobId);
+        }
+    }
+
+    @GetMapping("/import/jobs/{jobId}")
+    public CsvImportProgress getProgress(@PathVariable UUID jobId) {
+        return service.getProgress(jobId);
+    }
+}
@@ -0,0 +1,97 @@
+package com.github.nonsugertea7821.iris.src.common.csv;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 共通/CSV取込進捗<br>
+ * 取込処理中のスレッドが更新し、進捗照会のリクエストから並行して参照される。
+ *
+ * @author nonsugertea7821
+ * @version 0.1.0
+ * @since 2026/10/17
+ */
+public class CsvImportProgress {
+
+    /**
+     * 取込状態
+     */
+    public enum Status {
+        RUNNING, COMPLETED, FAILED
+    }
+
+    private final UUID jobId;
+    private final String dataset;
+    private final Instant startedAt = Instant.now();
+    private final AtomicLong rowsRead = new AtomicLong();
+    private final AtomicLong rowsImported = new AtomicLong();
+    private volatile Status status = Status.RUNNING;
+    private volatile Instant finishedAt;
+    private volatile String message;
+
+    CsvImportProgress(UUID jobId, String dataset) {
+        this.jobId = jobId;
+        this.dataset = dataset;
+    }
+
+    void read() {
+        rowsRead.incrementAndGet();
+    }
+
+    void imported(int rows) {
+        rowsImported.addAndGet(rows);
+    }
+
+    void complete() {
+        finishedAt = Instant.now();
+        status = Status.COMPLETED;
+    }
+
+    void fail(String message) {
+        this.message = message;
+        finishedAt = Instant.now();
+        status = Status.FAILED;
+    }
+
+    public UUID getJobId() {
+        return jobId;
+    }
+
+    public String getDataset() {
+        return dataset;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    /**
+     * 読み込み済み行数(ヘッダーを除く)
+     */
+    public long getRowsRead() {
+        return rowsRead.get();
+    }
+
+    /**
+     * 登録(コミット)済み行数
+     */
+    public long getRowsImported() {
+        return rowsImported.get();
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    /**
+     * 失敗時のエラー内容
+     */
+    public String getMessage() {
+        return message;
+    }
+}
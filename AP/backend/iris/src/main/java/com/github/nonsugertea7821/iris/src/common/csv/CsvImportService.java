@@ -0,0 +1,214 @@
+package com.github.nonsugertea7821.iris.src.common.csv;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import com.github.nonsugertea7821.iris.src.common.dataset.Dataset;
+import com.github.nonsugertea7821.iris.src.common.dataset.DatasetRegistry;
+import com.github.nonsugertea7821.iris.src.common.exception.InvalidRequestException;
+import com.github.nonsugertea7821.iris.src.common.properties.CsvProperties;
+import com.github.nonsugertea7821.iris.src.common.sql.ColumnMapping;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 共通/CSV取込サービス<br>
+ * アップロードされたCSVを1行ずつ読み込み、{@code common.csv.import-batch-size} 行毎に
+ * バッチINSERTして1トランザクションでコミットする。保持する行はバッチ1つ分のみのため、
+ * ファイルの大きさに依らずメモリ使用量は一定となる。
+ * <p>
+ * ヘッダーは {@code @Column} の物理名({@code phy})または和名({@code ja})で指定する。
+ * 同じ列を物理名と和名の両方で指定するなど、1つの列に複数のヘッダーが対応する場合は取り込まない。
+ * 途中の行で失敗した場合、それまでにコミットしたバッチは取り消されない(進捗の {@code rowsImported} で確認する)。
+ * PostgreSQLでは接続URLに {@code reWriteBatchedInserts=true} を指定すると、バッチが複数行INSERTに書き換えられる。
+ *
+ * @author nonsugertea7821
+ * @version 0.1.1
+ * @since 2026/10/17
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CsvImportService {
+
+    /**
+     * 先頭のBOM
+     */
+    private static final String BOM = "\uFEFF";
+
+    private static final CSVFormat FORMAT = CSVFormat.DEFAULT.builder()
+            .setHeader()
+            .setSkipHeaderRecord(true)
+            .setIgnoreEmptyLines(true)
+            .build();
+
+    private final DatasetRegistry datasetRegistry;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final CsvProperties csvProperties;
+    private final Scheduler scheduler;
+
+    /**
+     * 取込進捗 key:ジョブ識別子
+     */
+    private Cache<UUID, CsvImportProgress> jobs;
+
+    @PostConstruct
+    public void init() {
+        this.jobs = Caffeine.newBuilder()
+                .expireAfterWrite(csvProperties.getImportProgressRetention())
+                .scheduler(scheduler)
+                .build();
+    }
+
+    /**
+     * CSVを取り込む。
+     *
+     * @param datasetName データセット名
+     * @param input CSV(ヘッダー行あり)
+     * @param charset 文字コード
+     * @param jobId ジョブ識別子(進捗照会用、nullの場合は採番)
+     * @return 完了時の進捗
+     * @throws InvalidRequestException 取込不可のデータセット、未定義または重複した列、変換できない値の場合
+     */
+    public CsvImportProgress importCsv(String datasetName, InputStream input, Charset charset, UUID jobId) {
+        Dataset dataset = datasetRegistry.get(datasetName);
+        if (!dataset.importable()) {
+            throw new InvalidRequestException("取込が許可されていないデータセットです: " + datasetName);
+        }
+        CsvImportProgress progress = new CsvImportProgress(jobId != null ? jobId : UUID.randomUUID(), datasetName);
+        if (jobs.asMap().putIfAbsent(progress.getJobId(), progress) != null) {
+            throw new InvalidRequestException("ジョブ識別子が重複しています: " + progress.getJobId());
+        }
+        try (Reader reader = new BufferedReader(new InputStreamReader(input, charset));
+                CSVParser parser = FORMAT.parse(reader)) {
+            Plan plan = plan(dataset, parser.getHeaderNames());
+            int batchSize = Math.max(1, csvProperties.getImportBatchSize());
+            List<Object[]> batch = new ArrayList<>(batchSize);
+            for (CSVRecord record : parser) {
+                batch.add(plan.bind(record));
+                progress.read();
+                if (batch.size() >= batchSize) {
+                    flush(plan.sql(), batch, progress);
+                }
+            }
+            flush(plan.sql(), batch, progress);
+            progress.complete();
+            log.info("CSVを取り込みました dataset={} rows={}", datasetName, progress.getRowsImported());
+            return progress;
+        } catch (IOException | UncheckedIOException e) {
+            progress.fail(e.getMessage());
+            throw new InvalidRequestException("CSVを読み込めません: " + e.getMessage(), e);
+        } catch (RuntimeException e) {
+            progress.fail(e.getMessage());
+            throw e;
+        }
+    }
+
+    /**
+     * 取込進捗を返す。
+     *
+     * @param jobId ジョブ識別子
+     * @return 進捗
+     * @throws InvalidRequestException 存在しない、または保持期間を過ぎた場合
+     */
+    public CsvImportProgress getProgress(UUID jobId) {
+        CsvImportProgress progress = jobs.getIfPresent(jobId);
+        if (progress == null) {
+            throw new InvalidRequestException("取込ジョブが存在しません: " + jobId);
+        }
+        return progress;
+    }
+
+    private void flush(String sql, List<Object[]> batch, CsvImportProgress progress) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(sql, batch));
+        progress.imported(batch.size());
+        batch.clear();
+    }
+
+    /**
+     * ヘッダーから列対応・INSERT文・値変換を解決する。
+     */
+    private static Plan plan(Dataset dataset, List<String> headers) {
+        ColumnMapping<?> mapping = dataset.mapping();
+        StringJoiner columns = new StringJoiner(", ");
+        StringJoiner placeholders = new StringJoiner(", ");
+        List<Function<String, Object>> parsers = new ArrayList<>(headers.size());
+        Set<String> resolved = new HashSet<>(headers.size());
+        for (int i = 0; i < headers.size(); i++) {
+            String header = headers.get(i).strip();
+            if (i == 0 && header.startsWith(BOM)) {
+                header = header.substring(1);
+            }
+            ColumnMapping.Property property = mapping.byPhy(header);
+            if (property == null) {
+                property = mapping.byJa(header);
+            }
+            if (property == null) {
+                throw new InvalidRequestException("未定義の列です: " + header);
+            }
+            if (!resolved.add(property.phy())) {
+                throw new InvalidRequestException("列が重複しています: " + header + " (" + property.phy() + ")");
+            }
+            columns.add(property.phy());
+            placeholders.add("?");
+            parsers.add(CsvValueConverter.parser(property.javaType()));
+        }
+        if (parsers.isEmpty()) {
+            throw new InvalidRequestException("ヘッダー行がありません");
+        }
+        String sql = "INSERT INTO " + dataset.table() + " (" + columns + ") VALUES (" + placeholders + ")";
+        return new Plan(sql, List.copyOf(parsers));
+    }
+
+    /**
+     * 取込計画
+     *
+     * @param sql INSERT文
+     * @param parsers 列毎の値変換
+     */
+    private record Plan(String sql, List<Function<String, Object>> parsers) {
+
+        private Object[] bind(CSVRecord record) {
+            if (record.size() != parsers.size()) {
+                throw new InvalidRequestException(record.getRecordNumber() + "行目: 列数がヘッダーと一致しません");
+            }
+            Object[] values = new Object[parsers.size()];
+            for (int i = 0; i < values.length; i++) {
+                try {
+                    values[i] = parsers.get(i).apply(record.get(i));
+                } catch (RuntimeException e) {
+                    throw new InvalidRequestException(record.getRecordNumber() + "行目" + (i + 1) + "列: " + e.getMessage(), e);
+                }
+            }
+            return values;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.github.nonsugertea7821.iris.src.common.csv;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * 共通/CSV値変換機能<br>
+ * CSVの文字列値と {@code @Column} フィールド型との相互変換を行う。
+ * 変換方法は列毎に1回だけ解決し、行毎の型判定は行わない。
+ *
+ * @author nonsugertea7821
+ * @version 0.1.0
+ * @since 2026/10/17
+ */
+public interface CsvValueConverter {
+
+    /**
+     * フィールド型に応じた文字列→JDBCバインド値の変換方法を返す。<br>
+     * 空文字はNULLとして扱う。
+     *
+     * @param type フィールド型
+     * @return 変換方法(変換できない値の場合は {@link IllegalArgumentException} 等を送出する)
+     */
+    static Function<String, Object> parser(Class<?> type) {
+        Function<String, Object> parser = parserOf(type);
+        return value -> value == null || value.isEmpty() ? null : parser.apply(value);
+    }
+
+    private static Function<String, Object> parserOf(Class<?> type) {
+        if (type == String.class) {
+            return value -> value;
+        }
+        if (type == UUID.class) {
+            return UUID::fromString;
+        }
+        if (type == int.class || type == Integer.class) {
+            return value -> Integer.valueOf(value.strip());
+        }
+        if (type == long.class || type == Long.class) {
+            return value -> Long.valueOf(value.strip());
+        }
+        if (type == double.class || type == Double.class) {
+            return value -> Double.valueOf(value.strip());
+        }
+        if (type == boolean.class || type == Boolean.class) {
+            return value -> switch (value.strip().toLowerCase()) {
+                case "true", "1", "t", "y", "yes" -> Boolean.TRUE;
+                case "false", "0", "f", "n", "no" -> Boolean.FALSE;
+                default -> throw new IllegalArgumentException("真偽値ではありません: " + value);
+            };
+        }
+        if (type == BigDecimal.class) {
+            return value -> new BigDecimal(value.strip());
+        }
+        if (type == LocalDate.class) {
+            return value -> LocalDate.parse(value.strip());
+        }
+        if (type == LocalDateTime.class) {
+            return value -> LocalDateTime.parse(value.strip());
+        }
+        if (type == OffsetDateTime.class) {
+            return value -> OffsetDateTime.parse(value.strip());
+        }
+        if (type == Instant.class) {
+            return value -> Timestamp.from(Instant.parse(value.strip()));
+        }
+        throw new IllegalArgumentException("CSVで扱えない型です: " + type.getName());
+    }
+
+    /**
+     * フィールド値をCSVの文字列値に変換する。<br>
+     * NULLは空文字とする。
+     *
+     * @param value フィールド値
+     * @return 文字列値
+     */
+    static String format(Object value) {
+        return value == null ? "" : value.toString();
+    }
+}
@@ -0,0 +1,36 @@
+package com.github.nonsugertea7821.iris.src.common.dataset;
+
+import java.util.List;
+import java.util.Set;
+
+import com.github.nonsugertea7821.iris.src.common.sql.ColumnMapping;
+
+/**
+ * 共通/データセット<br>
+ * テーブル名は {@link DatasetRegistry} で識別子として検証済みのため、SQLにそのまま埋め込んでよい。
+ * 列名は {@code @Column.phy} のみを使用し、利用者の入力をSQLに含めないこと。
+ *
+ * @author nonsugertea7821
+ * @version 0.1.2
+ * @since 2026/10/17
+ * @param name データセット名
+ * @param table テーブル名
+ * @param mapping 行DTOの列マッピング
+ * @param importable CSV取込の許可
+ * @param exportable CSV出力の許可
+ * @param keys 行を一意に識別する列(空の場合は一覧照会不可)
+ * @param sortable 並べ替えを許可する列の物理名
+ * @param filterable 絞り込みを許可する列の物理名
+ */
+public record Dataset(String name, String table, ColumnMapping<?> mapping, boolean importable, boolean exportable,
+        List<ColumnMapping.Property> keys, Set<String> sortable, Set<String> filterable) {
+
+    /**
+     * 一覧照会の可否
+     *
+     * @return 可能な場合true
+     */
+    public boolean queryable() {
+        return !keys.isEmpty();
+    }
+}
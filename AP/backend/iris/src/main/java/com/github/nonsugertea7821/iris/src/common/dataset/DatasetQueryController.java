@@ -0,0 +1,42 @@
+package com.github.nonsugertea7821.iris.src.common.dataset;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.github.nonsugertea7821.iris.src.common.dataset.dto.request.DatasetQueryRequest;
+import com.github.nonsugertea7821.iris.src.common.dataset.dto.response.DatasetPage;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 共通/データセット一覧照会コントローラー<br>
+ * DataGridのサーバーサイドモード(並べ替え・絞り込み・ページング)向けの照会APIを提供する。
+ *
+ * @author nonsugertea7821
+ * @version 0.1.0
+ * @since 2026/10/17
+ */
+@RestController
+@RequestMapping("api/datasets")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequiredArgsConstructor
+public class DatasetQueryController {
+
+    private final DatasetQueryService service;
+
+    /**
+     * データセットを1ページ分照会する。
+     *
+     * @param dataset データセット名
+     * @param request 並べ替え・絞り込み・カーソル
+     * @return 照会結果
+     */
+    @PostMapping("/{dataset}/query")
+    public DatasetPage query(@PathVariable String dataset, @RequestBody DatasetQueryRequest request) {
+        return service.query(dataset, request);
+    }
+}
@@ -0,0 +1,103 @@
+package com.github.nonsugertea7821.iris.src.common.dataset;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.nonsugertea7821.iris.src.common.csv.CsvValueConverter;
+import com.github.nonsugertea7821.iris.src.common.dataset.dto.request.DatasetQueryRequest;
+import com.github.nonsugertea7821.iris.src.common.dataset.dto.response.DatasetPage;
+import com.github.nonsugertea7821.iris.src.common.exception.InvalidRequestException;
+import com.github.nonsugertea7821.iris.src.common.properties.DatasetProperties;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 共通/データセット一覧照会サービス<br>
+ * キーセットページングで1ページ分の行を取得する。ページサイズ+1件を取得し、
+ * 超過分の有無で次ページの存在を判定するため件数取得(COUNT)は行わない。
+ * <p>
+ * カーソルは最終行の並べ替えキーをJSON配列とし、Base64(URL安全)で符号化した不透明な文字列とする。
+ * NULLの値はJSONのnullとし、文字列の空文字と区別する。カーソル中の値もバインド値としてのみ使用する。
+ *
+ * @author nonsugertea7821
+ * @version 0.1.1
+ * @since 2026/10/17
+ */
+@Service
+@RequiredArgsConstructor
+public class DatasetQueryService {
+
+    private static final TypeReference<List<String>> CURSOR_TYPE = new TypeReference<>() {
+    };
+
+    private final DatasetRegistry datasetRegistry;
+    private final DatasetProperties datasetProperties;
+    private final JdbcClient jdbcClient;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * データセットを1ページ分照会する。
+     *
+     * @param datasetName データセット名
+     * @param request リクエスト
+     * @return 照会結果
+     * @throws InvalidRequestException 照会が許可されていないデータセット、または不正な条件・カーソルの場合
+     */
+    public DatasetPage query(String datasetName, DatasetQueryRequest request) {
+        Dataset dataset = datasetRegistry.get(datasetName);
+        if (!dataset.queryable()) {
+            throw new InvalidRequestException("照会が許可されていないデータセットです: " + datasetName);
+        }
+        int pageSize = pageSize(request.getPageSize());
+        List<String> after = request.getCursor() == null ? null : decode(request.getCursor());
+        KeysetQuery query = KeysetQuery.compile(dataset, request, after, pageSize + 1);
+        List<?> rows = jdbcClient.sql(query.sql())
+                .params(query.params())
+                .query(dataset.mapping().rowMapper())
+                .list();
+        if (rows.size() <= pageSize) {
+            return new DatasetPage(rows, null, pageSize);
+        }
+        List<?> page = rows.subList(0, pageSize);
+        return new DatasetPage(page, encode(query.order(), page.get(pageSize - 1)), pageSize);
+    }
+
+    private int pageSize(Integer requested) {
+        if (requested == null) {
+            return datasetProperties.getDefaultPageSize();
+        }
+        if (requested < 1) {
+            throw new InvalidRequestException("ページサイズが不正です: " + requested);
+        }
+        return Math.min(requested, datasetProperties.getMaxPageSize());
+    }
+
+    private String encode(List<KeysetQuery.Order> order, Object lastRow) {
+        List<String> values = new ArrayList<>(order.size());
+        for (KeysetQuery.Order o : order) {
+            Object value = o.property().get(lastRow);
+            values.add(value == null ? null : CsvValueConverter.format(value));
+        }
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(objectMapper.writeValueAsBytes(values));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private List<String> decode(String cursor) {
+        try {
+            return objectMapper.readValue(Base64.getUrlDecoder().decode(cursor), CURSOR_TYPE);
+        } catch (IllegalArgumentException | IOException e) {
+            throw new InvalidRequestException("カーソルが不正です", e);
+        }
+    }
+}
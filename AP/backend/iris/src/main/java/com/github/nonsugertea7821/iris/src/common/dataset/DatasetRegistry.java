@@ -0,0 +1,103 @@
+package com.github.nonsugertea7821.iris.src.common.dataset;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.springframework.stereotype.Component;
+
+import com.github.nonsugertea7821.iris.src.common.exception.InvalidRequestException;
+import com.github.nonsugertea7821.iris.src.common.properties.DatasetProperties;
+import com.github.nonsugertea7821.iris.src.common.sql.ColumnMapping;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 共通/データセットレジストリ<br>
+ * 起動時に {@code common.dataset.definitions} を検証・解決して不変Mapとして保持する。
+ * テーブル名・列物理名はSQL識別子として妥当なもののみ受け付ける。
+ *
+ * @author nonsugertea7821
+ * @version 0.1.2
+ * @since 2026/10/17
+ */
+@Component
+@RequiredArgsConstructor
+public class DatasetRegistry {
+
+    /**
+     * SQL識別子(スキーマ修飾可)
+     */
+    private static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*(\\.[A-Za-z_][A-Za-z0-9_]*)?");
+
+    private final DatasetProperties datasetProperties;
+
+    /**
+     * データセットMap key:データセット名
+     */
+    private Map<String, Dataset> datasets = Map.of();
+
+    @PostConstruct
+    public void init() {
+        Map<String, Dataset> resolved = new HashMap<>();
+        datasetProperties.getDefinitions().forEach((name, definition) -> {
+            if (definition.getTable() == null || !IDENTIFIER.matcher(definition.getTable()).matches()) {
+                throw new IllegalStateException("データセットのテーブル名が不正です: " + name);
+            }
+            if (definition.getRowType() == null) {
+                throw new IllegalStateException("データセットの行DTOが未指定です: " + name);
+            }
+            ColumnMapping<?> mapping = ColumnMapping.of(definition.getRowType());
+            for (ColumnMapping.Property property : mapping.properties()) {
+                if (!IDENTIFIER.matcher(property.phy()).matches() || property.phy().contains(".")) {
+                    throw new IllegalStateException("列物理名が不正です: " + name + "." + property.phy());
+                }
+            }
+            List<ColumnMapping.Property> keys = new ArrayList<>();
+            for (String phy : definition.getKeyColumns()) {
+                keys.add(property(name, mapping, phy));
+            }
+            resolved.put(name, new Dataset(name, definition.getTable(), mapping,
+                    definition.isImportable(), definition.isExportable(), List.copyOf(keys),
+                    columns(name, mapping, definition.getSortable()),
+                    columns(name, mapping, definition.getFilterable())));
+        });
+        this.datasets = Map.copyOf(resolved);
+    }
+
+    /**
+     * データセットを返す。
+     *
+     * @param name データセット名
+     * @return データセット
+     * @throws InvalidRequestException 未定義のデータセットが指定された場合
+     */
+    public Dataset get(String name) {
+        Dataset dataset = datasets.get(name);
+        if (dataset == null) {
+            throw new InvalidRequestException("未定義のデータセットです: " + name);
+        }
+        return dataset;
+    }
+
+    private static Set<String> columns(String name, ColumnMapping<?> mapping, List<String> phys) {
+        Set<String> columns = new HashSet<>();
+        for (String phy : phys) {
+            columns.add(property(name, mapping, phy).phy());
+        }
+        return Set.copyOf(columns);
+    }
+
+    private static ColumnMapping.Property property(String name, ColumnMapping<?> mapping, String phy) {
+        ColumnMapping.Property property = mapping.byPhy(phy);
+        if (property == null) {
+            throw new IllegalStateException("行DTOに存在しない列です: " + name + "." + phy);
+        }
+        return property;
+    }
+}
@@ -0,0 +1,297 @@
+package com.github.nonsugertea7821.iris.src.common.dataset;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+
+import com.github.nonsugertea7821.iris.src.common.csv.CsvValueConverter;
+import com.github.nonsugertea7821.iris.src.common.dataset.dto.request.DatasetQueryRequest;
+import com.github.nonsugertea7821.iris.src.common.exception.InvalidRequestException;
+import com.github.nonsugertea7821.iris.src.common.sql.ColumnMapping;
+
+/**
+ * 共通/キーセットページングSQL<br>
+ * 一覧照会リクエストを、列名に {@code @Column.phy} のみを使用したパラメーター化SQLへ変換する。
+ * 利用者の入力は全てバインド値とし、列・演算子は許可リストに含まれるもののみ受け付ける。
+ * <p>
+ * ページ送りはOFFSETではなく、前ページ最終行の並べ替えキーより後ろの行を
+ * {@code (c1 > ?) OR (c1 = ? AND c2 > ?) ...} で絞り込む(シーク法)。
+ * 並べ替えの最後には必ず行を一意に識別する列を加え、順序を全順序とする。
+ * <p>
+ * 行を一意に識別する列以外はNULLを含み得るものとして扱い、NULLは常に最大値として並べる
+ * (昇順は {@code NULLS LAST}、降順は {@code NULLS FIRST})。NULLとの比較は {@code IS NULL} / {@code IS NOT NULL} で行い、
+ * NULLの行をページの境界で取りこぼさない。行を一意に識別する列はNOT NULLであること。
+ *
+ * @author nonsugertea7821
+ * @version 0.1.1
+ * @since 2026/10/17
+ * @param sql SQL
+ * @param params バインド値(出現順)
+ * @param order 並べ替え列(カーソルの値の順)
+ */
+record KeysetQuery(String sql, List<Object> params, List<Order> order) {
+
+    /**
+     * 比較演算子 key:リクエストの演算子 value:SQLの演算子
+     */
+    private static final Map<String, String> COMPARISONS = Map.ofEntries(
+            Map.entry("=", "="), Map.entry("!=", "<>"),
+            Map.entry(">", ">"), Map.entry(">=", ">="),
+            Map.entry("<", "<"), Map.entry("<=", "<="),
+            Map.entry("equals", "="),
+            Map.entry("is", "="), Map.entry("not", "<>"),
+            Map.entry("after", ">"), Map.entry("onOrAfter", ">="),
+            Map.entry("before", "<"), Map.entry("onOrBefore", "<="));
+
+    private static final Set<String> NUMERIC_OPERATORS = Set.of("=", "!=", ">", ">=", "<", "<=");
+    private static final Set<String> TEXT_OPERATORS = Set.of("contains", "equals", "startsWith", "endsWith");
+    private static final Set<String> DATE_OPERATORS = Set.of("is", "not", "after", "onOrAfter", "before", "onOrBefore");
+    private static final Set<String> BOOLEAN_OPERATORS = Set.of("is");
+
+    /**
+     * 並べ替え列
+     *
+     * @param property 列
+     * @param descending 降順の場合true
+     * @param nullable NULLを含み得る場合true
+     */
+    record Order(ColumnMapping.Property property, boolean descending, boolean nullable) {
+
+        private String orderBy() {
+            String column = property.phy();
+            if (!nullable) {
+                return column + (descending ? " DESC" : " ASC");
+            }
+            return column + (descending ? " DESC NULLS FIRST" : " ASC NULLS LAST");
+        }
+    }
+
+    /**
+     * 一覧照会SQLを生成する。
+     *
+     * @param dataset データセット
+     * @param request リクエスト
+     * @param after 前ページ最終行の並べ替えキー(先頭ページの場合null、NULLの値はnull要素)
+     * @param limit 取得件数
+     * @return SQL
+     * @throws InvalidRequestException 許可されていない列・演算子、または不正な値の場合
+     */
+    static KeysetQuery compile(Dataset dataset, DatasetQueryRequest request, List<String> after, int limit) {
+        List<Order> order = order(dataset, request.getSort());
+        List<Object> params = new ArrayList<>();
+        StringJoiner where = new StringJoiner(" AND ");
+        if (request.getFilters() != null) {
+            for (DatasetQueryRequest.FilterItem filter : request.getFilters()) {
+                where.add(filter(dataset, filter, params));
+            }
+        }
+        if (after != null) {
+            where.add(seek(order, after, params));
+        }
+        StringJoiner columns = new StringJoiner(", ");
+        for (ColumnMapping.Property property : dataset.mapping().properties()) {
+            columns.add(property.phy());
+        }
+        StringJoiner orderBy = new StringJoiner(", ");
+        for (Order o : order) {
+            orderBy.add(o.orderBy());
+        }
+        StringBuilder sql = new StringBuilder("SELECT ").append(columns).append(" FROM ").append(dataset.table());
+        if (where.length() > 0) {
+            sql.append(" WHERE ").append(where);
+        }
+        sql.append(" ORDER BY ").append(orderBy).append(" LIMIT ?");
+        params.add(limit);
+        return new KeysetQuery(sql.toString(), List.copyOf(params), order);
+    }
+
+    private static List<Order> order(Dataset dataset, List<DatasetQueryRequest.SortItem> sort) {
+        List<Order> order = new ArrayList<>();
+        Set<String> used = new LinkedHashSet<>();
+        if (sort != null) {
+            for (DatasetQueryRequest.SortItem item : sort) {
+                ColumnMapping.Property property = resolve(dataset, item.getField());
+                if (!dataset.sortable().contains(property.phy())) {
+                    throw new InvalidRequestException("並べ替えできない列です: " + item.getField());
+                }
+                boolean descending;
+                if (item.getSort() == null || "asc".equalsIgnoreCase(item.getSort())) {
+                    descending = false;
+                } else if ("desc".equalsIgnoreCase(item.getSort())) {
+                    descending = true;
+                } else {
+                    throw new InvalidRequestException("不正な並べ替え方向です: " + item.getSort());
+                }
+                if (used.add(property.phy())) {
+                    boolean nullable = !dataset.keys().contains(property) && !property.javaType().isPrimitive();
+                    order.add(new Order(property, descending, nullable));
+                }
+            }
+        }
+        for (ColumnMapping.Property key : dataset.keys()) {
+            if (used.add(key.phy())) {
+                order.add(new Order(key, false, false));
+            }
+        }
+        return order;
+    }
+
+    private static String filter(Dataset dataset, DatasetQueryRequest.FilterItem filter, List<Object> params) {
+        ColumnMapping.Property property = resolve(dataset, filter.getField());
+        if (!dataset.filterable().contains(property.phy())) {
+            throw new InvalidRequestException("絞り込みできない列です: " + filter.getField());
+        }
+        String operator = filter.getOperator();
+        String column = property.phy();
+        if ("isEmpty".equals(operator)) {
+            return column + " IS NULL";
+        }
+        if ("isNotEmpty".equals(operator)) {
+            return column + " IS NOT NULL";
+        }
+        if (operator == null || !operators(property.javaType()).contains(operator)) {
+            throw new InvalidRequestException("列 " + filter.getField() + " に使用できない演算子です: " + operator);
+        }
+        if (filter.getValue() == null) {
+            throw new InvalidRequestException("絞り込みの値がありません: " + filter.getField());
+        }
+        String value = filter.getValue().toString();
+        switch (operator) {
+            case "contains" -> {
+                params.add("%" + escapeLike(value) + "%");
+                return column + " ILIKE ?";
+            }
+            case "startsWith" -> {
+                params.add(escapeLike(value) + "%");
+                return column + " ILIKE ?";
+            }
+            case "endsWith" -> {
+                params.add("%" + escapeLike(value));
+                return column + " ILIKE ?";
+            }
+            default -> {
+                params.add(convert(property, value));
+                return column + " " + COMPARISONS.get(operator) + " ?";
+            }
+        }
+    }
+
+    /**
+     * 前ページ最終行より後ろの行に絞り込む条件<br>
+     * NULLは最大値として扱うため、昇順のNULLより後ろの行は同値(NULL)の行のみ、降順のNULLより後ろの行は非NULLの全行となる。
+     */
+    private static String seek(List<Order> order, List<String> after, List<Object> params) {
+        if (after.size() != order.size()) {
+            throw new InvalidRequestException("カーソルが並べ替え条件と一致しません");
+        }
+        Object[] values = new Object[order.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = cursorValue(order.get(i), after.get(i));
+        }
+        StringJoiner or = new StringJoiner(" OR ", "(", ")");
+        for (int i = 0; i < order.size(); i++) {
+            Order o = order.get(i);
+            String column = o.property().phy();
+            // 昇順でNULL(最大値)より大きい値は無いため、この分岐は該当行なし
+            if (values[i] == null && !o.descending()) {
+                continue;
+            }
+            StringJoiner and = new StringJoiner(" AND ", "(", ")");
+            for (int j = 0; j < i; j++) {
+                String previous = order.get(j).property().phy();
+                if (values[j] == null) {
+                    and.add(previous + " IS NULL");
+                } else {
+                    and.add(previous + " = ?");
+                    params.add(values[j]);
+                }
+            }
+            if (values[i] == null) {
+                and.add(column + " IS NOT NULL");
+            } else if (o.descending()) {
+                and.add(column + " < ?");
+                params.add(values[i]);
+            } else if (o.nullable()) {
+                and.add("(" + column + " > ? OR " + column + " IS NULL)");
+                params.add(values[i]);
+            } else {
+                and.add(column + " > ?");
+                params.add(values[i]);
+            }
+            or.add(and.toString());
+        }
+        return or.toString();
+    }
+
+    /**
+     * カーソルの値を列の型に変換する。<br>
+     * NULLはカーソル上のnullのみとし、文字列列の空文字はそのまま空文字として扱う。
+     */
+    private static Object cursorValue(Order order, String value) {
+        if (value == null) {
+            if (!order.nullable()) {
+                throw new InvalidRequestException("カーソルが不正です");
+            }
+            return null;
+        }
+        if (order.property().javaType() == String.class) {
+            return value;
+        }
+        Object converted = convert(order.property(), value);
+        if (converted == null) {
+            throw new InvalidRequestException("カーソルが不正です");
+        }
+        return converted;
+    }
+
+    private static ColumnMapping.Property resolve(Dataset dataset, String field) {
+        if (field != null) {
+            for (ColumnMapping.Property property : dataset.mapping().properties()) {
+                if (property.name().equals(field)) {
+                    return property;
+                }
+            }
+            ColumnMapping.Property property = dataset.mapping().byPhy(field);
+            if (property != null) {
+                return property;
+            }
+        }
+        throw new InvalidRequestException("未定義の列です: " + field);
+    }
+
+    private static Set<String> operators(Class<?> type) {
+        if (type == String.class) {
+            return TEXT_OPERATORS;
+        }
+        if (type == LocalDate.class || type == LocalDateTime.class || type == OffsetDateTime.class || type == Instant.class) {
+            return DATE_OPERATORS;
+        }
+        if (type == boolean.class || type == Boolean.class) {
+            return BOOLEAN_OPERATORS;
+        }
+        if (type.isPrimitive() || Number.class.isAssignableFrom(type) || type == BigDecimal.class) {
+            return NUMERIC_OPERATORS;
+        }
+        return Set.of("=", "!=");
+    }
+
+    private static Object convert(ColumnMapping.Property property, String value) {
+        try {
+            return CsvValueConverter.parser(property.javaType()).apply(value);
+        } catch (RuntimeException e) {
+            throw new InvalidRequestException("列 " + property.name() + " の値が不正です: " + value, e);
+        }
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,83 @@
+package com.github.nonsugertea7821.iris.src.common.dataset.dto.request;
+
+import java.util.List;
+
+import lombok.Data;
+
+/**
+ * 共通/データセット一覧照会リクエスト<br>
+ * 並べ替え・絞り込みはDataGridのソートモデル・フィルターモデルと同じ形式で指定する。
+ *
+ * @author nonsugertea7821
+ * @version 0.1.0
+ * @since 2026/10/17
+ */
+@Data
+public class DatasetQueryRequest {
+
+    /**
+     * 並べ替え(優先順)
+     */
+    private final List<SortItem> sort;
+
+    /**
+     * 絞り込み(全て満たす行を返す)
+     */
+    private final List<FilterItem> filters;
+
+    /**
+     * ページサイズ(未指定の場合は既定値)
+     */
+    private final Integer pageSize;
+
+    /**
+     * 前ページの {@code nextCursor}(先頭ページの場合null)
+     */
+    private final String cursor;
+
+    /**
+     * 並べ替え項目
+     */
+    @Data
+    public static class SortItem {
+
+        /**
+         * 列(フィールド名または物理名)
+         */
+        private final String field;
+
+        /**
+         * 方向(asc / desc)
+         */
+        private final String sort;
+    }
+
+    /**
+     * 絞り込み項目
+     */
+    @Data
+    public static class FilterItem {
+
+        /**
+         * 列(フィールド名または物理名)
+         */
+        private final String field;
+
+        /**
+         * 演算子
+         * <ul>
+         * <li>数値: {@code = != > >= < <=}</li>
+         * <li>文字列: {@code contains equals startsWith endsWith}</li>
+         * <li>日付: {@code is not after onOrAfter before onOrBefore}</li>
+         * <li>真偽値: {@code is}</li>
+         * <li>共通: {@code isEmpty isNotEmpty}(値不要)</li>
+         * </ul>
+         */
+        private final String operator;
+
+        /**
+         * 値
+         */
+        private final Object value;
+    }
+}
@@ -0,0 +1,31 @@
+package com.github.nonsugertea7821.iris.src.common.dataset.dto.response;
+
+import java.util.List;
+
+import lombok.Data;
+
+/**
+ * 共通/データセット一覧照会レスポンス
+ *
+ * @author nonsugertea7821
+ * @version 0.1.0
+ * @since 2026/10/17
+ */
+@Data
+public class DatasetPage {
+
+    /**
+     * 行(最大ページサイズ件)
+     */
+    private final List<?> rows;
+
+    /**
+     * 次ページ取得用のカーソル(最終ページの場合null)
+     */
+    private final String nextCursor;
+
+    /**
+     * 適用したページサイズ
+     */
+    private final int pageSize;
+}
@@ -0,0 +1,42 @@
+package com.github.nonsugertea7821.iris.src.common.exception;
+
+import jakarta.security.auth.message.AuthException;
+
+/**
+ * 共通/認証失敗例外<br>
+ * パスワード不一致・nonce期限切れ等の想定内の認証失敗を表す。
+ * 総当たり攻撃時に大量に発生するため、スタックトレースを取得しない。
+ * {@link GlobalControllerAdvice} で理由毎に事前生成した {@code 401 Unauthorized} 応答に変換される。
+ * <p>
+ * 既存の {@code throws AuthException} 宣言・例外処理との互換のため {@link AuthException} を継承する。
+ *
+ * @author nonsugertea7821
+ * @version 0.1.0
+ * @since 2026/10/17
+ */
+public class AuthFailureException extends AuthException {
+
+    private final AuthFailureReason reason;
+
+    public AuthFailureException(AuthFailureReason reason) {
+        super(reason.message());
+        this.reason = reason;
+    }
+
+    /**
+     * 失敗理由
+     *
+     * @return 失敗理由
+     */
+    public AuthFailureReason getReason() {
+        return reason;
+    }
+
+    /**
+     * スタックトレースを取得しない。
+     */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -0,0 +1,63 @@
+package com.github.nonsugertea7821.iris.src.common.exception;
+
+/**
+ * 共通/認証失敗理由<br>
+ * 理由毎の応答メッセージとメトリクスのタグ値を定義する。
+ *
+ * @author nonsugertea7821
+ * @version 0.1.0
+ * @since 2026/10/17
+ */
+public enum AuthFailureReason {
+
+    /**
+     * nonceが存在しない(未発行・消費済み)
+     */
+    INVALID_CLIENT("invalid_client", "不正なクライアント識別子です"),
+
+    /**
+     * nonceの期限切れ
+     */
+    NONCE_EXPIRED("nonce_expired", "認証がタイムアウトしました"),
+
+    /**
+     * ユーザー不在・パスワード不一致(ユーザーの存在を判別させないため共通とする)
+     */
+    INVALID_CREDENTIALS("invalid_credentials", "ユーザー名またはパスワードが不正です"),
+
+    /**
+     * チャレンジ要求のユーザー不在
+     */
+    INVALID_USER("invalid_user", "不正なユーザーです"),
+
+    /**
+     * リフレッシュトークンの不正・失効・再利用
+     */
+    INVALID_REFRESH_TOKEN("invalid_refresh_token", "リフレッシュトークン無効");
+
+    private final String tag;
+    private final String message;
+
+    AuthFailureReason(String tag, String message) {
+        this.tag = tag;
+        this.message = message;
+    }
+
+    /**
+     * メトリクスのタグ値
+     *
+     * @return タグ値
+     */
+    public String tag() {
+        return tag;
+    }
+
+    /**
+     * 応答メッセージ
+     *
+     * @return メッセージ
+     */
+    public String message() {
+        return message;
+    }
+}
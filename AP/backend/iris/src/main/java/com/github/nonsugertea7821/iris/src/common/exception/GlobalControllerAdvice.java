@@ -1,10 +1,14 @@
 package com.github.nonsugertea7821.iris.src.common.exception;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
@@ -12,6 +16,10 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.nonsugertea7821.iris.src.common.metrics.AuthMetrics;
+
 import jakarta.security.auth.message.AuthException;
 
 /**
@@ -19,11 +27,33 @@ import jakarta.security.auth.message.AuthException;
  *
  * @author nonsugertea7821
  * @since 2025/10/19
- * @version 0.1.0
+ * @version 0.1.3
  */
 @ControllerAdvice
 public class GlobalControllerAdvice {
 
+    private final AuthMetrics authMetrics;
+
+    /**
+     * 認証失敗の応答本文の雛形 key:失敗理由 value:日時の前後のJSON
+     */
+    private final Map<AuthFailureReason, byte[][]> authFailureTemplates = new EnumMap<>(AuthFailureReason.class);
+
+    public GlobalControllerAdvice(AuthMetrics authMetrics, ObjectMapper objectMapper) {
+        this.authMetrics = authMetrics;
+        for (AuthFailureReason reason : AuthFailureReason.values()) {
+            try {
+                String head = "{\"status\":" + HttpStatus.UNAUTHORIZED.value()
+                        + ",\"error\":\"Unauthorized\",\"message\":" + objectMapper.writeValueAsString(reason.message())
+                        + ",\"timestamp\":\"";
+                authFailureTemplates.put(reason, new byte[][]{
+                    head.getBytes(StandardCharsets.UTF_8), "\"}".getBytes(StandardCharsets.UTF_8)});
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
     /**
      * 実行時の例外
      *
@@ -52,6 +82,18 @@ public class GlobalControllerAdvice {
         return new ResponseEntity<>(body, HttpStatus.BAD_REQUEST);
     }
 
+    /**
+     * リクエスト内容の不正(入力値以外)
+     *
+     * @param ex {@link InvalidRequestException}
+     * @return {@link HttpStatus#BAD_REQUEST}
+     */
+    @ExceptionHandler(InvalidRequestException.class)
+    public ResponseEntity<Map<String, Object>> handleInvalidRequest(InvalidRequestException ex) {
+        Map<String, Object> body = createBody(HttpStatus.BAD_REQUEST, "Bad Request", ex.getMessage());
+        return new ResponseEntity<>(body, HttpStatus.BAD_REQUEST);
+    }
+
     /**
      * 権限の不正
      *
@@ -76,6 +118,41 @@ public class GlobalControllerAdvice {
         return new ResponseEntity<>(body, HttpStatus.UNAUTHORIZED);
     }
 
+    /**
+     * 想定内の認証失敗<br>
+     * 理由別に件数を記録し、事前生成した雛形に日時のみを埋め込んで応答する。
+     *
+     * @param ex {@link AuthFailureException}
+     * @return {@link HttpStatus#UNAUTHORIZED}
+     */
+    @ExceptionHandler(AuthFailureException.class)
+    public ResponseEntity<byte[]> handleAuthFailure(AuthFailureException ex) {
+        authMetrics.failure(ex.getReason());
+        byte[][] template = authFailureTemplates.get(ex.getReason());
+        byte[] timestamp = LocalDateTime.now().toString().getBytes(StandardCharsets.US_ASCII);
+        byte[] body = new byte[template[0].length + timestamp.length + template[1].length];
+        System.arraycopy(template[0], 0, body, 0, template[0].length);
+        System.arraycopy(timestamp, 0, body, template[0].length, timestamp.length);
+        System.arraycopy(template[1], 0, body, template[0].length + timestamp.length, template[1].length);
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    /**
+     * 流量制限の超過
+     *
+     * @param ex {@link RateLimitExceededException}
+     * @return {@link HttpStatus#TOO_MANY_REQUESTS}
+     */
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<Map<String, Object>> handleRateLimitExceeded(RateLimitExceededException ex) {
+        Map<String, Object> body = createBody(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(body);
+    }
+
     /**
      * HTTPメソッドの不正
      *
@@ -0,0 +1,21 @@
+package com.github.nonsugertea7821.iris.src.common.exception;
+
+/**
+ * 共通/リクエスト内容不正例外<br>
+ * 利用者の入力(未定義のデータセット・不正なCSV行・許可されていない列等)に起因する例外。
+ * {@link GlobalControllerAdvice} で {@code 400 Bad Request} に変換される。
+ *
+ * @author nonsugertea7821
+ * @version 0.1.0
+ * @since 2026/10/17
+ */
+public class InvalidRequestException extends RuntimeException {
+
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+
+    public InvalidRequestException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,31 @@
+package com.github.nonsugertea7821.iris.src.common.exception;
+
+/**
+ * 共通/流量制限超過例外<br>
+ * {@link GlobalControllerAdvice} で {@code 429 Too Many Requests} と {@code Retry-After} に変換される。
+ *
+ * @author nonsugertea7821
+ * @version 0.1.0
+ * @since 2026/10/17
+ */
+public class RateLimitExceededException extends RuntimeException {
+
+    /**
+     * 再試行可能になるまでの秒数
+     */
+    private final long retryAfterSeconds;
+
+    public RateLimitExceededException(String message, long retryAfterSeconds) {
+        super(message, null, false, false);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * 再試行可能になるまでの秒数
+     *
+     * @return 秒数(1以上)
+     */
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
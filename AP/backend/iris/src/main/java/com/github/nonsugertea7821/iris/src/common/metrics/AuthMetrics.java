@@ -0,0 +1,175 @@
+package com.github.nonsugertea7821.iris.src.common.metrics;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import com.github.nonsugertea7821.iris.src.common.exception.AuthFailureReason;
+import com.github.nonsugertea7821.iris.src.common.properties.MetricsProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 共通/認証処理メトリクス<br>
+ * 認証処理の段階別所要時間({@value #PIPELINE})、SQLキー別所要時間({@value #QUERY})、
+ * 事象別件数({@value #EVENTS})、認証失敗の理由別件数({@value #FAILURES})を記録する。所要時間は {@code common.metrics.auth-sample-rate} の割合でのみ計測し、
+ * 計測しない呼び出しでは時刻取得も行わない。
+ * <pre>
+ * long start = authMetrics.start();
+ * try { ... } finally { authMetrics.record(AuthMetrics.STAGE_FILTER, start); }
+ * </pre>
+ *
+ * @author nonsugertea7821
+ * @version 0.1.1
+ * @since 2026/10/17
+ */
+@Component
+public class AuthMetrics {
+
+    /**
+     * 段階別所要時間のメトリクス名(タグ stage)
+     */
+    public static final String PIPELINE = "auth.pipeline";
+
+    /**
+     * SQLキー別所要時間のメトリクス名(タグ key)
+     */
+    public static final String QUERY = "auth.query";
+
+    /**
+     * 事象別件数のメトリクス名(タグ event)
+     */
+    public static final String EVENTS = "auth.events";
+
+    /**
+     * 認証失敗の理由別件数のメトリクス名(タグ reason)
+     */
+    public static final String FAILURES = "auth.failures";
+
+    public static final String STAGE_FILTER = "filter";
+    public static final String STAGE_GENERATE_ACCESS_TOKEN = "jwt.generateAccessToken";
+    public static final String STAGE_GENERATE_REFRESH_TOKEN = "jwt.generateRefreshToken";
+    public static final String STAGE_PARSE_ACCESS_TOKEN = "jwt.parseAccessToken";
+    public static final String STAGE_PARSE_REFRESH_TOKEN = "jwt.parseRefreshToken";
+    /**
+     * ログイン時のHMAC照合<br>
+     * {@link com.github.nonsugertea7821.iris.src.common.utils.CipherUtil} は状態を持たない静的ユーティリティで、
+     * キャッシュキー・偽装応答の導出にも使用するため、計測はログイン処理の呼び出し側で行う。
+     */
+    public static final String STAGE_HMAC = "cipher.hmacSha256";
+
+    public static final String EVENT_NONCE_EXPIRED = "nonce.expired";
+    public static final String EVENT_NONCE_REJECTED = "nonce.rejected";
+
+    /**
+     * 計測対象外を表す開始時刻
+     */
+    private static final long NOT_SAMPLED = Long.MIN_VALUE;
+
+    private final MeterRegistry meterRegistry;
+    private final double sampleRate;
+    private final boolean percentileHistogram;
+
+    private final Map<String, Timer> stageTimers = new ConcurrentHashMap<>();
+    private final Map<String, Timer> queryTimers = new ConcurrentHashMap<>();
+    private final Map<String, Counter> eventCounters = new ConcurrentHashMap<>();
+    private final Map<AuthFailureReason, Counter> failureCounters = new EnumMap<>(AuthFailureReason.class);
+
+    public AuthMetrics(MeterRegistry meterRegistry, MetricsProperties metricsProperties) {
+        this.meterRegistry = meterRegistry;
+        this.sampleRate = metricsProperties.getAuthSampleRate();
+        this.percentileHistogram = metricsProperties.isAuthPercentileHistogram();
+        // 失敗理由は固定のため起動時に全て登録し、失敗時は加算のみとする
+        for (AuthFailureReason reason : AuthFailureReason.values()) {
+            failureCounters.put(reason, Counter.builder(FAILURES)
+                    .tag("reason", reason.tag())
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * 計測を開始する。
+     *
+     * @return 開始時刻(計測対象外の場合は {@link #record(String, long)} で無視される値)
+     */
+    public long start() {
+        if (sampleRate <= 0 || (sampleRate < 1 && ThreadLocalRandom.current().nextDouble() >= sampleRate)) {
+            return NOT_SAMPLED;
+        }
+        return System.nanoTime();
+    }
+
+    /**
+     * 段階別の所要時間を記録する。
+     *
+     * @param stage 段階名
+     * @param start {@link #start()} の戻り値
+     */
+    public void record(String stage, long start) {
+        if (start == NOT_SAMPLED) {
+            return;
+        }
+        long elapsed = System.nanoTime() - start;
+        stageTimers.computeIfAbsent(stage, s -> timer(PIPELINE, "stage", s))
+                .record(elapsed, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * SQLキー別の所要時間を記録する。
+     *
+     * @param key SQLキー
+     * @param start {@link #start()} の戻り値
+     */
+    public void recordQuery(String key, long start) {
+        if (start == NOT_SAMPLED) {
+            return;
+        }
+        long elapsed = System.nanoTime() - start;
+        queryTimers.computeIfAbsent(key, k -> timer(QUERY, "key", k))
+                .record(elapsed, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 事象の件数を加算する(標本化しない)。
+     *
+     * @param event 事象名
+     */
+    public void count(String event) {
+        eventCounters.computeIfAbsent(event, e -> Counter.builder(EVENTS)
+                .tag("event", e)
+                .register(meterRegistry))
+                .increment();
+    }
+
+    /**
+     * 認証失敗の件数を理由別に加算する(標本化しない)。
+     *
+     * @param reason 失敗理由
+     */
+    public void failure(AuthFailureReason reason) {
+        failureCounters.get(reason).increment();
+    }
+
+    /**
+     * 計測割合
+     *
+     * @return 0.0～1.0
+     */
+    public double getSampleRate() {
+        return sampleRate;
+    }
+
+    private Timer timer(String name, String tagKey, String tagValue) {
+        return Timer.builder(name)
+                .tag(tagKey, tagValue)
+                .publishPercentiles(0.5, 0.99)
+                .publishPercentileHistogram(percentileHistogram)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,69 @@
+package com.github.nonsugertea7821.iris.src.common.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 共通/認証処理内訳エンドポイント<br>
+ * {@code /actuator/authpipeline} で段階別・SQLキー別の所要時間(ミリ秒)と事象別件数を要約して返す。
+ * 公開するには {@code management.endpoints.web.exposure.include} に {@code authpipeline} を追加すること。
+ *
+ * @author nonsugertea7821
+ * @version 0.1.0
+ * @since 2026/10/17
+ */
+@Component
+@Endpoint(id = "authpipeline")
+@RequiredArgsConstructor
+public class AuthPipelineEndpoint {
+
+    private final MeterRegistry meterRegistry;
+    private final AuthMetrics authMetrics;
+
+    @ReadOperation
+    public Map<String, Object> summary() {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("sampleRate", authMetrics.getSampleRate());
+        summary.put("stages", timers(AuthMetrics.PIPELINE, "stage"));
+        summary.put("queries", timers(AuthMetrics.QUERY, "key"));
+        Map<String, Double> events = new TreeMap<>();
+        for (Counter counter : meterRegistry.find(AuthMetrics.EVENTS).counters()) {
+            events.put(counter.getId().getTag("event"), counter.count());
+        }
+        summary.put("events", events);
+        Gauge outstanding = meterRegistry.find(NonceStoreMetrics.OUTSTANDING).gauge();
+        summary.put("nonceOutstanding", outstanding != null ? outstanding.value() : null);
+        return summary;
+    }
+
+    private Map<String, Object> timers(String name, String tagKey) {
+        Map<String, Object> result = new TreeMap<>();
+        for (Timer timer : meterRegistry.find(name).timers()) {
+            HistogramSnapshot snapshot = timer.takeSnapshot();
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("sampled", snapshot.count());
+            stats.put("meanMs", snapshot.mean(TimeUnit.MILLISECONDS));
+            stats.put("maxMs", snapshot.max(TimeUnit.MILLISECONDS));
+            stats.put("totalMs", snapshot.total(TimeUnit.MILLISECONDS));
+            for (ValueAtPercentile percentile : snapshot.percentileValues()) {
+                stats.put("p" + Math.round(percentile.percentile() * 100) + "Ms", percentile.value(TimeUnit.MILLISECONDS));
+            }
+            result.put(timer.getId().getTag(tagKey), stats);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,38 @@
+package com.github.nonsugertea7821.iris.src.common.metrics;
+
+import org.springframework.stereotype.Component;
+
+import com.github.nonsugertea7821.iris.src.common.auth.model.NonceStore;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 共通/一時salt保管メトリクス<br>
+ * 保持中のnonce件数を {@value #OUTSTANDING} として公開する。
+ * 件数は参照時に取得する。jdbc実装は削除処理時に集計した値を返すため、参照時にDBを参照しない。
+ *
+ * @author nonsugertea7821
+ * @version 0.1.1
+ * @since 2026/10/17
+ */
+@Component
+@RequiredArgsConstructor
+public class NonceStoreMetrics implements MeterBinder {
+
+    /**
+     * 保持中nonce件数のメトリクス名
+     */
+    public static final String OUTSTANDING = "auth.nonce.outstanding";
+
+    private final NonceStore nonceStore;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder(OUTSTANDING, nonceStore, NonceStore::size)
+                .description("保持中の一時salt件数")
+                .register(registry);
+    }
+}
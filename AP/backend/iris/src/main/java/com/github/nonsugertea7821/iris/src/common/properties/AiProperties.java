@@ -0,0 +1,107 @@
+package com.github.nonsugertea7821.iris.src.common.properties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * 共通/AIゲートウェイプロパティ<br>
+ * モデル名は Spring AI の {@code ChatModel} / {@code EmbeddingModel} のBean名とする。
+ *
+ * @author nonsugertea7821
+ * @version 0.1.0
+ * @since 2026/10/17
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "common.ai")
+public class AiProperties {
+
+    /**
+     * AIゲートウェイの有効化
+     */
+    private boolean enabled = false;
+
+    /**
+     * モデル別設定のないモデルの同時呼び出し数上限
+     */
+    private int defaultMaxConcurrency = 4;
+
+    /**
+     * 同時呼び出し数上限に達した場合に空きを待つ最大時間
+     */
+    private Duration acquireTimeout = Duration.ofSeconds(30);
+
+    /**
+     * 埋め込みの1回の呼び出しにまとめる最大件数
+     */
+    private int embeddingBatchSize = 64;
+
+    /**
+     * 埋め込み要求をまとめるために待つ最大時間
+     */
+    private Duration embeddingBatchWindow = Duration.ofMillis(10);
+
+    /**
+     * 応答・埋め込みキャッシュ(メモリ)の最大件数
+     */
+    private long cacheMaximumSize = 10_000;
+
+    /**
+     * 応答・埋め込みキャッシュ(メモリ)の書き込み後の有効時間
+     */
+    private Duration cacheExpireAfterWrite = Duration.ofHours(1);
+
+    /**
+     * 応答・埋め込みの共有キャッシュ保管方式(none: 使用しない / jdbc: PostgreSQL)
+     */
+    private String cacheStoreType = "none";
+
+    /**
+     * 共有キャッシュの有効時間
+     */
+    private Duration cacheStoreExpireAfterWrite = Duration.ofDays(30);
+
+    /**
+     * 共有キャッシュの期限切れ削除間隔
+     */
+    private Duration cacheStorePurgeInterval = Duration.ofHours(1);
+
+    /**
+     * 共有キャッシュの期限切れ削除の1回あたりの削除件数
+     */
+    private int cacheStorePurgeBatchSize = 1_000;
+
+    /**
+     * モデル別設定 key:モデル名
+     */
+    private Map<String, Model> models = new LinkedHashMap<>();
+
+    /**
+     * 同時呼び出し数上限を取得する。
+     *
+     * @param model モデル名
+     * @return 同時呼び出し数上限
+     */
+    public int maxConcurrency(String model) {
+        Model spec = models.get(model);
+        return spec != null && spec.getMaxConcurrency() != null ? spec.getMaxConcurrency() : defaultMaxConcurrency;
+    }
+
+    /**
+     * モデル別設定
+     */
+    @Data
+    public static class Model {
+
+        /**
+         * 同時呼び出し数上限(未指定の場合 {@code default-max-concurrency})
+         */
+        private Integer maxConcurrency;
+    }
+}
@@ -0,0 +1,87 @@
+package com.github.nonsugertea7821.iris.src.common.properties;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * 共通/監査ログプロパティ
+ *
+ * @author nonsugertea7821
+ * @version 0.1.0
+ * @since 2026/10/17
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "security.audit")
+public class AuditProperties {
+
+    /**
+     * 監査ログの有効化({@code sql/auth/schema-audit.sql} の適用が必要)
+     */
+    private boolean enabled = false;
+
+    /**
+     * リングバッファの容量(2のべき乗に切り上げ)
+     */
+    private int bufferSize = 8_192;
+
+    /**
+     * 1回の挿入で書き込む最大件数
+     */
+    private int batchSize = 500;
+
+    /**
+     * バッファからDBへの書き出し間隔
+     */
+    private Duration flushInterval = Duration.ofMillis(200);
+
+    /**
+     * バッファ溢れ時の動作
+     */
+    private Overflow overflow = Overflow.DROP;
+
+    /**
+     * SAMPLE時に間引きを開始するバッファ使用率
+     */
+    private double sampleThreshold = 0.75;
+
+    /**
+     * SAMPLE時に間引き中も記録する割合
+     */
+    private double sampleRate = 0.1;
+
+    /**
+     * BLOCK時に空きを待つ最大時間(超過した場合は破棄)
+     */
+    private Duration blockTimeout = Duration.ofMillis(50);
+
+    /**
+     * 終了時に残りのイベントを書き出す最大時間
+     */
+    private Duration shutdownTimeout = Duration.ofSeconds(10);
+
+    /**
+     * バッファ溢れ時の動作
+     */
+    public enum Overflow {
+
+        /**
+         * 即時に破棄する
+         */
+        DROP,
+
+        /**
+         * 使用率が {@code sample-threshold} を超えたら {@code sample-rate} の割合に間引き、満杯時は破棄する
+         */
+        SAMPLE,
+
+        /**
+         * 空きを {@code block-timeout} まで待つ(イベントループ上では使用しないこと)
+         */
+        BLOCK
+    }
+}
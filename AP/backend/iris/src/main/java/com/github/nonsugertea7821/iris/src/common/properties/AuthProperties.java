@@ -1,5 +1,9 @@
 package com.github.nonsugertea7821.iris.src.common.properties;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
@@ -9,7 +13,7 @@ import lombok.Data;
  * 共通/認証プロパティ
  *
  * @author nonsugertea7821
- * @version 0.1.0
+ * @version 0.1.2
  * @since 2025/08/16
  */
 @Data
@@ -22,9 +26,33 @@ public class AuthProperties {
      */
     private long nonceExpireSeconds;
     /**
-     * Jwtトークンのシークレットキー
+     * 同時に保持するnonce(一時salt)の最大件数(到達後の新規チャレンジは拒否)
+     */
+    private long nonceMaxOutstanding = 100_000;
+    /**
+     * Jwtトークンのシークレットキー(鍵識別子の無いトークンの署名・検証に使用)
      */
     private String jwtSecret;
+    /**
+     * {@code jwt-secret} による検証を終了する日時(未指定の場合無期限)
+     */
+    private Instant jwtSecretRetireAt;
+    /**
+     * 存在しないユーザー名への偽装応答の導出鍵(必須、署名鍵の更新とは独立して固定すること)
+     */
+    private String decoySecret;
+    /**
+     * 署名鍵(鍵識別子付き)
+     */
+    private List<SigningKey> signingKeys = new ArrayList<>();
+    /**
+     * 署名鍵ファイルの場所({@link SigningKey} のJSON配列、例: {@code file:/etc/iris/signing-keys.json})
+     */
+    private String signingKeysLocation;
+    /**
+     * 署名鍵の再読み込み間隔
+     */
+    private long signingKeysReloadIntervalSeconds = 60;
     /**
      * アクセストークンの有効時間
      */
@@ -33,4 +61,75 @@ public class AuthProperties {
      * リフレッシュトークンの有効時間
      */
     private long refreshTokenExpireSeconds;
+    /**
+     * アクセストークンのクレームからユーザー情報を復元する(DB参照なし)
+     */
+    private boolean statelessPrincipal = true;
+    /**
+     * クレームのユーザー情報を信用する最大経過時間(0以下は有効期限まで)
+     */
+    private long principalMaxStalenessSeconds;
+    /**
+     * 検証済みトークンキャッシュの有効化
+     */
+    private boolean tokenCacheEnabled = true;
+    /**
+     * 検証済みトークンキャッシュの最大件数
+     */
+    private long tokenCacheMaxSize = 10_000;
+    /**
+     * nonce・失効トークンの保管方式(memory / jdbc)
+     */
+    private String storeType = "memory";
+    /**
+     * 期限切れnonce・失効トークンの削除間隔(jdbc)
+     */
+    private long storePurgeIntervalSeconds = 60;
+    /**
+     * 期限切れnonce・失効トークンの1回あたり削除件数(jdbc)
+     */
+    private int storePurgeBatchSize = 1_000;
+    /**
+     * 失効トークン判定のローカルキャッシュ最大件数(jdbc)
+     */
+    private long storeNearCacheMaxSize = 10_000;
+    /**
+     * 失効トークンフィルターの時間枠あたり想定件数
+     */
+    private long revocationFilterExpectedInsertions = 100_000;
+    /**
+     * 失効トークンフィルターの偽陽性率
+     */
+    private double revocationFilterFalsePositiveRate = 0.01;
+    /**
+     * 失効トークンフィルターへの他ノード失効情報の取り込み間隔
+     */
+    private long revocationFilterSyncIntervalSeconds = 30;
+
+    /**
+     * 署名鍵
+     */
+    @Data
+    public static class SigningKey {
+
+        /**
+         * 鍵識別子(JWTの {@code kid} ヘッダー)
+         */
+        private String kid;
+
+        /**
+         * シークレットキー(32バイト以上)
+         */
+        private String secret;
+
+        /**
+         * 署名への使用を開始する日時(未指定の場合即時、検証は開始前から受け付ける)
+         */
+        private Instant activateAt;
+
+        /**
+         * 検証を終了する日時(未指定の場合無期限)
+         */
+        private Instant retireAt;
+    }
 }
@@ -0,0 +1,65 @@
+package com.github.nonsugertea7821.iris.src.common.properties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * 共通/キャッシュプロパティ
+ *
+ * @author nonsugertea7821
+ * @version 0.1.0
+ * @since 2026/10/17
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "common.cache")
+public class CacheProperties {
+
+    /**
+     * 個別設定のないキャッシュに適用する既定値
+     */
+    private Spec defaults = new Spec();
+
+    /**
+     * キャッシュ別設定 key:キャッシュ名
+     */
+    private Map<String, Spec> specs = new LinkedHashMap<>();
+
+    /**
+     * キャッシュ設定
+     */
+    @Data
+    public static class Spec {
+
+        /**
+         * 最大件数
+         */
+        private long maximumSize = 1_000;
+
+        /**
+         * 書き込み後の有効時間
+         */
+        private Duration expireAfterWrite = Duration.ofMinutes(10);
+
+        /**
+         * 最終アクセス後の有効時間
+         */
+        private Duration expireAfterAccess;
+
+        /**
+         * 書き込み後の再読み込み間隔(loaderの指定が必要)
+         */
+        private Duration refreshAfterWrite;
+
+        /**
+         * 再読み込みに使用する {@link com.github.benmanes.caffeine.cache.CacheLoader} のBean名
+         */
+        private String loader;
+    }
+}
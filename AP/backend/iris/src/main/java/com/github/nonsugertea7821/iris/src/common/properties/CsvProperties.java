@@ -0,0 +1,36 @@
+package com.github.nonsugertea7821.iris.src.common.properties;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * 共通/CSV入出力プロパティ
+ *
+ * @author nonsugertea7821
+ * @version 0.1.1
+ * @since 2026/10/17
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "common.csv")
+public class CsvProperties {
+
+    /**
+     * 取込時の1バッチ(1トランザクション)あたりの行数
+     */
+    private int importBatchSize = 1_000;
+
+    /**
+     * 取込進捗を保持する時間
+     */
+    private Duration importProgressRetention = Duration.ofHours(1);
+
+    /**
+     * 出力時に1回のDB往復で取得する行数(カーソルのフェッチサイズ)
+     */
+    private int exportFetchSize = 1_000;
+}
@@ -0,0 +1,98 @@
+package com.github.nonsugertea7821.iris.src.common.properties;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * 共通/データセットプロパティ<br>
+ * CSV取込・出力・一覧照会で扱うテーブルと行DTO({@code @Column} 付与)の対応を定義する。
+ * <pre>
+ * common.dataset.definitions.items.table=master.items
+ * common.dataset.definitions.items.row-type=com.example.ItemRow
+ * common.dataset.definitions.items.importable=true
+ * </pre>
+ *
+ * @author nonsugertea7821
+ * @version 0.1.3
+ * @since 2026/10/17
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "common.dataset")
+public class DatasetProperties {
+
+    /**
+     * データセット定義 key:データセット名
+     */
+    private Map<String, Definition> definitions = new LinkedHashMap<>();
+
+    /**
+     * 一覧照会の既定ページサイズ(最大ページサイズを超える指定は最大ページサイズとする)
+     */
+    private int defaultPageSize = 100;
+
+    /**
+     * 一覧照会の最大ページサイズ
+     */
+    private int maxPageSize = 500;
+
+    /**
+     * 一覧照会の既定ページサイズを返す。
+     *
+     * @return 既定ページサイズ(最大ページサイズ以下)
+     */
+    public int getDefaultPageSize() {
+        return Math.min(defaultPageSize, maxPageSize);
+    }
+
+    /**
+     * データセット定義
+     */
+    @Data
+    public static class Definition {
+
+        /**
+         * テーブル名(スキーマ修飾可)
+         */
+        private String table;
+
+        /**
+         * 行DTOのクラス
+         */
+        private Class<?> rowType;
+
+        /**
+         * CSV取込の許可
+         */
+        private boolean importable = false;
+
+        /**
+         * CSV出力の許可
+         */
+        private boolean exportable = false;
+
+        /**
+         * 一覧照会の行を一意に識別する列(物理名、キーセットページングの最終順序に使用)<br>
+         * 未指定のデータセットは一覧照会できない。
+         */
+        private List<String> keyColumns = new ArrayList<>();
+
+        /**
+         * 一覧照会で並べ替えを許可する列(物理名)<br>
+         * NULLを含み得る列は昇順で末尾、降順で先頭に並べる。
+         */
+        private List<String> sortable = new ArrayList<>();
+
+        /**
+         * 一覧照会で絞り込みを許可する列(物理名)
+         */
+        private List<String> filterable = new ArrayList<>();
+    }
+}
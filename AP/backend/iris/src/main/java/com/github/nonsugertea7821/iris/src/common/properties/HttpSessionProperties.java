@@ -0,0 +1,36 @@
+package com.github.nonsugertea7821.iris.src.common.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * 共通/HTTPセッションプロパティ<br>
+ * {@code /api/**} はJWTによるステートレス構成のためセッションを使用しない。
+ * セッションを使用する画面等を追加する場合のみ {@code store-type=jdbc} とする。
+ *
+ * @author nonsugertea7821
+ * @version 0.1.0
+ * @since 2026/10/17
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "common.session")
+public class HttpSessionProperties {
+
+    /**
+     * セッションの保管方式(none: 使用しない / jdbc: PostgreSQL)
+     */
+    private String storeType = "none";
+
+    /**
+     * 期限切れセッション削除のcron式
+     */
+    private String cleanupCron = "0 * * * * *";
+
+    /**
+     * 期限切れセッション削除の1回あたりの削除件数
+     */
+    private int cleanupBatchSize = 1_000;
+}
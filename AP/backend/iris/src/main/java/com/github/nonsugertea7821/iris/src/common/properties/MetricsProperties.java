@@ -0,0 +1,29 @@
+package com.github.nonsugertea7821.iris.src.common.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * 共通/メトリクスプロパティ
+ *
+ * @author nonsugertea7821
+ * @version 0.1.0
+ * @since 2026/10/17
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "common.metrics")
+public class MetricsProperties {
+
+    /**
+     * 認証処理の所要時間を計測する割合(0.0～1.0)
+     */
+    private double authSampleRate = 0.1;
+
+    /**
+     * 認証処理の所要時間をパーセンタイルヒストグラムとして公開する(Prometheus等で集計する場合)
+     */
+    private boolean authPercentileHistogram = false;
+}
@@ -0,0 +1,34 @@
+package com.github.nonsugertea7821.iris.src.common.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * 共通/SQLクエリプロパティ
+ *
+ * @author nonsugertea7821
+ * @version 0.1.0
+ * @since 2026/10/17
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "common.query")
+public class QueryProperties {
+
+    /**
+     * SQL定義ファイルの検索パターン
+     */
+    private String locationPattern = "classpath*:sql/**/*.properties";
+
+    /**
+     * 開発時のホットリロード有効化
+     */
+    private boolean hotReload = false;
+
+    /**
+     * ホットリロードの確認間隔
+     */
+    private long hotReloadIntervalSeconds = 5;
+}
@@ -0,0 +1,81 @@
+package com.github.nonsugertea7821.iris.src.common.properties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * 共通/流量制限プロパティ
+ *
+ * @author nonsugertea7821
+ * @version 0.1.1
+ * @since 2026/10/17
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "security.rate-limit")
+public class RateLimitProperties {
+
+    /**
+     * 流量制限の有効化
+     */
+    private boolean enabled = true;
+
+    /**
+     * 同時に保持するバケットの最大件数(超過分はアクセスの古いものから破棄)
+     */
+    private long maxBuckets = 100_000;
+
+    /**
+     * エンドポイント別設定 key:エンドポイント名(login, get-challenge 等)
+     */
+    private Map<String, Limit> endpoints = new LinkedHashMap<>(Map.of(
+            "get-userId", new Limit(20, Duration.ofSeconds(1), 0, null),
+            "get-challenge", new Limit(10, Duration.ofSeconds(2), 5, Duration.ofSeconds(10)),
+            "challenge", new Limit(10, Duration.ofSeconds(2), 5, Duration.ofSeconds(10)),
+            "login", new Limit(10, Duration.ofSeconds(2), 5, Duration.ofSeconds(10))));
+
+    /**
+     * エンドポイント別の制限値<br>
+     * クライアントIP単位とユーザー単位のトークンバケットをそれぞれ独立に適用する。
+     * 0以下の容量は制限なしとみなす。
+     */
+    @Data
+    public static class Limit {
+
+        /**
+         * クライアントIP単位のバケット容量(連続許容回数)
+         */
+        private int ipCapacity;
+
+        /**
+         * クライアントIP単位のトークン補充間隔(1トークンあたり)
+         */
+        private Duration ipRefillInterval;
+
+        /**
+         * ユーザー単位のバケット容量(連続許容回数)
+         */
+        private int userCapacity;
+
+        /**
+         * ユーザー単位のトークン補充間隔(1トークンあたり)
+         */
+        private Duration userRefillInterval;
+
+        public Limit() {
+        }
+
+        public Limit(int ipCapacity, Duration ipRefillInterval, int userCapacity, Duration userRefillInterval) {
+            this.ipCapacity = ipCapacity;
+            this.ipRefillInterval = ipRefillInterval;
+            this.userCapacity = userCapacity;
+            this.userRefillInterval = userRefillInterval;
+        }
+    }
+}
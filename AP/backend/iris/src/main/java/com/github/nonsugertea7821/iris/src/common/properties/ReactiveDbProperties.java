@@ -0,0 +1,45 @@
+package com.github.nonsugertea7821.iris.src.common.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * 共通/リアクティブDB接続プロパティ<br>
+ * {@code spring.main.web-application-type=reactive} の場合のみ使用する。
+ *
+ * @author nonsugertea7821
+ * @version 0.1.0
+ * @since 2026/10/17
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "common.r2dbc")
+public class ReactiveDbProperties {
+
+    /**
+     * R2DBC接続URL(例: r2dbc:postgresql://localhost:5432/iris)
+     */
+    private String url;
+
+    /**
+     * 接続ユーザー
+     */
+    private String username;
+
+    /**
+     * 接続パスワード
+     */
+    private String password;
+
+    /**
+     * 接続プールの初期接続数
+     */
+    private int initialSize = 5;
+
+    /**
+     * 接続プールの最大接続数
+     */
+    private int maxSize = 20;
+}
@@ -0,0 +1,137 @@
+package com.github.nonsugertea7821.iris.src.common.ratelimit;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import com.github.nonsugertea7821.iris.src.common.exception.RateLimitExceededException;
+import com.github.nonsugertea7821.iris.src.common.properties.RateLimitProperties;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 共通/流量制限機能<br>
+ * エンドポイント毎にクライアントIP単位・ユーザー単位のトークンバケットを適用し、
+ * 超過したリクエストをサービス層に到達する前に {@link RateLimitExceededException} で拒否する。
+ * <p>
+ * バケットはCaffeineのMap(ハッシュ分割された並行Map)に保持し、件数上限を超えた場合はアクセスの古いものから、
+ * 一定時間アクセスのない(満タンに戻った)ものは個別の期限で破棄するため、攻撃元のIP数に依らずメモリ使用量は上限内に収まる。
+ * リバースプロキシ配下では {@code server.forward-headers-strategy} を設定し、クライアントIPを解決すること。
+ *
+ * @author nonsugertea7821
+ * @version 0.1.0
+ * @since 2026/10/17
+ */
+@Component
+@RequiredArgsConstructor
+public class RateLimiter {
+
+    private final RateLimitProperties rateLimitProperties;
+    private final Scheduler scheduler;
+
+    /**
+     * バケット保管Map key:エンドポイント名/種別/識別子 value:バケット
+     */
+    private ConcurrentMap<String, TokenBucket> buckets;
+
+    /**
+     * エンドポイント別の制限値(起動時に解決)
+     */
+    private Map<String, Rule> rules;
+
+    @PostConstruct
+    public void init() {
+        Map<String, Rule> resolved = new HashMap<>();
+        rateLimitProperties.getEndpoints().forEach((endpoint, limit) -> resolved.put(endpoint, Rule.of(limit)));
+        this.rules = Map.copyOf(resolved);
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(rateLimitProperties.getMaxBuckets())
+                .expireAfter(new Expiry<String, TokenBucket>() {
+                    @Override
+                    public long expireAfterCreate(String key, TokenBucket value, long currentTime) {
+                        return value.refillNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, TokenBucket value, long currentTime, long currentDuration) {
+                        return value.refillNanos();
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, TokenBucket value, long currentTime, long currentDuration) {
+                        return value.refillNanos();
+                    }
+                })
+                .scheduler(scheduler)
+                .build()
+                .asMap();
+    }
+
+    /**
+     * リクエストの流量を確認し、トークンを1つ消費する。
+     *
+     * @param endpoint エンドポイント名
+     * @param clientIp クライアントIP
+     * @param subject ユーザー識別子等(不明な場合null)
+     * @throws RateLimitExceededException 制限を超過した場合
+     */
+    public void acquire(String endpoint, String clientIp, Object subject) {
+        if (!rateLimitProperties.isEnabled()) {
+            return;
+        }
+        Rule rule = rules.get(endpoint);
+        if (rule == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        long wait = 0;
+        if (rule.ipCapacity() > 0 && clientIp != null) {
+            wait = acquire(endpoint + "/ip/" + clientIp, rule.ipCapacity(), rule.ipIntervalNanos(), now);
+        }
+        if (wait == 0 && rule.userCapacity() > 0 && subject != null) {
+            wait = acquire(endpoint + "/user/" + subject, rule.userCapacity(), rule.userIntervalNanos(), now);
+        }
+        if (wait > 0) {
+            long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(wait + TimeUnit.SECONDS.toNanos(1) - 1));
+            throw new RateLimitExceededException("リクエストが多すぎます", retryAfterSeconds);
+        }
+    }
+
+    /**
+     * 保持中のバケット件数(概算)
+     *
+     * @return 件数
+     */
+    public long size() {
+        return buckets.size();
+    }
+
+    private long acquire(String key, int capacity, long intervalNanos, long now) {
+        TokenBucket bucket = buckets.computeIfAbsent(key, k -> new TokenBucket(capacity, intervalNanos, now));
+        return bucket.tryAcquire(now);
+    }
+
+    /**
+     * 解決済みの制限値
+     */
+    private record Rule(int ipCapacity, long ipIntervalNanos, int userCapacity, long userIntervalNanos) {
+
+        private static Rule of(RateLimitProperties.Limit limit) {
+            return new Rule(
+                    limit.getIpCapacity(), nanos(limit.getIpRefillInterval()),
+                    limit.getUserCapacity(), nanos(limit.getUserRefillInterval()));
+        }
+
+        private static long nanos(Duration duration) {
+            return duration != null ? Math.max(1, duration.toNanos()) : TimeUnit.SECONDS.toNanos(1);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.github.nonsugertea7821.iris.src.common.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 共通/トークンバケット<br>
+ * 残量を「理論到着時刻」(GCRA) 1つの {@code long} で表し、取得はCAS1回で完結する。
+ * ロック・定期補充処理は不要で、補充は取得時に経過時間から算出する。
+ *
+ * @author nonsugertea7821
+ * @version 0.1.0
+ * @since 2026/10/17
+ */
+final class TokenBucket {
+
+    /**
+     * 1トークンあたりの補充間隔(ナノ秒)
+     */
+    private final long intervalNanos;
+
+    /**
+     * 連続許容量(ナノ秒換算)
+     */
+    private final long burstNanos;
+
+    /**
+     * 理論到着時刻(ナノ秒、{@link System#nanoTime()} 基準)
+     */
+    private final AtomicLong theoreticalArrival;
+
+    TokenBucket(int capacity, long intervalNanos, long now) {
+        this.intervalNanos = intervalNanos;
+        this.burstNanos = intervalNanos * (capacity - 1L);
+        this.theoreticalArrival = new AtomicLong(now);
+    }
+
+    /**
+     * トークンを1つ取得する。
+     *
+     * @param now 現在時刻(ナノ秒)
+     * @return 取得できた場合0、できなかった場合は再取得可能になるまでのナノ秒
+     */
+    long tryAcquire(long now) {
+        while (true) {
+            long tat = theoreticalArrival.get();
+            long start = Math.max(tat, now);
+            long wait = start - burstNanos - now;
+            if (wait > 0) {
+                return wait;
+            }
+            if (theoreticalArrival.compareAndSet(tat, start + intervalNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * 空のバケットが満タンに戻るまでの時間(ナノ秒)<br>
+     * 最終取得からこの時間を過ぎたバケットは新規作成したものと同等のため破棄してよい。
+     *
+     * @return ナノ秒
+     */
+    long refillNanos() {
+        return burstNanos + intervalNanos;
+    }
+}
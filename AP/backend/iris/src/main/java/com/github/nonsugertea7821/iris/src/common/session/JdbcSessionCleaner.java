@@ -0,0 +1,52 @@
+package com.github.nonsugertea7821.iris.src.common.session;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+
+import com.github.nonsugertea7821.iris.src.common.properties.HttpSessionProperties;
+import com.github.nonsugertea7821.iris.src.common.sql.QueryRegistry;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 共通/期限切れセッション削除機能(PostgreSQL実装)<br>
+ * Spring Session JDBCの既定の削除は期限切れ行を1文で全件削除するため、
+ * 滞留が多い場合にロック保持時間が長くなる。1回あたりの削除件数を制限して繰り返し削除する。
+ * 属性テーブルは外部キーのカスケードで併せて削除される。
+ *
+ * @author nonsugertea7821
+ * @version 0.1.0
+ * @since 2026/10/17
+ */
+@Repository
+@ConditionalOnProperty(prefix = "common.session", name = "store-type", havingValue = "jdbc")
+@RequiredArgsConstructor
+public class JdbcSessionCleaner {
+
+    private static final String SQL_SESSION_D001 = "session.query.purgeSessions";
+
+    private static final String SESSIONS_PARAM_NOW = "now";
+    private static final String SESSIONS_PARAM_LIMIT = "limit";
+
+    private final JdbcClient jdbcClient;
+    private final QueryRegistry queryRegistry;
+    private final HttpSessionProperties httpSessionProperties;
+
+    /**
+     * 期限切れセッションの削除
+     */
+    @Scheduled(cron = "${common.session.cleanup-cron:0 * * * * *}")
+    public void purgeExpired() {
+        int limit = httpSessionProperties.getCleanupBatchSize();
+        long now = System.currentTimeMillis();
+        int deleted;
+        do {
+            deleted = jdbcClient.sql(queryRegistry.get(SQL_SESSION_D001))
+                    .param(SESSIONS_PARAM_NOW, now)
+                    .param(SESSIONS_PARAM_LIMIT, limit)
+                    .update();
+        } while (deleted >= limit);
+    }
+}
@@ -0,0 +1,45 @@
+package com.github.nonsugertea7821.iris.src.common.session;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.session.SessionAutoConfiguration;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+/**
+ * 共通/HTTPセッション保管方式の適用<br>
+ * Spring Session JDBCは依存関係があるだけで自動構成され、全リクエストをセッションストア経由とする。
+ * {@code common.session.store-type} が {@code jdbc} 以外の場合は {@link SessionAutoConfiguration} を除外し、
+ * セッションストア・既定の期限切れ削除ともに無効とする。
+ * 既存の {@code spring.autoconfigure.exclude} の指定は維持する。
+ *
+ * @author nonsugertea7821
+ * @version 0.1.0
+ * @since 2026/10/17
+ */
+public class SessionStoreEnvironmentPostProcessor implements EnvironmentPostProcessor {
+
+    private static final String STORE_TYPE = "common.session.store-type";
+    private static final String STORE_TYPE_JDBC = "jdbc";
+    private static final String EXCLUDE = "spring.autoconfigure.exclude";
+    private static final String PROPERTY_SOURCE_NAME = "commonSessionStoreType";
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        if (STORE_TYPE_JDBC.equals(environment.getProperty(STORE_TYPE, "none"))) {
+            return;
+        }
+        List<String> excludes = new ArrayList<>(Binder.get(environment)
+                .bind(EXCLUDE, Bindable.listOf(String.class))
+                .orElse(List.of()));
+        excludes.add(SessionAutoConfiguration.class.getName());
+        environment.getPropertySources()
+                .addFirst(new MapPropertySource(PROPERTY_SOURCE_NAME, Map.of(EXCLUDE, String.join(",", excludes))));
+    }
+}
@@ -0,0 +1,405 @@
+package com.github.nonsugertea7821.iris.src.common.sql;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.RowMapper;
+
+import com.github.nonsugertea7821.iris.src.common.anotations.Column;
+
+/**
+ * 共通/列マッピング<br>
+ * {@link Column} を付与したフィールドを持つDTOについて、列とフィールドの対応・型変換・生成方法を
+ * クラス毎に1回だけ解決して保持する。行毎のリフレクションは行わず、{@link MethodHandle} で生成・参照する。
+ * <p>
+ * 生成方法は以下の順に選択する。
+ * <ol>
+ * <li>{@code @Column} フィールドと同名・同型の引数を持つコンストラクター(Lombok {@code @RequiredArgsConstructor} 等)</li>
+ * <li>引数なしコンストラクター + フィールドへの直接代入(final以外)</li>
+ * </ol>
+ *
+ * @author nonsugertea7821
+ * @version 0.1.0
+ * @since 2026/10/17
+ * @param <T> DTO型
+ */
+public final class ColumnMapping<T> {
+
+    /**
+     * クラス別マッピングキャッシュ
+     */
+    private static final ClassValue<ColumnMapping<?>> CACHE = new ClassValue<>() {
+        @Override
+        protected ColumnMapping<?> computeValue(Class<?> type) {
+            return new ColumnMapping<>(type);
+        }
+    };
+
+    /**
+     * 引数の並べ替え(コンストラクター生成用)
+     */
+    private static final MethodHandle REORDER;
+
+    /**
+     * 生成後のフィールド代入(引数なしコンストラクター用)
+     */
+    private static final MethodHandle POPULATE;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            REORDER = lookup.findStatic(ColumnMapping.class, "reorder",
+                    MethodType.methodType(Object[].class, Object[].class, int[].class));
+            POPULATE = lookup.findStatic(ColumnMapping.class, "populate",
+                    MethodType.methodType(Object.class, MethodHandle.class, MethodHandle[].class, Object[].class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final Class<T> type;
+    private final List<Property> properties;
+
+    /**
+     * 生成ハンドル(引数: Object[] 列値、プロパティ順)
+     */
+    private final MethodHandle factory;
+
+    /**
+     * クラスに対応するマッピングを返す。
+     *
+     * @param <T> DTO型
+     * @param type DTOクラス
+     * @return マッピング
+     * @throws IllegalArgumentException {@code @Column} フィールドがない、または生成方法が解決できない場合
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> ColumnMapping<T> of(Class<T> type) {
+        return (ColumnMapping<T>) CACHE.get(type);
+    }
+
+    private ColumnMapping(Class<T> type) {
+        this.type = type;
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+            List<Field> fields = new ArrayList<>();
+            for (Field field : type.getDeclaredFields()) {
+                if (field.isAnnotationPresent(Column.class) && !Modifier.isStatic(field.getModifiers())) {
+                    fields.add(field);
+                }
+            }
+            if (fields.isEmpty()) {
+                throw new IllegalArgumentException("@Columnが付与されたフィールドがありません: " + type.getName());
+            }
+            List<Property> resolved = new ArrayList<>(fields.size());
+            for (int i = 0; i < fields.size(); i++) {
+                Field field = fields.get(i);
+                Column column = field.getAnnotation(Column.class);
+                resolved.add(new Property(i, field.getName(), column.phy(), column.ja(), field.getType(),
+                        ColumnReader.of(field.getType()),
+                        lookup.unreflectGetter(field).asType(MethodType.methodType(Object.class, Object.class))));
+            }
+            this.properties = List.copyOf(resolved);
+            this.factory = resolveFactory(lookup, fields);
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException("DTOにアクセスできません: " + type.getName(), e);
+        }
+    }
+
+    /**
+     * DTOクラス
+     *
+     * @return クラス
+     */
+    public Class<T> type() {
+        return type;
+    }
+
+    /**
+     * {@code @Column} を付与したプロパティ(フィールド宣言順)
+     *
+     * @return プロパティ
+     */
+    public List<Property> properties() {
+        return properties;
+    }
+
+    /**
+     * 物理名に対応するプロパティを返す(大文字小文字を区別しない)。
+     *
+     * @param phy 物理名
+     * @return プロパティ(存在しない場合null)
+     */
+    public Property byPhy(String phy) {
+        for (Property property : properties) {
+            if (property.phy().equalsIgnoreCase(phy)) {
+                return property;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 和名に対応するプロパティを返す。
+     *
+     * @param ja 和名
+     * @return プロパティ(存在しない場合null)
+     */
+    public Property byJa(String ja) {
+        for (Property property : properties) {
+            if (property.ja().equals(ja)) {
+                return property;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 列値からDTOを生成する。
+     *
+     * @param values 列値(プロパティ順、{@link #properties()} と同じ長さ)
+     * @return DTO
+     */
+    public T newInstance(Object[] values) {
+        try {
+            return type.cast(factory.invokeExact(values));
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("DTOの生成に失敗しました: " + type.getName(), e);
+        }
+    }
+
+    /**
+     * DTOを生成する {@link RowMapper} を返す。<br>
+     * 列位置は結果セット毎に最初の行で1回だけ解決するため、返却値はクエリ毎に取得すること。
+     *
+     * @return 行マッパー
+     */
+    public RowMapper<T> rowMapper() {
+        return new ColumnRowMapper<>(this);
+    }
+
+    private MethodHandle resolveFactory(MethodHandles.Lookup lookup, List<Field> fields) throws IllegalAccessException {
+        Constructor<?> noArgs = null;
+        for (Constructor<?> constructor : type.getDeclaredConstructors()) {
+            int[] order = argumentOrder(constructor, fields);
+            if (order != null) {
+                // 引数順に並べ替えてからコンストラクターへ展開する
+                MethodHandle handle = lookup.unreflectConstructor(constructor);
+                handle = handle.asType(handle.type().changeReturnType(Object.class))
+                        .asSpreader(Object[].class, fields.size());
+                if (isIdentity(order)) {
+                    return handle;
+                }
+                return MethodHandles.filterArguments(handle, 0, MethodHandles.insertArguments(REORDER, 1, (Object) order));
+            }
+            if (constructor.getParameterCount() == 0) {
+                noArgs = constructor;
+            }
+        }
+        if (noArgs == null) {
+            throw new IllegalArgumentException("DTOの生成方法を解決できません: " + type.getName());
+        }
+        MethodHandle[] setters = new MethodHandle[fields.size()];
+        for (int i = 0; i < fields.size(); i++) {
+            Field field = fields.get(i);
+            if (Modifier.isFinal(field.getModifiers())) {
+                throw new IllegalArgumentException("finalフィールドに対応するコンストラクターがありません: "
+                        + type.getName() + "." + field.getName());
+            }
+            setters[i] = lookup.unreflectSetter(field)
+                    .asType(MethodType.methodType(void.class, Object.class, Object.class));
+        }
+        MethodHandle constructor = lookup.unreflectConstructor(noArgs)
+                .asType(MethodType.methodType(Object.class));
+        return MethodHandles.insertArguments(POPULATE, 0, constructor, setters);
+    }
+
+    /**
+     * コンストラクター引数と {@code @Column} フィールドの対応を返す。
+     *
+     * @return 引数位置毎のプロパティ位置(対応しない場合null)
+     */
+    private static int[] argumentOrder(Constructor<?> constructor, List<Field> fields) {
+        Parameter[] parameters = constructor.getParameters();
+        if (parameters.length != fields.size()) {
+            return null;
+        }
+        int[] order = new int[parameters.length];
+        boolean named = Arrays.stream(parameters).allMatch(Parameter::isNamePresent);
+        for (int i = 0; i < parameters.length; i++) {
+            int index = -1;
+            if (named) {
+                for (int j = 0; j < fields.size(); j++) {
+                    if (fields.get(j).getName().equals(parameters[i].getName())) {
+                        index = j;
+                        break;
+                    }
+                }
+            } else {
+                index = i;
+            }
+            if (index < 0 || !parameters[i].getType().equals(fields.get(index).getType())) {
+                return null;
+            }
+            order[i] = index;
+        }
+        return order;
+    }
+
+    private static boolean isIdentity(int[] order) {
+        for (int i = 0; i < order.length; i++) {
+            if (order[i] != i) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @SuppressWarnings("unused")
+    private static Object[] reorder(Object[] values, int[] order) {
+        Object[] arguments = new Object[order.length];
+        for (int i = 0; i < order.length; i++) {
+            arguments[i] = values[order[i]];
+        }
+        return arguments;
+    }
+
+    @SuppressWarnings("unused")
+    private static Object populate(MethodHandle constructor, MethodHandle[] setters, Object[] values) throws Throwable {
+        Object instance = constructor.invokeExact();
+        for (int i = 0; i < setters.length; i++) {
+            if (values[i] != null) {
+                setters[i].invokeExact(instance, values[i]);
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * 列プロパティ
+     *
+     * @param index プロパティ位置
+     * @param name フィールド名
+     * @param phy 物理名
+     * @param ja 和名
+     * @param javaType フィールド型
+     * @param reader 結果セットからの読み取り方法
+     * @param getter 値の参照ハンドル(Object)Object
+     */
+    public record Property(int index, String name, String phy, String ja, Class<?> javaType,
+            ColumnReader reader, MethodHandle getter) {
+
+        /**
+         * DTOからプロパティ値を取得する。
+         *
+         * @param target DTO
+         * @return 値
+         */
+        public Object get(Object target) {
+            try {
+                return getter.invokeExact(target);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    /**
+     * 結果セットからの型別読み取り
+     */
+    @FunctionalInterface
+    public interface ColumnReader {
+
+        /**
+         * 列値を読み取る。
+         *
+         * @param rs 結果セット
+         * @param column 列位置(1始まり)
+         * @return 値(NULLの場合null、プリミティブ型の場合は既定値)
+         * @throws SQLException 読み取りに失敗した場合
+         */
+        Object read(ResultSet rs, int column) throws SQLException;
+
+        /**
+         * フィールド型に応じた読み取り方法を返す。
+         *
+         * @param type フィールド型
+         * @return 読み取り方法
+         */
+        static ColumnReader of(Class<?> type) {
+            if (type == String.class) {
+                return ResultSet::getString;
+            }
+            if (type == UUID.class) {
+                return (rs, column) -> {
+                    Object value = rs.getObject(column);
+                    return value == null || value instanceof UUID ? value : UUID.fromString(value.toString());
+                };
+            }
+            if (type == int.class) {
+                return ResultSet::getInt;
+            }
+            if (type == Integer.class) {
+                return (rs, column) -> {
+                    int value = rs.getInt(column);
+                    return rs.wasNull() ? null : value;
+                };
+            }
+            if (type == long.class) {
+                return ResultSet::getLong;
+            }
+            if (type == Long.class) {
+                return (rs, column) -> {
+                    long value = rs.getLong(column);
+                    return rs.wasNull() ? null : value;
+                };
+            }
+            if (type == boolean.class) {
+                return ResultSet::getBoolean;
+            }
+            if (type == Boolean.class) {
+                return (rs, column) -> {
+                    boolean value = rs.getBoolean(column);
+                    return rs.wasNull() ? null : value;
+                };
+            }
+            if (type == double.class) {
+                return ResultSet::getDouble;
+            }
+            if (type == Double.class) {
+                return (rs, column) -> {
+                    double value = rs.getDouble(column);
+                    return rs.wasNull() ? null : value;
+                };
+            }
+            if (type == BigDecimal.class) {
+                return ResultSet::getBigDecimal;
+            }
+            if (type == Instant.class) {
+                return (rs, column) -> {
+                    Timestamp value = rs.getTimestamp(column);
+                    return value == null ? null : value.toInstant();
+                };
+            }
+            return (rs, column) -> rs.getObject(column, type);
+        }
+    }
+}
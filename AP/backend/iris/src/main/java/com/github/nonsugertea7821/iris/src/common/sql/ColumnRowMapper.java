@@ -0,0 +1,77 @@
+package com.github.nonsugertea7821.iris.src.common.sql;
+
+import java.lang.reflect.Array;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.List;
+
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.lang.NonNull;
+
+/**
+ * 共通/列マッピング行マッパー<br>
+ * 最初の行で結果セットの列ラベルと {@link ColumnMapping} のプロパティを照合して列位置を確定し、
+ * 以降の行では列位置による読み取りとコンストラクター呼び出しのみを行う。
+ * 結果セットに存在しないプロパティはnull(プリミティブ型は既定値)とする。
+ *
+ * @author nonsugertea7821
+ * @version 0.1.0
+ * @since 2026/10/17
+ * @param <T> DTO型
+ */
+final class ColumnRowMapper<T> implements RowMapper<T> {
+
+    private final ColumnMapping<T> mapping;
+    private final List<ColumnMapping.Property> properties;
+
+    /**
+     * 結果セットに存在しないプロパティの値(プロパティ位置順)
+     */
+    private final Object[] defaults;
+
+    /**
+     * 結果セットとプロパティ位置の対応(列位置、存在しない場合0)
+     */
+    private int[] columns;
+
+    /**
+     * 列位置を解決した結果セット
+     */
+    private ResultSet resolvedFor;
+
+    ColumnRowMapper(ColumnMapping<T> mapping) {
+        this.mapping = mapping;
+        this.properties = mapping.properties();
+        this.defaults = new Object[properties.size()];
+        for (ColumnMapping.Property property : properties) {
+            if (property.javaType().isPrimitive()) {
+                defaults[property.index()] = Array.get(Array.newInstance(property.javaType(), 1), 0);
+            }
+        }
+    }
+
+    @Override
+    public T mapRow(@NonNull ResultSet rs, int rowNum) throws SQLException {
+        if (rs != resolvedFor) {
+            columns = resolve(rs.getMetaData());
+            resolvedFor = rs;
+        }
+        Object[] values = new Object[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            values[i] = columns[i] > 0 ? properties.get(i).reader().read(rs, columns[i]) : defaults[i];
+        }
+        return mapping.newInstance(values);
+    }
+
+    private int[] resolve(ResultSetMetaData metaData) throws SQLException {
+        int[] resolved = new int[properties.size()];
+        for (int column = 1; column <= metaData.getColumnCount(); column++) {
+            ColumnMapping.Property property = mapping.byPhy(metaData.getColumnLabel(column));
+            if (property != null && resolved[property.index()] == 0) {
+                resolved[property.index()] = column;
+            }
+        }
+        return resolved;
+    }
+}
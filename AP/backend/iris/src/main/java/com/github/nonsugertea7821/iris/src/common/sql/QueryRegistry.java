@@ -0,0 +1,187 @@
+package com.github.nonsugertea7821.iris.src.common.sql;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ScheduledFuture;
+
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.stereotype.Repository;
+
+import com.github.nonsugertea7821.iris.src.common.properties.QueryProperties;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 共通/SQLクエリレジストリ<br>
+ * 起動時に {@code sql/**}{@code /*.properties} を全て読み込み、不変Mapとして保持する。
+ * リクエスト処理中にファイルI/Oは発生しない。
+ *
+ * @author nonsugertea7821
+ * @version 0.1.1
+ * @since 2026/10/17
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QueryRegistry implements SmartInitializingSingleton {
+
+    /**
+     * リポジトリ上のSQLキー定数の接頭辞
+     */
+    private static final String SQL_KEY_FIELD_PREFIX = "SQL_";
+
+    private final QueryProperties queryProperties;
+    private final ApplicationContext applicationContext;
+    private final TaskScheduler taskScheduler;
+
+    /**
+     * SQLクエリMap key:SQLキー value:SQL
+     */
+    private volatile Map<String, String> queries = Map.of();
+
+    /**
+     * ホットリロード用タスク
+     */
+    private ScheduledFuture<?> reloader;
+
+    @PostConstruct
+    public void init() {
+        this.queries = loadAll();
+        log.info("SQLクエリを{}件読み込みました", queries.size());
+        if (queryProperties.isHotReload()) {
+            Duration interval = Duration.ofSeconds(queryProperties.getHotReloadIntervalSeconds());
+            reloader = taskScheduler.scheduleWithFixedDelay(this::reload, Instant.now().plus(interval), interval);
+        }
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (reloader != null) {
+            reloader.cancel(false);
+        }
+    }
+
+    /**
+     * SQLキーに対応するSQLを返す。
+     *
+     * @param key SQLキー
+     * @return SQL
+     * @throws IllegalArgumentException 未定義のキーが指定された場合
+     */
+    public String get(String key) {
+        String sql = queries.get(key);
+        if (sql == null) {
+            throw new IllegalArgumentException("未定義のSQLキーです: " + key);
+        }
+        return sql;
+    }
+
+    /**
+     * SQLキーが定義済みかを返す。
+     *
+     * @param key SQLキー
+     * @return 定義済みの場合true
+     */
+    public boolean contains(String key) {
+        return queries.containsKey(key);
+    }
+
+    /**
+     * 起動時検証<br>
+     * 全リポジトリの {@code SQL_} で始まる文字列定数がレジストリに存在することを確認する。
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        List<String> missing = new ArrayList<>();
+        for (Object bean : applicationContext.getBeansWithAnnotation(Repository.class).values()) {
+            Class<?> type = AopUtils.getTargetClass(bean);
+            for (Field field : type.getDeclaredFields()) {
+                if (!isSqlKeyField(field)) {
+                    continue;
+                }
+                try {
+                    field.setAccessible(true);
+                    String key = (String) field.get(null);
+                    if (!queries.containsKey(key)) {
+                        missing.add(type.getSimpleName() + "." + field.getName() + "=" + key);
+                    }
+                } catch (IllegalAccessException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        }
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException("未定義のSQLキーが参照されています: " + missing);
+        }
+    }
+
+    /**
+     * ホットリロード処理<br>
+     * 読み込みに失敗した場合は現在の定義を維持する。
+     */
+    private void reload() {
+        try {
+            Map<String, String> loaded = loadAll();
+            if (!loaded.equals(queries)) {
+                queries = loaded;
+                log.info("SQLクエリを再読み込みしました({}件)", loaded.size());
+            }
+        } catch (RuntimeException e) {
+            log.warn("SQLクエリの再読み込みに失敗しました", e);
+        }
+    }
+
+    /**
+     * SQL定義ファイルを全て読み込む。
+     *
+     * @return 不変のSQLクエリMap
+     */
+    private Map<String, String> loadAll() {
+        var resolver = new PathMatchingResourcePatternResolver(getClass().getClassLoader());
+        Map<String, String> loaded = new HashMap<>();
+        try {
+            for (Resource resource : resolver.getResources(queryProperties.getLocationPattern())) {
+                Properties properties = new Properties();
+                try (InputStream inputStream = resource.getInputStream()) {
+                    properties.load(inputStream);
+                }
+                for (String key : properties.stringPropertyNames()) {
+                    String sql = properties.getProperty(key).strip();
+                    String previous = loaded.putIfAbsent(key, sql);
+                    if (previous != null && !previous.equals(sql)) {
+                        throw new IllegalStateException("SQLキーが重複しています: " + key + " (" + resource + ")");
+                    }
+                }
+            }
+        } catch (IOException ioEx) {
+            throw new IllegalStateException(ioEx);
+        }
+        return Map.copyOf(loaded);
+    }
+
+    private static boolean isSqlKeyField(Field field) {
+        int modifiers = field.getModifiers();
+        return Modifier.isStatic(modifiers)
+                && Modifier.isFinal(modifiers)
+                && field.getType() == String.class
+                && field.getName().startsWith(SQL_KEY_FIELD_PREFIX);
+    }
+}
@@ -1,7 +1,8 @@
 package com.github.nonsugertea7821.iris.src.common.utils;
 
-import java.io.UnsupportedEncodingException;
+import java.nio.charset.StandardCharsets;
 import java.security.InvalidKeyException;
+import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
 
@@ -12,27 +13,81 @@ import javax.crypto.spec.SecretKeySpec;
  * 共通/暗号化機能
  *
  * @author nonsugertea7821
- * @version 0.1.0
+ * @version 0.1.1
  * @since 2025/08/12
  */
 public interface CipherUtil {
 
+    /**
+     * HMAC-SHA256アルゴリズム名
+     */
+    String HMAC_SHA256 = "HmacSHA256";
+
     /**
      * saltに基づくHMAC-SHA256ハッシュ化処理。
      *
      * @param salt salt
      * @param target ハッシュ化対象文字列
-     * @return salt毎に一意に決定するハッシュ値
+     * @return salt毎に一意に決定するハッシュ値(Base64)
      */
     static String hmacSha256(String salt, String target) {
+        return Base64.getEncoder().encodeToString(hmacSha256Bytes(salt, target));
+    }
+
+    /**
+     * saltに基づくHMAC-SHA256ハッシュ化処理。(バイト列版)<br>
+     * Macインスタンスはプールから再利用する。
+     *
+     * @param salt salt
+     * @param target ハッシュ化対象文字列
+     * @return salt毎に一意に決定するハッシュ値
+     */
+    static byte[] hmacSha256Bytes(String salt, String target) {
+        Mac mac = MacPool.HMAC_SHA256.acquire();
+        try {
+            mac.init(new SecretKeySpec(salt.getBytes(StandardCharsets.UTF_8), HMAC_SHA256));
+            return mac.doFinal(target.getBytes(StandardCharsets.UTF_8));
+        } catch (InvalidKeyException e) {
+            throw new RuntimeException(e);
+        } finally {
+            MacPool.HMAC_SHA256.release(mac);
+        }
+    }
+
+    /**
+     * HMAC-SHA256ハッシュ値を定数時間で照合する。<br>
+     * 比較は復号したバイト列に対して {@link MessageDigest#isEqual(byte[], byte[])} で行い、
+     * 一致した先頭の長さから期待値を推測されないようにする。
+     *
+     * @param salt salt
+     * @param target ハッシュ化対象文字列
+     * @param expected 照合するハッシュ値(Base64)
+     * @return 一致する場合true(期待値がBase64でない場合false)
+     */
+    static boolean verifyHmacSha256(String salt, String target, String expected) {
+        if (expected == null) {
+            return false;
+        }
+        byte[] expectedBytes;
+        try {
+            expectedBytes = Base64.getDecoder().decode(expected);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        return MessageDigest.isEqual(hmacSha256Bytes(salt, target), expectedBytes);
+    }
+
+    /**
+     * SHA-256ダイジェスト処理。
+     *
+     * @param target ダイジェスト対象文字列
+     * @return ダイジェスト(Base64)
+     */
+    static String sha256(String target) {
         try {
-            Mac mac = Mac.getInstance("HmacSHA256");
-            SecretKeySpec secretKey = new SecretKeySpec(salt.getBytes("UTF-8"), "HmacSHA256");
-            mac.init(secretKey);
-            byte[] hmacBytes = mac.doFinal(target.getBytes("UTF-8"));
-            String hmacBase64 = Base64.getEncoder().encodeToString(hmacBytes);
-            return hmacBase64;
-        } catch (UnsupportedEncodingException | IllegalStateException | InvalidKeyException | NoSuchAlgorithmException e) {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(target.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
             throw new RuntimeException(e);
         }
     }
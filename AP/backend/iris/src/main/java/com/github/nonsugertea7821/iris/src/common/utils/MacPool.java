@@ -0,0 +1,68 @@
+package com.github.nonsugertea7821.iris.src.common.utils;
+
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.crypto.Mac;
+
+/**
+ * 共通/Macインスタンスプール<br>
+ * {@link Mac#getInstance(String)} のプロバイダー探索をリクエスト毎に行わないよう、生成済みインスタンスを再利用する。
+ * 仮想スレッドではスレッドローカルが再利用されないため、スレッドに依存しないプールとしている。
+ *
+ * @author nonsugertea7821
+ * @version 0.1.0
+ * @since 2026/10/17
+ */
+final class MacPool {
+
+    /**
+     * プールに保持する最大インスタンス数
+     */
+    private static final int MAX_IDLE = 64;
+
+    /**
+     * HMAC-SHA256用プール
+     */
+    static final MacPool HMAC_SHA256 = new MacPool(CipherUtil.HMAC_SHA256);
+
+    private final String algorithm;
+    private final ConcurrentLinkedQueue<Mac> idle = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger idleCount = new AtomicInteger();
+
+    MacPool(String algorithm) {
+        this.algorithm = algorithm;
+    }
+
+    /**
+     * Macインスタンスを借り受ける。使用後は {@link #release(Mac)} で返却すること。
+     *
+     * @return 未初期化またはリセット済みのMac
+     */
+    Mac acquire() {
+        Mac mac = idle.poll();
+        if (mac != null) {
+            idleCount.decrementAndGet();
+            return mac;
+        }
+        try {
+            return Mac.getInstance(algorithm);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Macインスタンスを返却する。上限を超える場合は破棄する。
+     *
+     * @param mac 借り受けたMac
+     */
+    void release(Mac mac) {
+        if (idleCount.incrementAndGet() <= MAX_IDLE) {
+            idle.offer(mac);
+        } else {
+            idleCount.decrementAndGet();
+        }
+    }
+}
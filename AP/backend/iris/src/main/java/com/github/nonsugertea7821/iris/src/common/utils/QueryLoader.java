@@ -8,9 +8,12 @@ import java.util.Properties;
  * 共通/ユーティリティ機能 - SQLクエリローダー
  *
  * @author nonsugertea7821
- * @version 0.1.0
+ * @version 0.1.1
  * @since 2025-09-13
+ * @deprecated 呼び出し毎にファイルを読み込むため、
+ * {@link com.github.nonsugertea7821.iris.src.common.sql.QueryRegistry} を使用すること。
  */
+@Deprecated
 public interface QueryLoader {
 
     /**
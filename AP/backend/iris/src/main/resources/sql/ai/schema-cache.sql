@@ -0,0 +1,11 @@
+-- AI/応答・埋め込み共有キャッシュテーブル (common.ai.cache-store-type=jdbc)
+
+CREATE SCHEMA IF NOT EXISTS ai;
+
+CREATE TABLE IF NOT EXISTS ai.cache (
+    cache_key  varchar(64) PRIMARY KEY,
+    value      bytea       NOT NULL,
+    expires_at timestamptz NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS cache_expires_at_idx ON ai.cache (expires_at);
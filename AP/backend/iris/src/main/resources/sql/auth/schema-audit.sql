@@ -0,0 +1,13 @@
+-- 認証/監査ログテーブル (security.audit.enabled=true)
+
+CREATE TABLE IF NOT EXISTS auth.audit (
+    id          bigint      GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    occurred_at timestamptz NOT NULL,
+    event       varchar(32) NOT NULL,
+    user_id     uuid,
+    client_ip   varchar(45),
+    detail      varchar(256)
+);
+
+CREATE INDEX IF NOT EXISTS audit_occurred_at_idx ON auth.audit (occurred_at);
+CREATE INDEX IF NOT EXISTS audit_user_id_idx ON auth.audit (user_id, occurred_at);
@@ -0,0 +1,18 @@
+-- 認証/一時salt・失効トークン保管テーブル (security.auth.store-type=jdbc)
+
+CREATE TABLE IF NOT EXISTS auth.nonces (
+    user_id    uuid        PRIMARY KEY,
+    nonce      uuid        NOT NULL,
+    expires_at timestamptz NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS nonces_expires_at_idx ON auth.nonces (expires_at);
+
+CREATE TABLE IF NOT EXISTS auth.revoked_tokens (
+    token_id   varchar(64) PRIMARY KEY,
+    expires_at timestamptz NOT NULL,
+    revoked_at timestamptz NOT NULL DEFAULT now()
+);
+
+CREATE INDEX IF NOT EXISTS revoked_tokens_expires_at_idx ON auth.revoked_tokens (expires_at);
+CREATE INDEX IF NOT EXISTS revoked_tokens_revoked_at_idx ON auth.revoked_tokens (revoked_at);
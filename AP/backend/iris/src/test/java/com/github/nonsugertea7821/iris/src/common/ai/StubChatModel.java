@@ -0,0 +1,58 @@
+package com.github.nonsugertea7821.iris.src.common.ai;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * AI/チャットモデル(テスト用スタブ)<br>
+ * 外部サービスを呼び出さず、入力をそのまま応答する。ストリーミングは空白区切りの断片で返す。
+ * 呼び出し回数と同時実行数の最大値を記録する。
+ */
+public class StubChatModel implements ChatModel {
+
+    public final AtomicInteger calls = new AtomicInteger();
+    public final AtomicInteger maxInFlight = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final long latencyMillis;
+
+    /**
+     * @param latencyMillis 1回の呼び出しの所要時間
+     */
+    public StubChatModel(long latencyMillis) {
+        this.latencyMillis = latencyMillis;
+    }
+
+    @Override
+    public ChatResponse call(Prompt prompt) {
+        calls.incrementAndGet();
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        try {
+            Thread.sleep(latencyMillis);
+            return response(prompt.getContents());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    @Override
+    public Flux<ChatResponse> stream(Prompt prompt) {
+        calls.incrementAndGet();
+        return Flux.fromArray(prompt.getContents().split("(?<= )"))
+                .map(StubChatModel::response);
+    }
+
+    private static ChatResponse response(String text) {
+        return new ChatResponse(List.of(new Generation(new AssistantMessage(text))));
+    }
+}
@@ -0,0 +1,71 @@
+package com.github.nonsugertea7821.iris.src.common.ai;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.Embedding;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.embedding.EmbeddingRequest;
+import org.springframework.ai.embedding.EmbeddingResponse;
+
+/**
+ * AI/埋め込みモデル(テスト用スタブ)<br>
+ * 外部サービスを呼び出さず、テキストから決定的なベクトルを生成する。受け付けた要求を記録する。
+ */
+public class StubEmbeddingModel implements EmbeddingModel {
+
+    /**
+     * 受け付けた要求(1要素が1回の呼び出し)
+     */
+    public final List<List<String>> calls = new CopyOnWriteArrayList<>();
+
+    private final long latencyMillis;
+
+    public StubEmbeddingModel() {
+        this(0);
+    }
+
+    /**
+     * @param latencyMillis 1回の呼び出しの所要時間
+     */
+    public StubEmbeddingModel(long latencyMillis) {
+        this.latencyMillis = latencyMillis;
+    }
+
+    @Override
+    public EmbeddingResponse call(EmbeddingRequest request) {
+        List<String> inputs = request.getInstructions();
+        calls.add(List.copyOf(inputs));
+        if (latencyMillis > 0) {
+            try {
+                Thread.sleep(latencyMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+        List<Embedding> embeddings = new ArrayList<>();
+        for (int i = 0; i < inputs.size(); i++) {
+            embeddings.add(new Embedding(vector(inputs.get(i)), i));
+        }
+        return new EmbeddingResponse(embeddings);
+    }
+
+    @Override
+    public float[] embed(Document document) {
+        return vector(document.getText());
+    }
+
+    /**
+     * テキストに対応するベクトル
+     *
+     * @param text テキスト
+     * @return ベクトル
+     */
+    public static float[] vector(String text) {
+        return new float[] { text.length(), text.hashCode(), text.getBytes(StandardCharsets.UTF_8).length };
+    }
+}
@@ -0,0 +1,83 @@
+package com.github.nonsugertea7821.iris.src.common.ai.model;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.github.nonsugertea7821.iris.src.common.ai.StubEmbeddingModel;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * AI/埋め込み要求の一括化テスト
+ */
+class EmbeddingBatcherTests {
+
+    private StubEmbeddingModel embeddingModel;
+    private EmbeddingBatcher batcher;
+
+    @BeforeEach
+    void setup() {
+        // 送信枠1・低速なモデルで、送信中に次のバッチが確定する状況を作る
+        embeddingModel = new StubEmbeddingModel(50);
+        batcher = new EmbeddingBatcher(embeddingModel, new ModelLimiter("embedding", 1, Duration.ofSeconds(5)), 2,
+                Duration.ofMillis(5), DistributionSummary.builder("batch").register(new SimpleMeterRegistry()));
+    }
+
+    @AfterEach
+    void teardown() {
+        batcher.close();
+    }
+
+    @Test
+    void slowModelDoesNotOverflowTheBuffer() {
+        List<String> texts = IntStream.range(0, 20).mapToObj(i -> "text-" + i).toList();
+
+        List<float[]> vectors = Flux.fromIterable(texts)
+                .flatMapSequential(batcher::submit, texts.size())
+                .collectList()
+                .block(Duration.ofSeconds(10));
+
+        assertEquals(texts.size(), vectors.size());
+        for (int i = 0; i < texts.size(); i++) {
+            assertArrayEquals(StubEmbeddingModel.vector(texts.get(i)), vectors.get(i));
+        }
+        assertTrue(embeddingModel.calls.stream().allMatch(batch -> batch.size() <= 2));
+    }
+
+    @Test
+    void acceptsRequestsAfterABacklog() {
+        Flux.range(0, 10).flatMap(i -> batcher.submit("burst-" + i), 10).blockLast(Duration.ofSeconds(10));
+
+        assertArrayEquals(StubEmbeddingModel.vector("later"), batcher.submit("later").block(Duration.ofSeconds(5)));
+    }
+
+    @Test
+    void submitAfterCloseFailsInsteadOfHanging() {
+        batcher.close();
+
+        assertThrows(IllegalStateException.class, () -> batcher.submit("late").block(Duration.ofSeconds(5)));
+    }
+
+    @Test
+    void closeFailsRequestsInFlight() {
+        Mono<float[]> inFlight = batcher.submit("in-flight").cache();
+        inFlight.subscribe(vector -> {}, error -> {});
+
+        batcher.close();
+
+        assertThrows(IllegalStateException.class, () -> inFlight.block(Duration.ofSeconds(5)));
+    }
+}
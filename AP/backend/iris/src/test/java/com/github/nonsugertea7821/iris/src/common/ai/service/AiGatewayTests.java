@@ -0,0 +1,162 @@
+package com.github.nonsugertea7821.iris.src.common.ai.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import com.github.benmanes.caffeine.cache.Scheduler;
+import com.github.nonsugertea7821.iris.src.common.ai.StubChatModel;
+import com.github.nonsugertea7821.iris.src.common.ai.StubEmbeddingModel;
+import com.github.nonsugertea7821.iris.src.common.ai.model.AiCacheStore;
+import com.github.nonsugertea7821.iris.src.common.ai.model.AiResponseCache;
+import com.github.nonsugertea7821.iris.src.common.exception.InvalidRequestException;
+import com.github.nonsugertea7821.iris.src.common.properties.AiProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Flux;
+
+/**
+ * AI/ゲートウェイテスト
+ */
+class AiGatewayTests {
+
+    private AiProperties aiProperties;
+    private StubChatModel chatModel;
+    private StubEmbeddingModel embeddingModel;
+    private MapCacheStore store;
+    private AiGateway gateway;
+
+    @BeforeEach
+    void setup() {
+        aiProperties = new AiProperties();
+        aiProperties.setEnabled(true);
+        aiProperties.setEmbeddingBatchSize(4);
+        aiProperties.setEmbeddingBatchWindow(Duration.ofMillis(50));
+        AiProperties.Model chat = new AiProperties.Model();
+        chat.setMaxConcurrency(1);
+        aiProperties.getModels().put("chat", chat);
+        chatModel = new StubChatModel(20);
+        embeddingModel = new StubEmbeddingModel();
+        store = new MapCacheStore();
+        gateway = start();
+    }
+
+    @AfterEach
+    void teardown() {
+        gateway.destroy();
+    }
+
+    @Test
+    void embeddingsAreSentInBatches() {
+        List<String> texts = IntStream.range(0, 10).mapToObj(i -> "text-" + i).toList();
+
+        List<float[]> vectors = gateway.embedAll("embedding", texts).block();
+
+        assertEquals(10, vectors.size());
+        for (int i = 0; i < texts.size(); i++) {
+            assertArrayEquals(StubEmbeddingModel.vector(texts.get(i)), vectors.get(i));
+        }
+        assertTrue(embeddingModel.calls.size() < texts.size());
+        assertTrue(embeddingModel.calls.stream().allMatch(batch -> batch.size() <= 4));
+        assertEquals(10, embeddingModel.calls.stream().mapToInt(List::size).sum());
+    }
+
+    @Test
+    void duplicateTextsAreEmbeddedOnce() {
+        gateway.embedAll("embedding", List.of("same", "same", "other")).block();
+        gateway.embed("embedding", "same").block();
+
+        assertEquals(2, embeddingModel.calls.stream().mapToInt(List::size).sum());
+    }
+
+    @Test
+    void completionsAreCachedByContent() {
+        assertEquals("hello world", gateway.complete("chat", "hello world").block());
+        assertEquals("hello world", gateway.complete("chat", "hello world").block());
+        assertEquals(List.of("hello world"), gateway.stream("chat", "hello world").collectList().block());
+
+        assertEquals(1, chatModel.calls.get());
+    }
+
+    @Test
+    void streamedResponsesAreCachedWhenComplete() {
+        assertEquals(List.of("a ", "b ", "c"), gateway.stream("chat", "a b c").collectList().block());
+        assertEquals("a b c", gateway.complete("chat", "a b c").block());
+
+        assertEquals(1, chatModel.calls.get());
+    }
+
+    @Test
+    void concurrentCallsAreLimitedPerModel() {
+        Flux.range(0, 4)
+                .flatMap(i -> gateway.complete("chat", "prompt-" + i))
+                .collectList()
+                .block();
+
+        assertEquals(4, chatModel.calls.get());
+        assertEquals(1, chatModel.maxInFlight.get());
+    }
+
+    @Test
+    void sharedStoreIsUsedAfterRestart() {
+        gateway.embed("embedding", "persisted").block();
+        gateway.complete("chat", "persisted").block();
+        gateway.destroy();
+
+        gateway = start();
+        assertArrayEquals(StubEmbeddingModel.vector("persisted"), gateway.embed("embedding", "persisted").block());
+        assertEquals("persisted", gateway.complete("chat", "persisted").block());
+
+        assertEquals(1, embeddingModel.calls.size());
+        assertEquals(1, chatModel.calls.get());
+    }
+
+    @Test
+    void unknownModelsAreRejected() {
+        assertThrows(InvalidRequestException.class, () -> gateway.embed("chat", "text").block());
+        assertThrows(InvalidRequestException.class, () -> gateway.complete("embedding", "text").block());
+    }
+
+    private AiGateway start() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        StaticListableBeanFactory stores = new StaticListableBeanFactory(Map.of("store", store));
+        AiResponseCache cache = new AiResponseCache(aiProperties, stores.getBeanProvider(AiCacheStore.class),
+                Scheduler.disabledScheduler(), meterRegistry);
+        cache.init();
+        StaticListableBeanFactory models = new StaticListableBeanFactory(
+                Map.of("chat", chatModel, "embedding", embeddingModel));
+        AiGateway started = new AiGateway(aiProperties, cache, models, meterRegistry);
+        started.init();
+        return started;
+    }
+
+    /**
+     * 共有キャッシュ(テスト用)
+     */
+    static class MapCacheStore implements AiCacheStore {
+
+        private final Map<String, byte[]> values = new ConcurrentHashMap<>();
+
+        @Override
+        public byte[] get(String key) {
+            return values.get(key);
+        }
+
+        @Override
+        public void put(String key, byte[] value) {
+            values.put(key, value);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.github.nonsugertea7821.iris.src.common.audit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ScheduledFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.scheduling.TaskScheduler;
+
+import com.github.nonsugertea7821.iris.src.common.properties.AuditProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 共通/監査ログテスト
+ */
+class AuditLogTests {
+
+    private AuditProperties auditProperties;
+    private AuditRepository auditRepository;
+    private TaskScheduler taskScheduler;
+    private SimpleMeterRegistry meterRegistry;
+    private List<List<AuditEvent>> batches;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setup() {
+        auditProperties = new AuditProperties();
+        auditProperties.setEnabled(true);
+        auditProperties.setBufferSize(4);
+        auditProperties.setBatchSize(3);
+        auditProperties.setBlockTimeout(Duration.ofMillis(1));
+        auditRepository = mock(AuditRepository.class);
+        batches = new ArrayList<>();
+        doAnswer(invocation -> batches.add(new ArrayList<>(invocation.<List<AuditEvent>>getArgument(0))))
+                .when(auditRepository).insertAll(anyList());
+        taskScheduler = mock(TaskScheduler.class);
+        when(taskScheduler.scheduleWithFixedDelay(any(Runnable.class), any(Duration.class)))
+                .thenReturn(mock(ScheduledFuture.class));
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void flushWritesBufferedEventsInBatches() {
+        AuditLog auditLog = start();
+        UUID userId = UUID.randomUUID();
+        for (int i = 0; i < 4; i++) {
+            auditLog.publish(AuditEventType.LOGIN_SUCCEEDED, userId, "127.0.0.1", null);
+        }
+
+        assertEquals(4, auditLog.flush());
+        assertEquals(List.of(3, 1), batches.stream().map(List::size).toList());
+        assertEquals(userId, batches.get(0).get(0).userId());
+        assertEquals(4, meterRegistry.get(AuditLog.WRITTEN).counter().count());
+        assertEquals(0, meterRegistry.get(AuditLog.LAG).gauge().value());
+    }
+
+    @Test
+    void dropPolicyCountsOverflow() {
+        AuditLog auditLog = start();
+        for (int i = 0; i < 6; i++) {
+            auditLog.publish(AuditEventType.LOGIN_FAILED, null, null, "invalid_credentials");
+        }
+
+        assertEquals(4, auditLog.flush());
+        assertEquals(2, dropped("overflow"));
+    }
+
+    @Test
+    void samplePolicyThinsEventsAboveThreshold() {
+        auditProperties.setOverflow(AuditProperties.Overflow.SAMPLE);
+        auditProperties.setSampleThreshold(0.5);
+        auditProperties.setSampleRate(0);
+        AuditLog auditLog = start();
+        for (int i = 0; i < 4; i++) {
+            auditLog.publish(AuditEventType.TOKEN_REJECTED, null, null, "invalid");
+        }
+
+        assertEquals(2, auditLog.flush());
+        assertEquals(2, dropped("sampled"));
+    }
+
+    @Test
+    void blockPolicyGivesUpAfterTimeout() {
+        auditProperties.setOverflow(AuditProperties.Overflow.BLOCK);
+        AuditLog auditLog = start();
+        for (int i = 0; i < 5; i++) {
+            auditLog.publish(AuditEventType.LOGOUT, null, null, null);
+        }
+
+        assertEquals(4, auditLog.flush());
+        assertEquals(1, dropped("timeout"));
+    }
+
+    @Test
+    void failedBatchesAreCountedAsDropped() {
+        doThrow(new DataAccessResourceFailureException("down")).when(auditRepository).insertAll(anyList());
+        AuditLog auditLog = start();
+        auditLog.publish(AuditEventType.LOGOUT, null, null, null);
+
+        assertEquals(1, auditLog.flush());
+        assertEquals(1, dropped("error"));
+    }
+
+    @Test
+    void destroyFlushesRemainingEventsAndRejectsLateOnes() {
+        AuditLog auditLog = start();
+        auditLog.publish(AuditEventType.REFRESH_SUCCEEDED, null, null, null);
+        auditLog.destroy();
+        auditLog.publish(AuditEventType.REFRESH_SUCCEEDED, null, null, null);
+
+        assertEquals(1, batches.size());
+        assertEquals(1, dropped("closed"));
+    }
+
+    @Test
+    void disabledLogDoesNothing() {
+        auditProperties.setEnabled(false);
+        AuditLog auditLog = start();
+        auditLog.publish(AuditEventType.LOGOUT, null, null, null);
+        auditLog.destroy();
+
+        verify(auditRepository, never()).insertAll(anyList());
+        verify(taskScheduler, never()).scheduleWithFixedDelay(any(Runnable.class), any(Duration.class));
+    }
+
+    private AuditLog start() {
+        AuditLog auditLog = new AuditLog(auditProperties, auditRepository, taskScheduler, meterRegistry);
+        auditLog.init();
+        return auditLog;
+    }
+
+    private double dropped(String reason) {
+        return meterRegistry.get(AuditLog.DROPPED).tag("reason", reason).counter().count();
+    }
+}
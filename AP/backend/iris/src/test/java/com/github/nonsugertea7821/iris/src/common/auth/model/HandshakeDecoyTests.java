@@ -0,0 +1,41 @@
+package com.github.nonsugertea7821.iris.src.common.auth.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.nonsugertea7821.iris.src.common.properties.AuthProperties;
+
+/**
+ * 認証/ハンドシェイク偽装応答テスト
+ */
+class HandshakeDecoyTests {
+
+    @Test
+    void refusesToStartWithoutADecoySecret() {
+        AuthProperties authProperties = new AuthProperties();
+        authProperties.setJwtSecret("jwt-secret-jwt-secret-jwt-secret-0123456789");
+
+        assertThrows(IllegalStateException.class, () -> new HandshakeDecoy(authProperties).init());
+    }
+
+    @Test
+    void valuesDoNotChangeWhenTheJwtSecretRotates() {
+        AuthProperties authProperties = new AuthProperties();
+        authProperties.setDecoySecret("decoy-secret-decoy-secret-decoy-secret-0123");
+        authProperties.setJwtSecret("first-jwt-secret-first-jwt-secret-0123456789");
+        HandshakeDecoy decoy = new HandshakeDecoy(authProperties);
+        decoy.init();
+        UUID userId = decoy.userId("mallory");
+        String salt = decoy.salt("mallory");
+
+        authProperties.setJwtSecret("second-jwt-secret-second-jwt-secret-01234567");
+        authProperties.setDecoySecret("changed-at-runtime-changed-at-runtime-0123");
+
+        assertEquals(userId, decoy.userId("mallory"));
+        assertEquals(salt, decoy.salt("mallory"));
+    }
+}
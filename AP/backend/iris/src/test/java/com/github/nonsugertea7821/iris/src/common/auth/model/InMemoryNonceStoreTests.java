@@ -0,0 +1,64 @@
+package com.github.nonsugertea7821.iris.src.common.auth.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.github.benmanes.caffeine.cache.Scheduler;
+import com.github.nonsugertea7821.iris.src.common.exception.RateLimitExceededException;
+import com.github.nonsugertea7821.iris.src.common.metrics.AuthMetrics;
+import com.github.nonsugertea7821.iris.src.common.properties.AuthProperties;
+import com.github.nonsugertea7821.iris.src.common.properties.MetricsProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 認証/一時salt製造保管機能(インメモリ実装)テスト
+ */
+class InMemoryNonceStoreTests {
+
+    private SimpleMeterRegistry registry;
+    private InMemoryNonceStore nonceStore;
+
+    @BeforeEach
+    void setup() {
+        AuthProperties authProperties = new AuthProperties();
+        authProperties.setNonceExpireSeconds(60);
+        authProperties.setNonceMaxOutstanding(2);
+        registry = new SimpleMeterRegistry();
+        nonceStore = new InMemoryNonceStore(authProperties, Scheduler.disabledScheduler(),
+                new AuthMetrics(registry, new MetricsProperties()));
+        nonceStore.init();
+    }
+
+    @Test
+    void outstandingNoncesSurviveChallengeFlood() throws Exception {
+        UUID alice = UUID.randomUUID();
+        UUID bob = UUID.randomUUID();
+        String aliceNonce = nonceStore.createNonce(alice);
+        nonceStore.createNonce(bob);
+
+        for (int i = 0; i < 10; i++) {
+            assertThrows(RateLimitExceededException.class, () -> nonceStore.createNonce(UUID.randomUUID()));
+        }
+
+        assertEquals(aliceNonce, nonceStore.getNonce(alice));
+        assertEquals(10.0, registry.get(AuthMetrics.EVENTS).tag("event", AuthMetrics.EVENT_NONCE_REJECTED)
+                .counter().count());
+    }
+
+    @Test
+    void existingUsersCanRechallengeAtCapacity() throws Exception {
+        UUID alice = UUID.randomUUID();
+        nonceStore.createNonce(alice);
+        nonceStore.createNonce(UUID.randomUUID());
+
+        String reissued = nonceStore.createNonce(alice);
+
+        assertEquals(reissued, nonceStore.getNonce(alice));
+    }
+}
@@ -0,0 +1,103 @@
+package com.github.nonsugertea7821.iris.src.common.auth.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.github.nonsugertea7821.iris.src.common.audit.AuditEventType;
+import com.github.nonsugertea7821.iris.src.common.audit.AuditLog;
+import com.github.nonsugertea7821.iris.src.common.auth.dto.User;
+import com.github.nonsugertea7821.iris.src.common.auth.model.JwtProcessor.TokenRevokedException;
+import com.github.nonsugertea7821.iris.src.common.auth.repository.AuthRepository.UserNotFoundException;
+import com.github.nonsugertea7821.iris.src.common.metrics.AuthMetrics;
+import com.github.nonsugertea7821.iris.src.common.properties.MetricsProperties;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 認証/リクエストフィルター機能テスト
+ */
+class JwtAuthenticationFilterTests {
+
+    private static final String TOKEN = "token";
+
+    private final User user = new User(UUID.randomUUID(), "alice", "USER", null, null);
+
+    private JwtProcessor jwtProcessor;
+    private VerifiedTokenCache verifiedTokenCache;
+    private AuditLog auditLog;
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private MockFilterChain chain;
+
+    @BeforeEach
+    void setup() {
+        jwtProcessor = mock(JwtProcessor.class);
+        verifiedTokenCache = mock(VerifiedTokenCache.class);
+        auditLog = mock(AuditLog.class);
+        filter = new JwtAuthenticationFilter(jwtProcessor, verifiedTokenCache,
+                new AuthMetrics(new SimpleMeterRegistry(), new MetricsProperties()), auditLog);
+        request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + TOKEN);
+        response = new MockHttpServletResponse();
+        chain = new MockFilterChain();
+    }
+
+    @Test
+    void revokedTokensAreRejectedAsRevoked() throws Exception {
+        Date issuedAt = Date.from(Instant.now());
+        when(verifiedTokenCache.get(TOKEN)).thenReturn(new VerifiedTokenCache.VerifiedToken(user, issuedAt, Instant.now()));
+        doThrow(new TokenRevokedException("revoked")).when(jwtProcessor).assertNotRevoked(user.getId(), issuedAt);
+
+        filter.doFilter(request, response, chain);
+
+        assertEquals(401, response.getStatus());
+        assertNull(chain.getRequest());
+        verify(verifiedTokenCache).invalidate(TOKEN);
+        verify(auditLog).publish(eq(AuditEventType.TOKEN_REJECTED), isNull(), anyString(), eq("revoked"));
+    }
+
+    @Test
+    void tokensOfDeletedUsersAreRejectedAsUnknownUser() throws Exception {
+        Claims claims = mock(Claims.class);
+        when(jwtProcessor.parseAccessToken(TOKEN)).thenReturn(claims);
+        when(jwtProcessor.getUserFromClaims(claims)).thenThrow(new UserNotFoundException("User not found"));
+
+        filter.doFilter(request, response, chain);
+
+        assertEquals(401, response.getStatus());
+        verify(auditLog).publish(eq(AuditEventType.TOKEN_REJECTED), isNull(), anyString(), eq("unknown_user"));
+    }
+
+    @Test
+    void infrastructureFailuresPropagateWithTheirCause() {
+        Claims claims = mock(Claims.class);
+        when(jwtProcessor.parseAccessToken(TOKEN)).thenReturn(claims);
+        when(jwtProcessor.getUserFromClaims(claims)).thenThrow(new DataAccessResourceFailureException("db down"));
+
+        assertThrows(DataAccessResourceFailureException.class, () -> filter.doFilter(request, response, chain));
+        verify(auditLog, never()).publish(any(), any(), any(), any());
+    }
+}
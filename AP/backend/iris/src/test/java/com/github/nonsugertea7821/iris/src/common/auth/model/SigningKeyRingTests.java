@@ -0,0 +1,181 @@
+package com.github.nonsugertea7821.iris.src.common.auth.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.scheduling.TaskScheduler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.github.nonsugertea7821.iris.src.common.properties.AuthProperties;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * 認証/署名鍵リングテスト
+ */
+class SigningKeyRingTests {
+
+    private static final String LEGACY_SECRET = "legacy-secret-legacy-secret-legacy-secret";
+    private static final String SECRET_1 = "signing-key-1-signing-key-1-signing-key-1";
+    private static final String SECRET_2 = "signing-key-2-signing-key-2-signing-key-2";
+
+    @TempDir
+    Path dir;
+
+    private AuthProperties authProperties;
+    private TaskScheduler taskScheduler;
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @BeforeEach
+    void setup() {
+        authProperties = new AuthProperties();
+        authProperties.setJwtSecret(LEGACY_SECRET);
+        taskScheduler = mock(TaskScheduler.class);
+        verifiedTokenCache = mock(VerifiedTokenCache.class);
+    }
+
+    @Test
+    void legacySecretIsUsedWithoutKid() {
+        SigningKeyRing ring = start();
+
+        assertNull(ring.active().kid());
+        assertEquals("alice", parse(ring, token(null, LEGACY_SECRET)));
+        verify(taskScheduler, never()).scheduleWithFixedDelay(any(Runnable.class), any(Instant.class), any(Duration.class));
+    }
+
+    @Test
+    void stagedKeysVerifyBeforeTheySign() {
+        authProperties.getSigningKeys().add(key("k1", SECRET_1, Instant.now().minusSeconds(60), null));
+        authProperties.getSigningKeys().add(key("k2", SECRET_2, Instant.now().plusSeconds(3600), null));
+        SigningKeyRing ring = start();
+
+        assertEquals("k1", ring.active().kid());
+        assertEquals("alice", parse(ring, token("k1", SECRET_1)));
+        assertEquals("alice", parse(ring, token("k2", SECRET_2)));
+        // 鍵識別子の無い発行済みトークンも引き続き受け付ける
+        assertEquals("alice", parse(ring, token(null, LEGACY_SECRET)));
+    }
+
+    @Test
+    void retiredAndUnknownKeysAreRejected() {
+        authProperties.getSigningKeys().add(key("k1", SECRET_1, null, Instant.now().minusSeconds(1)));
+        authProperties.getSigningKeys().add(key("k2", SECRET_2, null, null));
+        authProperties.setJwtSecretRetireAt(Instant.now().minusSeconds(1));
+        SigningKeyRing ring = start();
+
+        assertEquals("k2", ring.active().kid());
+        assertThrows(JwtException.class, () -> parse(ring, token("k1", SECRET_1)));
+        assertThrows(JwtException.class, () -> parse(ring, token("k3", SECRET_1)));
+        assertThrows(JwtException.class, () -> parse(ring, token(null, LEGACY_SECRET)));
+    }
+
+    @Test
+    void keyFileIsReloadedWithoutRestart() throws Exception {
+        Path file = dir.resolve("signing-keys.json");
+        Files.writeString(file, "[{\"kid\":\"k1\",\"secret\":\"" + SECRET_1 + "\"}]", StandardCharsets.UTF_8);
+        authProperties.setSigningKeysLocation(file.toUri().toString());
+        SigningKeyRing ring = start();
+        String issuedBeforeRotation = token("k1", SECRET_1);
+        assertEquals("k1", ring.active().kid());
+
+        // 新しい鍵を追加し旧鍵で署名済みのトークンは引き続き受け付ける
+        Files.writeString(file, "[{\"kid\":\"k1\",\"secret\":\"" + SECRET_1 + "\",\"activateAt\":\"2020-01-01T00:00:00Z\"},"
+                + "{\"kid\":\"k2\",\"secret\":\"" + SECRET_2 + "\",\"activateAt\":\"" + Instant.now().minusSeconds(1) + "\"}]",
+                StandardCharsets.UTF_8);
+        ring.reload();
+        assertEquals("k2", ring.active().kid());
+        assertEquals("alice", parse(ring, issuedBeforeRotation));
+        verify(verifiedTokenCache, never()).invalidateAll();
+
+        // 旧鍵の廃止
+        Files.writeString(file, "[{\"kid\":\"k2\",\"secret\":\"" + SECRET_2 + "\"}]", StandardCharsets.UTF_8);
+        ring.reload();
+        assertThrows(JwtException.class, () -> parse(ring, issuedBeforeRotation));
+        verify(verifiedTokenCache).invalidateAll();
+    }
+
+    @Test
+    void legacySecretRetirementIsDetected() {
+        Instant retireAt = Instant.now().plusSeconds(3600);
+        authProperties.setJwtSecretRetireAt(retireAt);
+        SigningKeyRing ring = start();
+
+        // 鍵識別子付きの鍵が無くても再読み込みを行い、キャッシュには廃止日時を通知する
+        verify(taskScheduler).scheduleWithFixedDelay(any(Runnable.class), any(Instant.class), any(Duration.class));
+        verify(verifiedTokenCache).setKeyRetirements(List.of(retireAt));
+
+        authProperties.getSigningKeys().add(key("k1", SECRET_1, null, null));
+        authProperties.setJwtSecretRetireAt(Instant.now().minusSeconds(1));
+        ring.reload();
+
+        assertThrows(JwtException.class, () -> parse(ring, token(null, LEGACY_SECRET)));
+        verify(verifiedTokenCache).invalidateAll();
+    }
+
+    @Test
+    void brokenKeyFileKeepsCurrentKeys() throws Exception {
+        Path file = dir.resolve("signing-keys.json");
+        Files.writeString(file, "[{\"kid\":\"k1\",\"secret\":\"" + SECRET_1 + "\"}]", StandardCharsets.UTF_8);
+        authProperties.setSigningKeysLocation(file.toUri().toString());
+        SigningKeyRing ring = start();
+
+        Files.writeString(file, "[{\"kid\":", StandardCharsets.UTF_8);
+        ring.reload();
+
+        assertEquals("k1", ring.active().kid());
+        assertEquals("alice", parse(ring, token("k1", SECRET_1)));
+    }
+
+    private SigningKeyRing start() {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        SigningKeyRing ring = new SigningKeyRing(authProperties, new DefaultResourceLoader(), objectMapper,
+                taskScheduler, verifiedTokenCache);
+        ring.init();
+        return ring;
+    }
+
+    private static AuthProperties.SigningKey key(String kid, String secret, Instant activateAt, Instant retireAt) {
+        AuthProperties.SigningKey key = new AuthProperties.SigningKey();
+        key.setKid(kid);
+        key.setSecret(secret);
+        key.setActivateAt(activateAt);
+        key.setRetireAt(retireAt);
+        return key;
+    }
+
+    private static String token(String kid, String secret) {
+        JwtBuilder builder = Jwts.builder()
+                .setSubject("alice")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000));
+        if (kid != null) {
+            builder.setHeaderParam(JwsHeader.KEY_ID, kid);
+        }
+        return builder.signWith(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8))).compact();
+    }
+
+    private static String parse(SigningKeyRing ring, String token) {
+        return Jwts.parserBuilder().setSigningKeyResolver(ring).build().parseClaimsJws(token).getBody().getSubject();
+    }
+}
@@ -0,0 +1,90 @@
+package com.github.nonsugertea7821.iris.src.common.auth.model;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.github.nonsugertea7821.iris.src.common.auth.dto.User;
+import com.github.nonsugertea7821.iris.src.common.auth.repository.AuthRepository;
+import com.github.nonsugertea7821.iris.src.common.properties.AuthProperties;
+import com.github.nonsugertea7821.iris.src.common.properties.CacheProperties;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 認証/検証済みトークンキャッシュテスト
+ */
+class VerifiedTokenCacheTests {
+
+    private final User user = new User(UUID.randomUUID(), "alice", "USER", null, null);
+
+    private Claims claims;
+    private VerifiedTokenCache cache;
+
+    @BeforeEach
+    void setup() {
+        // ユーザー情報キャッシュは即時失効とする
+        CacheProperties.Spec userById = new CacheProperties.Spec();
+        userById.setExpireAfterWrite(Duration.ZERO);
+        CacheProperties cacheProperties = new CacheProperties();
+        cacheProperties.getSpecs().put(AuthRepository.CACHE_USER_BY_ID, userById);
+        cache = new VerifiedTokenCache(new AuthProperties(), cacheProperties, new SimpleMeterRegistry());
+        cache.init();
+        claims = mock(Claims.class);
+        when(claims.getIssuedAt()).thenReturn(Date.from(Instant.now()));
+        when(claims.getExpiration()).thenReturn(Date.from(Instant.now().plusSeconds(600)));
+    }
+
+    @Test
+    void principalsLoadedFromTheDatabaseExpireWithTheUserCache() {
+        cache.put("claims", claims, user, false);
+        cache.put("loaded", claims, user, true);
+
+        assertNotNull(cache.get("claims"));
+        assertNull(cache.get("loaded"));
+    }
+
+    @Test
+    void userEvictionRemovesTheUsersTokens() {
+        cache.put("mine", claims, user, false);
+        cache.put("other", claims, new User(UUID.randomUUID(), "bob", "USER", null, null), false);
+
+        cache.invalidateUser(user.getId());
+
+        assertNull(cache.get("mine"));
+        assertNotNull(cache.get("other"));
+    }
+
+    @Test
+    void entriesDoNotOutliveTheNextKeyRetirement() {
+        cache.setKeyRetirements(List.of(Instant.now().plusSeconds(3600), Instant.now().plusMillis(1)));
+        cache.put("token", claims, user, false);
+
+        // 過去の廃止日時は無視する
+        cache.setKeyRetirements(List.of(Instant.now().minusSeconds(1)));
+        cache.put("later", claims, user, false);
+
+        await(Duration.ofMillis(20));
+        assertNull(cache.get("token"));
+        assertNotNull(cache.get("later"));
+    }
+
+    private static void await(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
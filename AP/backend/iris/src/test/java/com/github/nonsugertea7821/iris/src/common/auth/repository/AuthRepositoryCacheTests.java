@@ -0,0 +1,98 @@
+package com.github.nonsugertea7821.iris.src.common.auth.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import com.github.nonsugertea7821.iris.src.common.auth.dto.User;
+import com.github.nonsugertea7821.iris.src.common.auth.model.VerifiedTokenCache;
+import com.github.nonsugertea7821.iris.src.common.config.CacheConfig;
+import com.github.nonsugertea7821.iris.src.common.metrics.AuthMetrics;
+import com.github.nonsugertea7821.iris.src.common.properties.CacheProperties;
+import com.github.nonsugertea7821.iris.src.common.properties.MetricsProperties;
+import com.github.nonsugertea7821.iris.src.common.sql.QueryRegistry;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 認証/リポジトリ機能のキャッシュテスト
+ */
+@SpringJUnitConfig(AuthRepositoryCacheTests.Config.class)
+class AuthRepositoryCacheTests {
+
+    private static final User ALICE = new User(UUID.randomUUID(), "alice", "USER", "hash", "salt");
+
+    @Autowired
+    private AuthRepository authRepository;
+
+    @Autowired
+    private JdbcClient.StatementSpec statement;
+
+    @Test
+    void unknownUserNamesAreCachedLikeKnownOnes() {
+        assertEquals(Optional.of(ALICE), authRepository.findUserByName("alice"));
+        assertTrue(authRepository.findUserByName("mallory").isEmpty());
+        assertEquals(Optional.of(ALICE), authRepository.findUserByName("alice"));
+        assertTrue(authRepository.findUserByName("mallory").isEmpty());
+
+        verify(statement, times(1)).param(anyString(), eq("alice"));
+        verify(statement, times(1)).param(anyString(), eq("mallory"));
+    }
+
+    @Configuration
+    @EnableCaching
+    @Import(CacheConfig.class)
+    static class Config {
+
+        @Bean
+        CacheProperties cacheProperties() {
+            return new CacheProperties();
+        }
+
+        @Bean
+        JdbcClient.StatementSpec statement() {
+            return mock(JdbcClient.StatementSpec.class);
+        }
+
+        @Bean
+        @SuppressWarnings("unchecked")
+        AuthRepository authRepository(JdbcClient.StatementSpec statement) {
+            JdbcClient.StatementSpec alice = mock(JdbcClient.StatementSpec.class);
+            JdbcClient.StatementSpec mallory = mock(JdbcClient.StatementSpec.class);
+            JdbcClient.MappedQuerySpec<User> found = mock(JdbcClient.MappedQuerySpec.class);
+            JdbcClient.MappedQuerySpec<User> missing = mock(JdbcClient.MappedQuerySpec.class);
+            when(statement.param(anyString(), eq("alice"))).thenReturn(alice);
+            when(statement.param(anyString(), eq("mallory"))).thenReturn(mallory);
+            when(alice.query(any(RowMapper.class))).thenReturn(found);
+            when(mallory.query(any(RowMapper.class))).thenReturn(missing);
+            when(found.optional()).thenReturn(Optional.of(ALICE));
+            when(missing.optional()).thenReturn(Optional.empty());
+
+            JdbcClient jdbcClient = mock(JdbcClient.class);
+            when(jdbcClient.sql(anyString())).thenReturn(statement);
+            QueryRegistry queryRegistry = mock(QueryRegistry.class);
+            when(queryRegistry.get(anyString())).thenReturn("SELECT");
+            return new AuthRepository(jdbcClient, queryRegistry,
+                    new AuthMetrics(new SimpleMeterRegistry(), new MetricsProperties()), mock(VerifiedTokenCache.class));
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.github.nonsugertea7821.iris.src.common.auth.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.github.nonsugertea7821.iris.src.common.exception.AuthFailureException;
+import com.github.nonsugertea7821.iris.src.common.exception.AuthFailureReason;
+import com.github.nonsugertea7821.iris.src.common.metrics.AuthMetrics;
+import com.github.nonsugertea7821.iris.src.common.properties.AuthProperties;
+import com.github.nonsugertea7821.iris.src.common.properties.MetricsProperties;
+import com.github.nonsugertea7821.iris.src.common.properties.QueryProperties;
+import com.github.nonsugertea7821.iris.src.common.sql.QueryRegistry;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 認証/一時salt・失効トークン保管機能(PostgreSQL実装)テスト<br>
+ * Dockerが利用できない環境ではスキップする。
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class JdbcStoreTests {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static JdbcClient jdbcClient;
+    private static QueryRegistry queryRegistry;
+
+    private AuthProperties authProperties;
+    private JdbcNonceStore nonceStore;
+    private JdbcRefreshTokenStore refreshTokenStore;
+
+    @BeforeAll
+    static void schema() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(POSTGRES.getJdbcUrl(),
+                POSTGRES.getUsername(), POSTGRES.getPassword());
+        jdbcClient = JdbcClient.create(dataSource);
+        jdbcClient.sql("CREATE SCHEMA IF NOT EXISTS auth").update();
+        new ResourceDatabasePopulator(new ClassPathResource("sql/auth/schema-store.sql")).execute(dataSource);
+        queryRegistry = new QueryRegistry(new QueryProperties(), null, null);
+        queryRegistry.init();
+    }
+
+    @BeforeEach
+    void setup() {
+        jdbcClient.sql("TRUNCATE auth.nonces, auth.revoked_tokens").update();
+        authProperties = new AuthProperties();
+        authProperties.setNonceExpireSeconds(60);
+        authProperties.setRefreshTokenExpireSeconds(60);
+        authProperties.setStorePurgeBatchSize(2);
+        nonceStore = new JdbcNonceStore(jdbcClient, queryRegistry, authProperties,
+                new AuthMetrics(new SimpleMeterRegistry(), new MetricsProperties()));
+        refreshTokenStore = new JdbcRefreshTokenStore(jdbcClient, queryRegistry, authProperties);
+        refreshTokenStore.init();
+    }
+
+    @Test
+    void challengeReplacesOutstandingNonce() throws Exception {
+        UUID userId = UUID.randomUUID();
+        String first = nonceStore.createNonce(userId);
+        String second = nonceStore.createNonce(userId);
+
+        assertNotEquals(first, second);
+        assertEquals(1, countNonces());
+        assertEquals(second, nonceStore.getNonce(userId));
+    }
+
+    @Test
+    void nonceIsConsumedOnce() throws Exception {
+        UUID userId = UUID.randomUUID();
+        String nonce = nonceStore.createNonce(userId);
+
+        assertEquals(nonce, nonceStore.getNonce(userId));
+        AuthFailureException reused = assertThrows(AuthFailureException.class, () -> nonceStore.getNonce(userId));
+        assertEquals(AuthFailureReason.INVALID_CLIENT, reused.getReason());
+        assertEquals(0, countNonces());
+    }
+
+    @Test
+    void expiredNonceIsConsumedAndRejected() {
+        UUID userId = UUID.randomUUID();
+        authProperties.setNonceExpireSeconds(-1);
+        nonceStore.createNonce(userId);
+
+        AuthFailureException expired = assertThrows(AuthFailureException.class, () -> nonceStore.getNonce(userId));
+        assertEquals(AuthFailureReason.NONCE_EXPIRED, expired.getReason());
+        assertEquals(0, countNonces());
+    }
+
+    @Test
+    void purgeDeletesExpiredNoncesInBatches() throws Exception {
+        authProperties.setNonceExpireSeconds(-1);
+        for (int i = 0; i < 5; i++) {
+            nonceStore.createNonce(UUID.randomUUID());
+        }
+        authProperties.setNonceExpireSeconds(60);
+        UUID live = UUID.randomUUID();
+        String nonce = nonceStore.createNonce(live);
+
+        assertEquals(0, nonceStore.size());
+        nonceStore.purgeExpired();
+
+        assertEquals(1, countNonces());
+        assertEquals(1, nonceStore.size());
+        assertEquals(nonce, nonceStore.getNonce(live));
+    }
+
+    @Test
+    void revokedTokensAreRecordedOnceAndPurgedAfterExpiry() {
+        assertTrue(refreshTokenStore.revoke("live", Instant.now().plusSeconds(60)));
+        assertFalse(refreshTokenStore.revoke("live", Instant.now().plusSeconds(60)));
+        for (int i = 0; i < 5; i++) {
+            refreshTokenStore.revoke("expired-" + i, Instant.now().minusSeconds(1));
+        }
+
+        refreshTokenStore.purgeExpired();
+
+        assertTrue(refreshTokenStore.isRevoked("live"));
+        assertEquals(1, jdbcClient.sql("SELECT count(*) FROM auth.revoked_tokens").query(Long.class).single());
+    }
+
+    private static long countNonces() {
+        return jdbcClient.sql("SELECT count(*) FROM auth.nonces").query(Long.class).single();
+    }
+}
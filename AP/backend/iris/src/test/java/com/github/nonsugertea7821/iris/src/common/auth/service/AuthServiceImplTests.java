@@ -0,0 +1,123 @@
+package com.github.nonsugertea7821.iris.src.common.auth.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.github.benmanes.caffeine.cache.Scheduler;
+import com.github.nonsugertea7821.iris.src.common.audit.AuditLog;
+import com.github.nonsugertea7821.iris.src.common.auth.dto.User;
+import com.github.nonsugertea7821.iris.src.common.auth.dto.response.HandshakeResponse;
+import com.github.nonsugertea7821.iris.src.common.auth.dto.response.LoginResponse;
+import com.github.nonsugertea7821.iris.src.common.auth.model.HandshakeDecoy;
+import com.github.nonsugertea7821.iris.src.common.auth.model.InMemoryNonceStore;
+import com.github.nonsugertea7821.iris.src.common.auth.model.JwtProcessor;
+import com.github.nonsugertea7821.iris.src.common.auth.repository.AuthRepository;
+import com.github.nonsugertea7821.iris.src.common.auth.repository.AuthRepository.UserNotFoundException;
+import com.github.nonsugertea7821.iris.src.common.exception.AuthFailureException;
+import com.github.nonsugertea7821.iris.src.common.exception.AuthFailureReason;
+import com.github.nonsugertea7821.iris.src.common.metrics.AuthMetrics;
+import com.github.nonsugertea7821.iris.src.common.properties.AuditProperties;
+import com.github.nonsugertea7821.iris.src.common.properties.AuthProperties;
+import com.github.nonsugertea7821.iris.src.common.properties.MetricsProperties;
+import com.github.nonsugertea7821.iris.src.common.utils.CipherUtil;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.security.auth.message.AuthException;
+
+/**
+ * 認証/サービス機能テスト
+ */
+class AuthServiceImplTests {
+
+    private static final String PASSWORD_HASH_BY_SALT = "password-hash-by-salt";
+
+    private final User user = new User(UUID.randomUUID(), "alice", "USER", PASSWORD_HASH_BY_SALT, "salt");
+
+    private AuthRepository authRepository;
+    private AuthServiceImpl service;
+
+    @BeforeEach
+    void setup() {
+        AuthProperties authProperties = new AuthProperties();
+        authProperties.setJwtSecret("test-secret-test-secret-test-secret-0123456789");
+        authProperties.setDecoySecret("decoy-secret-decoy-secret-decoy-secret-0123");
+        authProperties.setNonceExpireSeconds(60);
+        AuthMetrics authMetrics = new AuthMetrics(new SimpleMeterRegistry(), new MetricsProperties());
+        InMemoryNonceStore nonceStore = new InMemoryNonceStore(authProperties, Scheduler.disabledScheduler(), authMetrics);
+        nonceStore.init();
+        authRepository = mock(AuthRepository.class);
+        when(authRepository.findUserByName("alice")).thenReturn(Optional.of(user));
+        when(authRepository.findUserByName("mallory")).thenReturn(Optional.empty());
+        when(authRepository.getUserById(any())).thenThrow(new UserNotFoundException("User not found"));
+        JwtProcessor jwtProcessor = mock(JwtProcessor.class);
+        when(jwtProcessor.generateAccessToken(user)).thenReturn("access");
+        when(jwtProcessor.generateRefreshToken(user.getId())).thenReturn("refresh");
+        HandshakeDecoy handshakeDecoy = new HandshakeDecoy(authProperties);
+        handshakeDecoy.init();
+        service = new AuthServiceImpl(authRepository, nonceStore, jwtProcessor, authMetrics, handshakeDecoy,
+                new AuditLog(new AuditProperties(), null, null, new SimpleMeterRegistry()));
+    }
+
+    @Test
+    void authenticateReusesTheUserLoadedAtHandshake() throws AuthException {
+        HandshakeResponse handshake = service.handshake("alice");
+        assertEquals(user.getId(), handshake.getUserId());
+        assertEquals("salt", handshake.getSalt());
+
+        LoginResponse login = service.authenticate(handshake.getUserId(),
+                CipherUtil.hmacSha256(handshake.getNonce(), PASSWORD_HASH_BY_SALT), null);
+
+        assertEquals("access", login.getAccessToken());
+        verify(authRepository, never()).getUserById(any());
+    }
+
+    @Test
+    void unknownUsersGetAStableDecoyAndTheSameFailure() {
+        HandshakeResponse first = service.handshake("mallory");
+        HandshakeResponse second = service.handshake("mallory");
+        assertNotNull(first.getNonce());
+        assertEquals(first.getUserId(), second.getUserId());
+        assertEquals(first.getSalt(), second.getSalt());
+        assertEquals(4, first.getUserId().version());
+
+        AuthException unknown = assertThrows(AuthException.class, () -> service.authenticate(second.getUserId(),
+                CipherUtil.hmacSha256(second.getNonce(), "guess"), null));
+        HandshakeResponse known = service.handshake("alice");
+        AuthException wrongPassword = assertThrows(AuthException.class, () -> service.authenticate(known.getUserId(),
+                CipherUtil.hmacSha256(known.getNonce(), "guess"), null));
+        assertEquals(wrongPassword.getMessage(), unknown.getMessage());
+    }
+
+    @Test
+    void unknownUsersFailAsExpectedAuthFailures() {
+        AuthFailureException byName = assertThrows(AuthFailureException.class, () -> service.getUserId("mallory"));
+        assertEquals(AuthFailureReason.INVALID_USER, byName.getReason());
+
+        AuthFailureException byId = assertThrows(AuthFailureException.class,
+                () -> service.getChallenge(UUID.randomUUID()));
+        assertEquals(AuthFailureReason.INVALID_USER, byId.getReason());
+    }
+
+    @Test
+    void unknownUserLoginFailsWithoutReadingTheDatabase() {
+        HandshakeResponse handshake = service.handshake("mallory");
+
+        AuthFailureException failure = assertThrows(AuthFailureException.class, () -> service.authenticate(
+                handshake.getUserId(), CipherUtil.hmacSha256(handshake.getNonce(), "guess"), null));
+
+        assertEquals(AuthFailureReason.INVALID_CREDENTIALS, failure.getReason());
+        verify(authRepository, never()).getUserById(any());
+    }
+}
@@ -0,0 +1,92 @@
+package com.github.nonsugertea7821.iris.src.common.csv;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import com.github.nonsugertea7821.iris.src.common.anotations.Column;
+import com.github.nonsugertea7821.iris.src.common.dataset.DatasetRegistry;
+import com.github.nonsugertea7821.iris.src.common.exception.InvalidRequestException;
+import com.github.nonsugertea7821.iris.src.common.properties.CsvProperties;
+import com.github.nonsugertea7821.iris.src.common.properties.DatasetProperties;
+
+/**
+ * 共通/CSV出力サービステスト
+ */
+class CsvExportServiceTests {
+
+    private CsvExportService service;
+
+    @BeforeEach
+    void setup() throws Exception {
+        DatasetProperties datasetProperties = new DatasetProperties();
+        datasetProperties.getDefinitions().put("items", definition(true));
+        datasetProperties.getDefinitions().put("secret", definition(false));
+        DatasetRegistry datasetRegistry = new DatasetRegistry(datasetProperties);
+        datasetRegistry.init();
+
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getString(1)).thenReturn("A,1", (String) null);
+        when(rs.getInt(2)).thenReturn(3, 0);
+        when(rs.wasNull()).thenReturn(false, true);
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            handler.processRow(rs);
+            handler.processRow(rs);
+            return null;
+        }).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+
+        service = new CsvExportService(datasetRegistry, jdbcTemplate, transactionManager, new CsvProperties());
+        service.init();
+    }
+
+    @Test
+    void writesRowsWithJapaneseHeaders() throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        long rows = service.export(service.exportable("items"), output, false);
+
+        assertEquals(2, rows);
+        // 行頭の空値は空行と区別するため引用符で囲まれる
+        assertEquals("コード,数量\r\n\"A,1\",3\r\n\"\",\r\n", output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void rejectsDatasetsNotMarkedExportable() {
+        assertThrows(InvalidRequestException.class, () -> service.exportable("secret"));
+    }
+
+    private static DatasetProperties.Definition definition(boolean exportable) {
+        DatasetProperties.Definition definition = new DatasetProperties.Definition();
+        definition.setTable("master.items");
+        definition.setRowType(Item.class);
+        definition.setExportable(exportable);
+        return definition;
+    }
+
+    static class Item {
+
+        @Column(phy = "code", ja = "コード")
+        String code;
+
+        @Column(phy = "quantity", ja = "数量")
+        Integer quantity;
+    }
+}
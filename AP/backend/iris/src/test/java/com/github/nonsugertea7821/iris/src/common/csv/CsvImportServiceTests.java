@@ -0,0 +1,120 @@
+package com.github.nonsugertea7821.iris.src.common.csv;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.github.benmanes.caffeine.cache.Scheduler;
+import com.github.nonsugertea7821.iris.src.common.anotations.Column;
+import com.github.nonsugertea7821.iris.src.common.dataset.DatasetRegistry;
+import com.github.nonsugertea7821.iris.src.common.exception.InvalidRequestException;
+import com.github.nonsugertea7821.iris.src.common.properties.CsvProperties;
+import com.github.nonsugertea7821.iris.src.common.properties.DatasetProperties;
+
+/**
+ * 共通/CSV取込サービステスト
+ */
+class CsvImportServiceTests {
+
+    private final List<String> statements = new ArrayList<>();
+    private final List<List<Object[]>> batches = new ArrayList<>();
+    private CsvImportService service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setup() {
+        DatasetProperties.Definition definition = new DatasetProperties.Definition();
+        definition.setTable("master.items");
+        definition.setRowType(Item.class);
+        definition.setImportable(true);
+        DatasetProperties datasetProperties = new DatasetProperties();
+        datasetProperties.getDefinitions().put("items", definition);
+        DatasetRegistry datasetRegistry = new DatasetRegistry(datasetProperties);
+        datasetRegistry.init();
+
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+            statements.add(invocation.getArgument(0));
+            batches.add(new ArrayList<>(invocation.<List<Object[]>>getArgument(1)));
+            return new int[0];
+        });
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        CsvProperties csvProperties = new CsvProperties();
+        csvProperties.setImportBatchSize(2);
+        service = new CsvImportService(datasetRegistry, jdbcTemplate, transactionTemplate, csvProperties,
+                Scheduler.disabledScheduler());
+        service.init();
+    }
+
+    @Test
+    void importsInBatchesWithJapaneseHeaders() {
+        String csv = "\uFEFF数量,コード\n1,A\n2,B\n3,C\n";
+        CsvImportProgress progress = service.importCsv("items", input(csv), StandardCharsets.UTF_8, null);
+
+        assertEquals(CsvImportProgress.Status.COMPLETED, progress.getStatus());
+        assertEquals(3, progress.getRowsImported());
+        assertEquals(2, batches.size());
+        // ヘッダー順に列を並べる
+        assertEquals("INSERT INTO master.items (quantity, code) VALUES (?, ?)", statements.get(0));
+        assertArrayEquals(new Object[]{1, "A"}, batches.get(0).get(0));
+        assertEquals(1, batches.get(1).size());
+        assertEquals(progress, service.getProgress(progress.getJobId()));
+    }
+
+    @Test
+    void rejectsUnknownColumnsAndBadValues() {
+        assertThrows(InvalidRequestException.class,
+                () -> service.importCsv("items", input("code,price\nA,1\n"), StandardCharsets.UTF_8, null));
+        assertThrows(InvalidRequestException.class,
+                () -> service.importCsv("items", input("code,quantity\nA,x\n"), StandardCharsets.UTF_8, null));
+        assertThrows(InvalidRequestException.class,
+                () -> service.importCsv("unknown", input("code\nA\n"), StandardCharsets.UTF_8, null));
+    }
+
+    @Test
+    void rejectsColumnsMappedTwice() {
+        // 物理名と和名で同じ列を指定した場合もINSERT前に弾く
+        InvalidRequestException e = assertThrows(InvalidRequestException.class,
+                () -> service.importCsv("items", input("code,コード\nA,B\n"), StandardCharsets.UTF_8, null));
+
+        assertTrue(e.getMessage().contains("code"));
+        assertTrue(statements.isEmpty());
+    }
+
+    private static ByteArrayInputStream input(String csv) {
+        return new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static class Item {
+
+        @Column(phy = "code", ja = "コード")
+        String code;
+
+        @Column(phy = "quantity", ja = "数量")
+        Integer quantity;
+    }
+}
@@ -0,0 +1,89 @@
+package com.github.nonsugertea7821.iris.src.common.dataset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.nonsugertea7821.iris.src.common.dataset.dto.request.DatasetQueryRequest;
+import com.github.nonsugertea7821.iris.src.common.dataset.dto.response.DatasetPage;
+import com.github.nonsugertea7821.iris.src.common.properties.DatasetProperties;
+
+/**
+ * 共通/データセット一覧照会サービステスト<br>
+ * Dockerが利用できない環境ではスキップする。
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class DatasetQueryServiceTests {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static JdbcClient jdbcClient;
+
+    private DatasetQueryService service;
+
+    @BeforeAll
+    static void schema() {
+        jdbcClient = JdbcClient.create(new DriverManagerDataSource(POSTGRES.getJdbcUrl(),
+                POSTGRES.getUsername(), POSTGRES.getPassword()));
+        jdbcClient.sql("CREATE SCHEMA master").update();
+        jdbcClient.sql("CREATE TABLE master.items (code varchar(8) PRIMARY KEY, quantity integer, released_on date)")
+                .update();
+        jdbcClient.sql("INSERT INTO master.items VALUES"
+                + " ('A1', 1, NULL), ('A2', 2, '2026-01-01'), ('A3', 3, NULL), ('A4', 4, '2026-01-02'),"
+                + " ('A5', 5, '2026-01-01'), ('A6', 6, NULL), ('A7', 7, '2026-01-03')").update();
+    }
+
+    @BeforeEach
+    void setup() {
+        DatasetProperties.Definition definition = new DatasetProperties.Definition();
+        definition.setTable("master.items");
+        definition.setRowType(KeysetQueryTests.Item.class);
+        definition.setKeyColumns(List.of("code"));
+        definition.setSortable(List.of("code", "released_on"));
+        definition.setFilterable(List.of("code", "quantity", "released_on"));
+        DatasetProperties properties = new DatasetProperties();
+        properties.getDefinitions().put("items", definition);
+        DatasetRegistry registry = new DatasetRegistry(properties);
+        registry.init();
+        service = new DatasetQueryService(registry, properties, jdbcClient, new ObjectMapper());
+    }
+
+    @Test
+    void pagesAcrossNullSortKeysInAscendingOrder() {
+        assertEquals(List.of("A2", "A5", "A4", "A7", "A1", "A3", "A6"), pageThrough("asc"));
+    }
+
+    @Test
+    void pagesAcrossNullSortKeysInDescendingOrder() {
+        assertEquals(List.of("A1", "A3", "A6", "A7", "A4", "A2", "A5"), pageThrough("desc"));
+    }
+
+    /**
+     * 2件ずつ全ページを取得し、行のコードを取得順に返す。
+     */
+    private List<String> pageThrough(String direction) {
+        List<String> codes = new ArrayList<>();
+        String cursor = null;
+        do {
+            DatasetPage page = service.query("items", new DatasetQueryRequest(
+                    List.of(new DatasetQueryRequest.SortItem("releasedOn", direction)), null, 2, cursor));
+            for (Object row : page.getRows()) {
+                codes.add(((KeysetQueryTests.Item) row).code);
+            }
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return codes;
+    }
+}
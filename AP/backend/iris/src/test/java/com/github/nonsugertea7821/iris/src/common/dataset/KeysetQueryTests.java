@@ -0,0 +1,137 @@
+package com.github.nonsugertea7821.iris.src.common.dataset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.github.nonsugertea7821.iris.src.common.anotations.Column;
+import com.github.nonsugertea7821.iris.src.common.dataset.dto.request.DatasetQueryRequest;
+import com.github.nonsugertea7821.iris.src.common.exception.InvalidRequestException;
+import com.github.nonsugertea7821.iris.src.common.properties.DatasetProperties;
+
+/**
+ * 共通/キーセットページングSQLテスト
+ */
+class KeysetQueryTests {
+
+    private Dataset dataset;
+
+    @BeforeEach
+    void setup() {
+        DatasetProperties.Definition definition = new DatasetProperties.Definition();
+        definition.setTable("master.items");
+        definition.setRowType(Item.class);
+        definition.setKeyColumns(List.of("code"));
+        definition.setSortable(List.of("code", "released_on"));
+        definition.setFilterable(List.of("code", "quantity", "released_on"));
+        DatasetProperties properties = new DatasetProperties();
+        properties.getDefinitions().put("items", definition);
+        DatasetRegistry registry = new DatasetRegistry(properties);
+        registry.init();
+        dataset = registry.get("items");
+    }
+
+    @Test
+    void compilesFiltersSortAndSeekIntoBindParameters() {
+        DatasetQueryRequest request = new DatasetQueryRequest(
+                List.of(new DatasetQueryRequest.SortItem("releasedOn", "desc")),
+                List.of(new DatasetQueryRequest.FilterItem("code", "contains", "50%_off"),
+                        new DatasetQueryRequest.FilterItem("quantity", ">=", 10)),
+                null, null);
+
+        KeysetQuery query = KeysetQuery.compile(dataset, request, List.of("2026-10-01", "A1"), 101);
+
+        assertEquals("SELECT code, quantity, released_on FROM master.items"
+                + " WHERE code ILIKE ? AND quantity >= ?"
+                + " AND ((released_on < ?) OR (released_on = ? AND code > ?))"
+                + " ORDER BY released_on DESC NULLS FIRST, code ASC LIMIT ?", query.sql());
+        LocalDate releasedOn = LocalDate.of(2026, 10, 1);
+        assertEquals(List.of("%50\\%\\_off%", 10, releasedOn, releasedOn, "A1", 101), query.params());
+    }
+
+    @Test
+    void seeksPastNullSortKeys() {
+        DatasetQueryRequest descending = new DatasetQueryRequest(
+                List.of(new DatasetQueryRequest.SortItem("releasedOn", "desc")), null, null, null);
+        DatasetQueryRequest ascending = new DatasetQueryRequest(
+                List.of(new DatasetQueryRequest.SortItem("releasedOn", "asc")), null, null, null);
+        List<String> nullCursor = Arrays.asList(null, "A1");
+
+        // 降順ではNULLが先頭のため、NULLの後ろは同値(NULL)の残りと非NULLの全行
+        KeysetQuery afterNullDesc = KeysetQuery.compile(dataset, descending, nullCursor, 11);
+        assertEquals("SELECT code, quantity, released_on FROM master.items"
+                + " WHERE ((released_on IS NOT NULL) OR (released_on IS NULL AND code > ?))"
+                + " ORDER BY released_on DESC NULLS FIRST, code ASC LIMIT ?", afterNullDesc.sql());
+        assertEquals(List.of("A1", 11), afterNullDesc.params());
+
+        // 昇順ではNULLが末尾のため、NULLの後ろは同値(NULL)の残りのみ
+        KeysetQuery afterNullAsc = KeysetQuery.compile(dataset, ascending, nullCursor, 11);
+        assertEquals("SELECT code, quantity, released_on FROM master.items"
+                + " WHERE ((released_on IS NULL AND code > ?))"
+                + " ORDER BY released_on ASC NULLS LAST, code ASC LIMIT ?", afterNullAsc.sql());
+        assertEquals(List.of("A1", 11), afterNullAsc.params());
+
+        // 昇順で非NULLの後ろにはNULLの行を含める
+        KeysetQuery afterValueAsc = KeysetQuery.compile(dataset, ascending, List.of("2026-10-01", "A1"), 11);
+        assertEquals("SELECT code, quantity, released_on FROM master.items"
+                + " WHERE (((released_on > ? OR released_on IS NULL)) OR (released_on = ? AND code > ?))"
+                + " ORDER BY released_on ASC NULLS LAST, code ASC LIMIT ?", afterValueAsc.sql());
+    }
+
+    @Test
+    void rejectsNullCursorValuesForKeyColumns() {
+        DatasetQueryRequest request = new DatasetQueryRequest(null, null, null, null);
+
+        assertThrows(InvalidRequestException.class,
+                () -> KeysetQuery.compile(dataset, request, Arrays.asList((String) null), 1));
+    }
+
+    @Test
+    void appendsKeyColumnsWhenNoSortIsGiven() {
+        DatasetQueryRequest request = new DatasetQueryRequest(null,
+                List.of(new DatasetQueryRequest.FilterItem("released_on", "isEmpty", null)), null, null);
+
+        KeysetQuery query = KeysetQuery.compile(dataset, request, null, 51);
+
+        assertEquals("SELECT code, quantity, released_on FROM master.items"
+                + " WHERE released_on IS NULL ORDER BY code ASC LIMIT ?", query.sql());
+        assertEquals(List.of(51), query.params());
+    }
+
+    @Test
+    void rejectsColumnsAndOperatorsOutsideTheWhitelist() {
+        assertThrows(InvalidRequestException.class, () -> KeysetQuery.compile(dataset, new DatasetQueryRequest(
+                List.of(new DatasetQueryRequest.SortItem("quantity", "asc")), null, null, null), null, 1));
+        assertThrows(InvalidRequestException.class, () -> KeysetQuery.compile(dataset, new DatasetQueryRequest(
+                null, List.of(new DatasetQueryRequest.FilterItem("quantity", "contains", "1")), null, null), null, 1));
+        assertThrows(InvalidRequestException.class, () -> KeysetQuery.compile(dataset, new DatasetQueryRequest(
+                null, List.of(new DatasetQueryRequest.FilterItem("code; DROP TABLE x", "equals", "1")), null, null),
+                null, 1));
+    }
+
+    @Test
+    void rejectsCursorsThatDoNotMatchTheSortOrder() {
+        DatasetQueryRequest request = new DatasetQueryRequest(null, null, null, null);
+
+        assertThrows(InvalidRequestException.class,
+                () -> KeysetQuery.compile(dataset, request, List.of("2026-10-01", "A1"), 1));
+    }
+
+    static class Item {
+
+        @Column(phy = "code", ja = "コード")
+        String code;
+
+        @Column(phy = "quantity", ja = "数量")
+        Integer quantity;
+
+        @Column(phy = "released_on", ja = "発売日")
+        LocalDate releasedOn;
+    }
+}
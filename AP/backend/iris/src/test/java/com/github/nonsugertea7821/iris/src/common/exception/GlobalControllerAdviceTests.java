@@ -0,0 +1,46 @@
+package com.github.nonsugertea7821.iris.src.common.exception;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.nonsugertea7821.iris.src.common.metrics.AuthMetrics;
+import com.github.nonsugertea7821.iris.src.common.properties.MetricsProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 共通/例外処理機構テスト
+ */
+class GlobalControllerAdviceTests {
+
+    @Test
+    void authFailuresUseTheTemplateAndAreCountedPerReason() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ObjectMapper objectMapper = new ObjectMapper();
+        GlobalControllerAdvice advice = new GlobalControllerAdvice(
+                new AuthMetrics(registry, new MetricsProperties()), objectMapper);
+
+        ResponseEntity<byte[]> response = advice.handleAuthFailure(
+                new AuthFailureException(AuthFailureReason.NONCE_EXPIRED));
+
+        assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+        JsonNode body = objectMapper.readTree(response.getBody());
+        assertEquals(401, body.get("status").asInt());
+        assertEquals("Unauthorized", body.get("error").asText());
+        assertEquals("認証がタイムアウトしました", body.get("message").asText());
+        assertEquals(1.0, registry.get(AuthMetrics.FAILURES).tag("reason", "nonce_expired").counter().count());
+        assertEquals(0.0, registry.get(AuthMetrics.FAILURES).tag("reason", "invalid_credentials").counter().count());
+    }
+
+    @Test
+    void authFailuresDoNotCaptureStackTraces() {
+        assertEquals(0, new AuthFailureException(AuthFailureReason.INVALID_CLIENT).getStackTrace().length);
+    }
+}
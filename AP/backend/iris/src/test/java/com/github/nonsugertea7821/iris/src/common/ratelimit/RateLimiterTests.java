@@ -0,0 +1,64 @@
+package com.github.nonsugertea7821.iris.src.common.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.benmanes.caffeine.cache.Scheduler;
+import com.github.nonsugertea7821.iris.src.common.exception.RateLimitExceededException;
+import com.github.nonsugertea7821.iris.src.common.properties.RateLimitProperties;
+
+/**
+ * 共通/流量制限機能テスト
+ */
+class RateLimiterTests {
+
+    @Test
+    void tokenBucketAllowsBurstThenRefills() {
+        long interval = TimeUnit.SECONDS.toNanos(1);
+        TokenBucket bucket = new TokenBucket(3, interval, 0);
+        assertEquals(0, bucket.tryAcquire(0));
+        assertEquals(0, bucket.tryAcquire(0));
+        assertEquals(0, bucket.tryAcquire(0));
+        assertEquals(interval, bucket.tryAcquire(0));
+        // 1トークン分経過すると1回だけ許可される
+        assertEquals(0, bucket.tryAcquire(interval));
+        assertTrue(bucket.tryAcquire(interval) > 0);
+    }
+
+    @Test
+    void rejectsPerIpAndPerUser() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.getEndpoints().put("login",
+                new RateLimitProperties.Limit(3, Duration.ofMinutes(1), 2, Duration.ofMinutes(1)));
+        RateLimiter rateLimiter = new RateLimiter(properties, Scheduler.disabledScheduler());
+        rateLimiter.init();
+
+        UUID victim = UUID.randomUUID();
+        rateLimiter.acquire("login", "10.0.0.1", victim);
+        rateLimiter.acquire("login", "10.0.0.2", victim);
+        // 同一ユーザーへの試行はIPを変えても拒否される
+        RateLimitExceededException ex = assertThrows(RateLimitExceededException.class,
+                () -> rateLimiter.acquire("login", "10.0.0.3", victim));
+        assertTrue(ex.getRetryAfterSeconds() >= 1);
+
+        // 同一IPからの試行はユーザーを変えても拒否される
+        rateLimiter.acquire("login", "10.0.0.9", UUID.randomUUID());
+        rateLimiter.acquire("login", "10.0.0.9", UUID.randomUUID());
+        rateLimiter.acquire("login", "10.0.0.9", UUID.randomUUID());
+        assertThrows(RateLimitExceededException.class,
+                () -> rateLimiter.acquire("login", "10.0.0.9", UUID.randomUUID()));
+
+        // 設定のないエンドポイントは制限しない
+        for (int i = 0; i < 100; i++) {
+            assertDoesNotThrow(() -> rateLimiter.acquire("refresh", "10.0.0.9", victim));
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.github.nonsugertea7821.iris.src.common.session;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.session.SessionAutoConfiguration;
+import org.springframework.mock.env.MockEnvironment;
+
+/**
+ * 共通/HTTPセッション保管方式の適用テスト
+ */
+class SessionStoreEnvironmentPostProcessorTests {
+
+    private final SessionStoreEnvironmentPostProcessor postProcessor = new SessionStoreEnvironmentPostProcessor();
+
+    @Test
+    void excludesSpringSessionByDefault() {
+        MockEnvironment environment = new MockEnvironment();
+
+        postProcessor.postProcessEnvironment(environment, new SpringApplication());
+
+        assertEquals(SessionAutoConfiguration.class.getName(), environment.getProperty("spring.autoconfigure.exclude"));
+    }
+
+    @Test
+    void keepsExistingExclusions() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("common.session.store-type", "none")
+                .withProperty("spring.autoconfigure.exclude[0]", "com.example.FirstAutoConfiguration");
+
+        postProcessor.postProcessEnvironment(environment, new SpringApplication());
+
+        assertEquals("com.example.FirstAutoConfiguration," + SessionAutoConfiguration.class.getName(),
+                environment.getProperty("spring.autoconfigure.exclude"));
+    }
+
+    @Test
+    void keepsSpringSessionForJdbcStore() {
+        MockEnvironment environment = new MockEnvironment().withProperty("common.session.store-type", "jdbc");
+
+        postProcessor.postProcessEnvironment(environment, new SpringApplication());
+
+        assertNull(environment.getProperty("spring.autoconfigure.exclude"));
+    }
+}
@@ -0,0 +1,85 @@
+package com.github.nonsugertea7821.iris.src.common.sql;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.RowMapper;
+
+import com.github.nonsugertea7821.iris.src.common.anotations.Column;
+import com.github.nonsugertea7821.iris.src.common.auth.dto.User;
+
+/**
+ * 共通/列マッピングテスト
+ */
+class ColumnMappingTests {
+
+    @Test
+    void mapsImmutableDtoThroughConstructor() throws Exception {
+        UUID id = UUID.randomUUID();
+        ResultSet rs = resultSet("salt", "id", "name", "password_hash", "role_name");
+        when(rs.getString(1)).thenReturn("salt-value");
+        when(rs.getObject(2)).thenReturn(id);
+        when(rs.getString(3)).thenReturn("user");
+        when(rs.getString(4)).thenReturn("hash");
+        when(rs.getString(5)).thenReturn("ADMIN");
+
+        RowMapper<User> mapper = ColumnMapping.of(User.class).rowMapper();
+        User user = mapper.mapRow(rs, 0);
+        mapper.mapRow(rs, 1);
+
+        assertEquals(new User(id, "user", "ADMIN", "hash", "salt-value"), user);
+        // 列位置の解決は結果セット毎に1回のみ
+        verify(rs, times(1)).getMetaData();
+    }
+
+    @Test
+    void mapsMutableDtoAndLeavesMissingColumnsAtDefault() throws Exception {
+        ResultSet rs = resultSet("CODE", "unknown");
+        when(rs.getString(1)).thenReturn("A01");
+
+        Item item = ColumnMapping.of(Item.class).rowMapper().mapRow(rs, 0);
+
+        assertEquals("A01", item.code);
+        assertEquals(0, item.quantity);
+        assertNull(item.label);
+    }
+
+    @Test
+    void cachesMappingPerClass() {
+        assertSame(ColumnMapping.of(User.class), ColumnMapping.of(User.class));
+        assertEquals("権限", ColumnMapping.of(User.class).byPhy("role_name").ja());
+    }
+
+    private static ResultSet resultSet(String... labels) throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+        when(rs.getMetaData()).thenReturn(metaData);
+        when(metaData.getColumnCount()).thenReturn(labels.length);
+        for (int i = 0; i < labels.length; i++) {
+            when(metaData.getColumnLabel(i + 1)).thenReturn(labels[i]);
+        }
+        return rs;
+    }
+
+    static class Item {
+
+        @Column(phy = "code", ja = "コード")
+        String code;
+
+        @Column(phy = "quantity", ja = "数量")
+        int quantity;
+
+        @Column(phy = "label", ja = "名称")
+        String label;
+    }
+}
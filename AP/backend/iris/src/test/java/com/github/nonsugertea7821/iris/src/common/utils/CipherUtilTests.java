@@ -0,0 +1,60 @@
+package com.github.nonsugertea7821.iris.src.common.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Base64;
+import java.util.UUID;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 共通/暗号化機能テスト<br>
+ * 最適化後のHMACがフロントエンド及び旧実装と同一の値を返すことを確認する。
+ */
+class CipherUtilTests {
+
+    @Test
+    void hmacSha256MatchesKnownVectors() {
+        // RFC 4231 Test Case 2
+        assertEquals("W9zBRr9gdU5qBCQmCJV1x1oAPwidJzmDnexYuWTsOEM=",
+                CipherUtil.hmacSha256("Jefe", "what do ya want for nothing?"));
+        assertEquals("ccVweOZD90yHF373B7QBb55ZCJeo6W699rzuDwdcJlI=",
+                CipherUtil.hmacSha256("ソルト", "パスワード"));
+    }
+
+    @Test
+    void hmacSha256MatchesLegacyImplementation() throws Exception {
+        for (int i = 0; i < 100; i++) {
+            String salt = UUID.randomUUID().toString();
+            String target = CipherUtil.hmacSha256(UUID.randomUUID().toString(), "password" + i);
+            assertEquals(legacyHmacSha256(salt, target), CipherUtil.hmacSha256(salt, target));
+        }
+    }
+
+    @Test
+    void verifyHmacSha256() throws Exception {
+        String nonce = UUID.randomUUID().toString();
+        String passwordHashBySalt = CipherUtil.hmacSha256("salt", "password");
+        String passwordHash = legacyHmacSha256(nonce, passwordHashBySalt);
+
+        assertTrue(CipherUtil.verifyHmacSha256(nonce, passwordHashBySalt, passwordHash));
+        assertFalse(CipherUtil.verifyHmacSha256(nonce, passwordHashBySalt, CipherUtil.hmacSha256(nonce, "other")));
+        assertFalse(CipherUtil.verifyHmacSha256(nonce, passwordHashBySalt, passwordHash.substring(4)));
+        assertFalse(CipherUtil.verifyHmacSha256(nonce, passwordHashBySalt, "not base64!"));
+        assertFalse(CipherUtil.verifyHmacSha256(nonce, passwordHashBySalt, null));
+    }
+
+    /**
+     * 最適化前の実装
+     */
+    private static String legacyHmacSha256(String salt, String target) throws Exception {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(salt.getBytes("UTF-8"), "HmacSHA256"));
+        return Base64.getEncoder().encodeToString(mac.doFinal(target.getBytes("UTF-8")));
+    }
+}
@@ -0,0 +1,246 @@
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * 認証API負荷試験ハーネス<br>
+ * {@code /api/auth/*} のログインフロー(get-userId → get-challenge → login → refresh)を
+ * 指定並列数で繰り返し実行し、エンドポイント別の成功・失敗件数とスループット・レイテンシを出力する。
+ * <p>
+ * nonceはユーザー毎に1件のみ保持されるため、同一ユーザーで並行にログインすると互いのnonceを上書きして失敗する。
+ * 並列数と同数以上のユーザーをユーザー一覧ファイルで指定し、各ワーカーは専用のユーザーでログインする。
+ * <p>
+ * 実行例(JDK 21+、ビルド不要):
+ * <pre>
+ * java tools/loadtest/AuthLoadTest.java http://localhost:8080 users.txt 200 60
+ * </pre>
+ * 引数: ベースURL ユーザー一覧ファイル 並列数 実行秒数<br>
+ * ユーザー一覧ファイル: 1行に「ユーザー名,平文パスワード」({@code #} で始まる行・空行は無視)
+ * <p>
+ * ログインAPIの流量制限({@code security.rate-limit.*})が有効な場合は429が計測結果の大半を占めるため、
+ * 無効化した環境で実行すること。プラットフォームスレッドと仮想スレッドの比較は {@code compare-threads.sh} を参照。
+ *
+ * @author nonsugertea7821
+ * @version 0.1.1
+ * @since 2026/10/17
+ */
+public class AuthLoadTest {
+
+    private static final Pattern JSON_STRING = Pattern.compile("\"(\\w+)\"\\s*:\\s*\"([^\"]*)\"");
+
+    private static final List<String> ENDPOINTS = List.of("get-userId", "get-challenge", "login", "refresh");
+
+    private final String baseUrl;
+    private final List<Credential> users;
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(10))
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+    private final Map<String, List<Long>> latencies = new ConcurrentHashMap<>();
+    /**
+     * エンドポイント別・失敗理由(HTTPステータスまたは例外名)別の失敗件数 key:エンドポイント
+     */
+    private final Map<String, Map<String, AtomicLong>> errors = new ConcurrentHashMap<>();
+    private final AtomicLong flows = new AtomicLong();
+    private final AtomicLong failedFlows = new AtomicLong();
+
+    AuthLoadTest(String baseUrl, List<Credential> users) {
+        this.baseUrl = baseUrl;
+        this.users = users;
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 4) {
+            System.err.println("usage: AuthLoadTest <baseUrl> <usersFile> <concurrency> <seconds>");
+            System.exit(1);
+        }
+        List<Credential> users = readUsers(Path.of(args[1]));
+        int concurrency = Integer.parseInt(args[2]);
+        long seconds = Long.parseLong(args[3]);
+        if (users.size() < concurrency) {
+            System.err.printf("ユーザー数(%d)が並列数(%d)より少ないため、同一ユーザーのnonceが競合します%n",
+                    users.size(), concurrency);
+            System.exit(1);
+        }
+        new AuthLoadTest(args[0], users).run(concurrency, seconds);
+    }
+
+    void run(int concurrency, long seconds) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                Credential user = users.get(i);
+                workers.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        flows.incrementAndGet();
+                        try {
+                            loginFlow(user);
+                        } catch (FlowFailedException e) {
+                            failedFlows.incrementAndGet();
+                        } catch (Exception e) {
+                            failedFlows.incrementAndGet();
+                            error("client", e.getClass().getSimpleName());
+                        }
+                    }
+                });
+            }
+        }
+        report(seconds);
+    }
+
+    /**
+     * フロントエンド(authRecoil.ts)と同じ手順でログインし、リフレッシュする。
+     */
+    private void loginFlow(Credential user) throws Exception {
+        String userId = unquote(send("get-userId",
+                get("/api/auth/get-userId?userName=" + URLEncoder.encode(user.name(), StandardCharsets.UTF_8))));
+        Map<String, String> challenge = parse(send("get-challenge", get("/api/auth/get-challenge?userId=" + userId)));
+        String passwordBySalt = hmacSha256(challenge.get("salt"), user.password());
+        String passwordHash = hmacSha256(challenge.get("nonce"), passwordBySalt);
+        Map<String, String> tokens = parse(send("login", post("/api/auth/login",
+                "{\"userId\":\"" + userId + "\",\"passwordHash\":\"" + passwordHash + "\"}")));
+        send("refresh", post("/api/auth/refresh", "{\"refreshToken\":\"" + tokens.get("refreshToken") + "\"}"));
+    }
+
+    private String send(String name, HttpRequest request) throws Exception {
+        long start = System.nanoTime();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        long elapsed = System.nanoTime() - start;
+        if (response.statusCode() != 200) {
+            // 失敗応答は成功時のレイテンシに含めない(拒否の高速応答で結果が良く見えるのを防ぐ)
+            error(name, "HTTP " + response.statusCode());
+            throw new FlowFailedException();
+        }
+        latencies.computeIfAbsent(name, key -> Collections.synchronizedList(new ArrayList<>())).add(elapsed);
+        return response.body();
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(Duration.ofSeconds(30)).GET().build();
+    }
+
+    private HttpRequest post(String path, String json) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private void error(String name, String cause) {
+        errors.computeIfAbsent(name, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(cause, key -> new AtomicLong())
+                .incrementAndGet();
+    }
+
+    private void report(long seconds) {
+        System.out.printf("%-14s %10s %10s %8s %10s %10s %10s %10s%n",
+                "endpoint", "ok", "error", "ok(%)", "ok req/s", "p50(ms)", "p99(ms)", "max(ms)");
+        for (String name : ENDPOINTS) {
+            List<Long> sorted;
+            List<Long> values = latencies.getOrDefault(name, List.of());
+            synchronized (values) {
+                sorted = new ArrayList<>(values);
+            }
+            Collections.sort(sorted);
+            long failed = errors.getOrDefault(name, Map.of()).values().stream().mapToLong(AtomicLong::get).sum();
+            System.out.printf("%-14s %10d %10d %8.1f %10.1f %10.2f %10.2f %10.2f%n", name, sorted.size(), failed,
+                    rate(sorted.size(), sorted.size() + failed), (double) sorted.size() / seconds,
+                    percentile(sorted, 0.50), percentile(sorted, 0.99), percentile(sorted, 1.0));
+        }
+        long total = flows.get();
+        long failed = failedFlows.get();
+        System.out.printf("flows: %d ok, %d failed (ok %.1f%%)%n", total - failed, failed, rate(total - failed, total));
+        errors.forEach((name, causes) -> causes.forEach((cause, count) ->
+                System.out.printf("  error %-14s %-24s %d%n", name, cause, count.get())));
+    }
+
+    private static double rate(long ok, long total) {
+        return total == 0 ? 0 : 100.0 * ok / total;
+    }
+
+    private static double percentile(List<Long> sorted, double p) {
+        if (sorted.isEmpty()) {
+            return 0;
+        }
+        int index = (int) Math.min(sorted.size() - 1, Math.ceil(p * sorted.size()) - 1);
+        return sorted.get(Math.max(0, index)) / 1_000_000.0;
+    }
+
+    private static String hmacSha256(String key, String target) throws Exception {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(key.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        return Base64.getEncoder().encodeToString(mac.doFinal(target.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static Map<String, String> parse(String json) {
+        Map<String, String> values = new LinkedHashMap<>();
+        Matcher matcher = JSON_STRING.matcher(json);
+        while (matcher.find()) {
+            values.put(matcher.group(1), matcher.group(2));
+        }
+        return values;
+    }
+
+    private static String unquote(String json) {
+        return json.replace("\"", "").strip();
+    }
+
+    private static List<Credential> readUsers(Path file) throws IOException {
+        List<Credential> users = new ArrayList<>();
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            String trimmed = line.strip();
+            if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                continue;
+            }
+            int separator = trimmed.indexOf(',');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("ユーザー一覧の形式が不正です(ユーザー名,パスワード): " + line);
+            }
+            users.add(new Credential(trimmed.substring(0, separator), trimmed.substring(separator + 1)));
+        }
+        return users;
+    }
+
+    /**
+     * ログインに使用するユーザー
+     *
+     * @param name ユーザー名
+     * @param password 平文パスワード
+     */
+    record Credential(String name, String password) {
+    }
+
+    /**
+     * 失敗応答によるフロー中断(失敗件数は記録済み)
+     */
+    static class FlowFailedException extends Exception {
+
+        FlowFailedException() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+#!/usr/bin/env bash
+# 認証API負荷試験: プラットフォームスレッドと仮想スレッドの比較
+#
+# 同一ビルドを2ポートで起動し、同じ負荷を順に与えて結果を並べて出力する。
+#   ./tools/loadtest/compare-threads.sh <ユーザー一覧ファイル> [並列数=200] [秒数=60]
+#
+# ユーザー一覧ファイルは1行に「ユーザー名,平文パスワード」とし、並列数以上のユーザーを登録しておくこと
+# (同一ユーザーで並行にログインするとnonceが競合して失敗する)。
+# 比較条件を揃えるため、DB接続プールは両方とも同じ設定(HIKARI_POOL_SIZE)で起動する。
+# 流量制限の拒否(429)を計測しないよう、ログインAPIの流量制限は無効化して起動する。
+set -euo pipefail
+
+USERS_FILE=$(realpath "${1:?ユーザー一覧ファイルを指定してください}")
+CONCURRENCY=${2:-200}
+SECONDS_PER_RUN=${3:-60}
+HIKARI_POOL_SIZE=${HIKARI_POOL_SIZE:-20}
+
+cd "$(dirname "$0")/../.."
+
+./gradlew -q bootWar
+WAR=$(ls build/libs/*.war | grep -v plain | head -n 1)
+
+run() {
+  local label=$1 port=$2 virtual=$3
+  java -jar "$WAR" --server.port="$port" \
+    --spring.threads.virtual.enabled="$virtual" \
+    --security.rate-limit.enabled=false \
+    --spring.datasource.hikari.maximum-pool-size="$HIKARI_POOL_SIZE" >"build/loadtest-$label.log" 2>&1 &
+  local pid=$!
+  until curl -s -o /dev/null "http://localhost:$port/api/auth/get-userId"; do sleep 1; done
+  echo "== $label (spring.threads.virtual.enabled=$virtual)"
+  java tools/loadtest/AuthLoadTest.java "http://localhost:$port" "$USERS_FILE" "$CONCURRENCY" "$SECONDS_PER_RUN"
+  kill "$pid"
+  wait "$pid" 2>/dev/null || true
+}
+
+run platform 18080 false
+run virtual 18081 true
@@ -1,6 +1,6 @@
 import { axiosHelper } from '../../../axios/axiosHelper';
 import { IrisUrl } from '../../irisUrl';
-import { ChallengeResponse, LoginResponse, LogoutResponse } from './data';
+import { ChallengeResponse, HandshakeResponse, LoginResponse, LogoutResponse } from './data';
 
 /**
  * クライアント識別子を取得する。
@@ -21,6 +21,15 @@ export async function challenge(userId: string): Promise<ChallengeResponse> {
   });
 }
 
+/**
+ * クライアント識別子とチャレンジを1往復で取得する。
+ * @param userName ユーザー名
+ * @returns クライアント識別子,チャレンジ
+ */
+export async function handshake(userName: string): Promise<HandshakeResponse> {
+  return await axiosHelper.post<HandshakeResponse>(IrisUrl.IRIS_API_POST_AUTH_CHALLENGE, { userName });
+}
+
 /**
  * ログイン要求を行う。
  * @param userId クライアント識別子
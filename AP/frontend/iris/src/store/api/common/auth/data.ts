@@ -8,6 +8,16 @@ export interface ChallengeResponse {
   nonce: string;
 }
 
+/** ハンドシェイクレスポンス */
+export interface HandshakeResponse {
+  /** クライアント識別子 */
+  userId: string;
+  /** ソルト */
+  salt: string;
+  /** 一時ソルト */
+  nonce: string;
+}
+
 /** ログインレスポンス */
 export interface LoginResponse {
   /** アクセスjwtトークン */
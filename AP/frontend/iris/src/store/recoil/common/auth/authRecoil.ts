@@ -1,5 +1,5 @@
 import { atom, selector } from 'recoil';
-import { challenge, getUserId, loginRequest, logoutRequest } from '../../../api/common/auth/authApi';
+import { handshake, loginRequest, logoutRequest } from '../../../api/common/auth/authApi';
 import { axiosHelper } from '../../../axios/axiosHelper';
 import { AtomKeys } from '../../keys/AtomKeys';
 import { SelectorKeys } from '../../keys/SelectorKeys';
@@ -52,11 +52,8 @@ export const authSelector = selector<Auth>({
     const login = getCallback(({ set }) => async (url: string, userName: string, password: string) => {
       // API ベースURL設定
       axiosHelper.setBaseURL(url);
-      // ユーザーID解決
-      const userId = await getUserId(userName);
-
-      // 認証フロー: challenge -> HMAC -> loginRequest
-      const { salt, nonce } = await challenge(userId);
+      // 認証フロー: handshake(ユーザーID解決 + challenge) -> HMAC -> loginRequest
+      const { userId, salt, nonce } = await handshake(userName);
       const passwordBySalt = await hmacSha256(salt, password);
       const passwordHash = await hmacSha256(nonce, passwordBySalt);
 